@@ -0,0 +1,137 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.demo.config.properties.AIAccessLogProperties;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.accesslog.AccessLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /generate 한 번에 요청 스레드가 로그에 쓰는 비용.
+ * 
+ * 모든 벤치마크는 요청 처리를 흉내 낸 고정 CPU 작업(REQUEST_WORK)을 함께 수행하며, requestOnly 와의 차이가 로그 비용입니다.
+ * 작업 없이 기록만 반복하면 작성 스레드가 따라가지 못해 대부분 overflow 로 버려지고 그 경로만 측정되므로,
+ * 실제 요청 간격에 가깝게 간격을 둡니다. 반복이 끝나면 기록/버린 이벤트 수를 출력합니다.
+ * 
+ * - formattedInfoLogs: 이전 방식. 요청/완료 INFO 로그 두 줄을 콘솔과 같은 패턴으로 포맷해 동기 appender 에 씁니다
+ * - accessLogEvent: 링 버퍼 슬롯 하나를 채우고 돌아옵니다. 포맷과 쓰기는 백그라운드 작성 스레드가 합니다
+ * - accessLogSampled: 성공 이벤트를 10% 만 남기는 경우
+ * 
+ * 출력은 버리는 OutputStream 으로 보내 디스크와 콘솔 속도의 영향을 없앱니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessLogBenchmark {
+    
+    private static final long REQUEST_WORK = 2000;
+    
+    private final GenerateRequest request = GenerateRequest.builder()
+            .model("gemini-2.5-flash")
+            .prompt("Explain the difference between a process and a thread in two sentences.")
+            .caller("team-a")
+            .build();
+    
+    private Logger controllerLog;
+    private AccessLog accessLog;
+    private AccessLog sampledAccessLog;
+    private SimpleMeterRegistry meterRegistry;
+    
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        
+        controllerLog = LoggerFactory.getLogger("com.example.demo.controller.AIController");
+        meterRegistry = new SimpleMeterRegistry();
+        accessLog = new AccessLog(new AIAccessLogProperties(true, 8192, 1024, 1.0, 5), meterRegistry);
+        accessLog.start();
+        sampledAccessLog = new AccessLog(new AIAccessLogProperties(true, 8192, 1024, 0.1, 5), new SimpleMeterRegistry());
+        sampledAccessLog.start();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        accessLog.stop();
+        sampledAccessLog.stop();
+        System.out.printf("written=%.0f, overflow=%.0f%n",
+                meterRegistry.counter("ai.access-log.written").count(),
+                meterRegistry.counter("ai.access-log.dropped", "reason", "overflow").count());
+    }
+    
+    @Benchmark
+    public void requestOnly() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+    }
+    
+    @Benchmark
+    public void formattedInfoLogs() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        controllerLog.info("텍스트 생성 요청: model={}, prompt length={}", request.getModel(), request.getPrompt().length());
+        controllerLog.info("텍스트 생성 완료: model={}, tokens={}, time={}ms", "gemini-2.5-flash", 1168, 842L);
+    }
+    
+    @Benchmark
+    public void accessLogEvent() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        accessLog.success(AccessLog.GENERATE, request, "gemini-2.5-flash", 1168, System.nanoTime());
+    }
+    
+    @Benchmark
+    public void accessLogSampled() {
+        Blackhole.consumeCPU(REQUEST_WORK);
+        sampledAccessLog.success(AccessLog.GENERATE, request, "gemini-2.5-flash", 1168, System.nanoTime());
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void requestOnlyContended() {
+        requestOnly();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void formattedInfoLogsContended() {
+        formattedInfoLogs();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void accessLogEventContended() {
+        accessLogEvent();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.config.properties.AIModelProperties;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.AIService;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.impl.ClaudeAIService;
+import com.example.demo.service.impl.GeminiAIService;
+import com.example.demo.service.impl.OpenAIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 픽스처. 프로바이더 서비스는 SDK 클라이언트 없이 생성하므로 외부 호출이 없는 경로에서만 사용합니다.
+ */
+public final class BenchmarkFixtures {
+    
+    public static final String PROMPT = "Spring Boot의 장점을 세 가지로 요약하고 각각 예시를 들어 설명해주세요.";
+    
+    private BenchmarkFixtures() {
+    }
+    
+    public static ClaudeAIService claude() {
+        return new ClaudeAIService(null, pricingService(), catalogService(), null, null);
+    }
+    
+    public static GeminiAIService gemini() {
+        return new GeminiAIService(null, pricingService(), catalogService(), null);
+    }
+    
+    public static OpenAIService openAI() {
+        return new OpenAIService(null, pricingService(), catalogService(), null, null);
+    }
+    
+    public static List<AIService> providerServices() {
+        List<AIService> services = new ArrayList<>();
+        services.add(claude());
+        services.add(gemini());
+        services.add(openAI());
+        return services;
+    }
+    
+    public static AIServiceFactory serviceFactory() {
+        AIModelProperties properties = new AIModelProperties(
+                new AIModelProperties.Validation(false, false, 0, false),
+                new AIModelProperties.Logging(false));
+        return new AIServiceFactory(providerServices(), properties, objectMapper(), catalogService());
+    }
+    
+    /**
+     * 카탈로그 파일 없이 내장 모델 목록과 가격만 사용하는 카탈로그 서비스.
+     */
+    public static ModelCatalogService catalogService() {
+        return new ModelCatalogService(new AICatalogProperties(null, false, 0), objectMapper(), new SimpleMeterRegistry());
+    }
+    
+    public static TokenPricingService pricingService() {
+        return new TokenPricingService(catalogService());
+    }
+    
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+    
+    public static GenerateRequest request(String modelId) {
+        return GenerateRequest.builder()
+                .model(modelId)
+                .prompt(PROMPT)
+                .maxTokens(1000)
+                .temperature(0.7)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.Application;
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 인프로세스 StubAIService 를 대상으로 한 컨트롤러 디스패치 비용.
+ * 
+ * 요청 역직렬화, 유효성 검증, AIGenerationService 파이프라인, 응답 직렬화를 포함하며 네트워크와 Tomcat 은 제외합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ControllerDispatchBenchmark {
+    
+    private static final String GENERATE_BODY = """
+            {"model":"%s","prompt":"%s","maxTokens":1000,"temperature":0.7}
+            """.formatted(StubAIService.MODEL_ID, BenchmarkFixtures.PROMPT);
+    
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class, StubProviderConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.demo=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--ai.model.validation.enabled=false",
+                        "--ai.model.logging.enabled=false",
+                        "--ai.limiter.enabled=false",
+                        "--ai.cache.enabled=false",
+                        "--ai.health.interval-ms=3600000");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public String generate() throws Exception {
+        return mockMvc.perform(post("/api/v1/ai/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(GENERATE_BODY))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+    
+    @Benchmark
+    public String generateStream() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/ai/generate/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(GENERATE_BODY))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+    
+    @Benchmark
+    public String listModels() throws Exception {
+        return mockMvc.perform(get("/api/v1/ai/models"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+    
+    @Configuration(proxyBeanMethods = false)
+    static class StubProviderConfig {
+        
+        @Bean
+        StubAIService stubAIService() {
+            return new StubAIService(StubLatencyModel.fixed(Duration.ZERO, 1));
+        }
+    }
+}
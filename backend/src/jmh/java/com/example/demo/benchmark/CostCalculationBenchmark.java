@@ -0,0 +1,46 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.TokenPricingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenPricingService 비용 계산 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CostCalculationBenchmark {
+    
+    @Param({"gpt-5-mini", "claude-sonnet-4-5-20250929", "unknown-model"})
+    public String modelId;
+    
+    private TokenPricingService pricingService;
+    private int inputTokens;
+    private int outputTokens;
+    
+    @Setup
+    public void setUp() {
+        pricingService = BenchmarkFixtures.pricingService();
+        inputTokens = 812;
+        outputTokens = 356;
+    }
+    
+    @Benchmark
+    public double calculateCost() {
+        return pricingService.calculateCost(modelId, inputTokens, outputTokens);
+    }
+    
+    @Benchmark
+    public double calculateCostFromTotal() {
+        return pricingService.calculateCostFromTotal(modelId, inputTokens + outputTokens);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIService;
+import com.example.demo.service.AIServiceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * AIServiceFactory 모델 조회와 /models 응답 목록 구성 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelLookupBenchmark {
+    
+    @Param({"gemini-2.5-flash-lite", "claude-haiku-4-5-20251001", "unknown-model"})
+    public String modelId;
+    
+    private AIServiceFactory factory;
+    
+    @Setup
+    public void setUp() {
+        factory = BenchmarkFixtures.serviceFactory();
+    }
+    
+    @Benchmark
+    public Object getServiceByModel() {
+        try {
+            return factory.getServiceByModel(modelId);
+        } catch (ModelNotSupportedException e) {
+            return e;
+        }
+    }
+    
+    @Benchmark
+    public List<ModelInfo> listAllModels() {
+        return factory.getAllServices().stream()
+                .flatMap(service -> service.getAvailableModels().stream())
+                .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public boolean isModelSupported() {
+        for (AIService service : factory.getAllServices()) {
+            if (service.isModelSupported(modelId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIService;
+import com.example.demo.service.ModelRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사전 계산된 ModelRegistry 와 이전 구현(목록 순회, 요청마다 목록 재구성/직렬화)의 비교.
+ * 
+ * legacy* 메서드는 레지스트리 도입 전 AIServiceFactory, ModelManagementService, AIController 의 코드를 그대로 옮긴 것입니다.
+ * -prof gc 옵션으로 요청당 할당량도 함께 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelRegistryBenchmark {
+    
+    @Param({"gemini-2.5-flash-lite", "claude-3-haiku-20240307"})
+    public String modelId;
+    
+    private List<AIService> services;
+    private Map<String, AIService> legacyServicesByModel;
+    private ObjectMapper objectMapper;
+    private ModelRegistry registry;
+    
+    @Setup
+    public void setUp() {
+        services = BenchmarkFixtures.providerServices();
+        objectMapper = BenchmarkFixtures.objectMapper();
+        legacyServicesByModel = services.stream()
+                .flatMap(service -> service.getAvailableModels().stream()
+                        .map(model -> Map.entry(model.getId(), service)))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        registry = ModelRegistry.of(services, objectMapper);
+    }
+    
+    @Benchmark
+    public boolean legacyIsModelSupported() {
+        AIService service = legacyServicesByModel.get(modelId);
+        return service.getAvailableModels().stream()
+                .anyMatch(model -> model.getId().equals(modelId));
+    }
+    
+    @Benchmark
+    public boolean registryIsModelSupported() {
+        return registry.contains(modelId);
+    }
+    
+    @Benchmark
+    public ModelInfo legacyGetModelInfo() {
+        return services.stream()
+                .flatMap(service -> service.getAvailableModels().stream())
+                .collect(Collectors.toList())
+                .stream()
+                .filter(model -> model.getId().equals(modelId))
+                .findFirst()
+                .orElseThrow();
+    }
+    
+    @Benchmark
+    public ModelInfo registryGetModelInfo() {
+        return registry.find(modelId).model();
+    }
+    
+    @Benchmark
+    public byte[] legacyListModels() throws JsonProcessingException {
+        List<ModelInfo> models = services.stream()
+                .flatMap(service -> service.getAvailableModels().stream())
+                .collect(Collectors.toList());
+        return objectMapper.writeValueAsBytes(models);
+    }
+    
+    @Benchmark
+    public byte[] registryListModels() {
+        return registry.getAllModelsJson();
+    }
+}
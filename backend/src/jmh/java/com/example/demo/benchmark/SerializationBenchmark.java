@@ -0,0 +1,69 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.ApiResponse;
+import com.example.demo.model.GenerateResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 JSON 직렬화와 SSE 청크 프레이밍 비용.
+ * 
+ * SSE 는 Spring MVC 가 Flux&lt;String&gt; 청크마다 수행하는 SseEmitter 이벤트 구성과 UTF-8 인코딩을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializationBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private GenerateResponse response;
+    private ApiResponse<GenerateResponse> apiResponse;
+    private String chunk;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = GenerateResponse.builder()
+                .generatedText("Spring Boot는 자동 설정, 내장 서버, 스타터 의존성을 제공합니다. ".repeat(20))
+                .model("gemini-2.5-flash-lite")
+                .tokensUsed(1168)
+                .processingTimeMs(812L)
+                .costUsd(0.0000123)
+                .build();
+        apiResponse = ApiResponse.success(response);
+        chunk = "Spring Boot는 자동 설정을 ";
+    }
+    
+    @Benchmark
+    public byte[] generateResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] apiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+    
+    @Benchmark
+    public int sseChunk() {
+        Set<SseEmitter.DataWithMediaType> frames = SseEmitter.event().data(chunk).build();
+        int size = 0;
+        for (SseEmitter.DataWithMediaType frame : frames) {
+            size += frame.getData().toString().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+}
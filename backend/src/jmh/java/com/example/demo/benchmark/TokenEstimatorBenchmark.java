@@ -0,0 +1,45 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.token.TokenizerProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행하는 로컬 토큰 추정 비용. -prof gc 로 실행하면 할당이 없는지 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenEstimatorBenchmark {
+    
+    @Param({"1", "100"})
+    public int repeat;
+    
+    private TokenEstimator estimator;
+    private String prompt;
+    
+    @Setup
+    public void setUp() {
+        estimator = new TokenEstimator();
+        prompt = BenchmarkFixtures.PROMPT.repeat(repeat);
+    }
+    
+    @Benchmark
+    public int estimate() {
+        return estimator.estimate(TokenizerProfile.OPENAI, prompt);
+    }
+    
+    @Benchmark
+    public int estimateByProvider() {
+        return estimator.estimate("Anthropic", prompt);
+    }
+}
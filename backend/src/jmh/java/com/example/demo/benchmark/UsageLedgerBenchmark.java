@@ -0,0 +1,43 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.properties.AIUsageProperties;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.usage.UsageLedger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로에서 UsageLedger 에 기록하는 비용. 여러 스레드가 같은 키에 동시에 기록하는 경우도 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsageLedgerBenchmark {
+    
+    private UsageLedger ledger;
+    
+    @Setup
+    public void setUp() {
+        ledger = new UsageLedger(new AIUsageProperties(true, 60, 10000, null),
+                BenchmarkFixtures.pricingService(), new TokenEstimator(), BenchmarkFixtures.objectMapper());
+    }
+    
+    @Benchmark
+    public void record() {
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 1168, 0.0011);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 1168, 0.0011);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.benchmark.BenchmarkFixtures;
+import com.example.demo.model.GenerateRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로바이더별 SDK 요청 파라미터 구성 비용.
+ * 
+ * buildParams/buildConfig 가 패키지 전용이므로 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderParamsBenchmark {
+    
+    private ClaudeAIService claude;
+    private GeminiAIService gemini;
+    private OpenAIService openAI;
+    
+    private GenerateRequest claudeRequest;
+    private GenerateRequest geminiRequest;
+    private GenerateRequest openAIRequest;
+    
+    @Setup
+    public void setUp() {
+        claude = BenchmarkFixtures.claude();
+        gemini = BenchmarkFixtures.gemini();
+        openAI = BenchmarkFixtures.openAI();
+        
+        claudeRequest = BenchmarkFixtures.request("claude-haiku-4-5-20251001");
+        geminiRequest = BenchmarkFixtures.request("gemini-2.5-flash-lite");
+        openAIRequest = BenchmarkFixtures.request("gpt-5-mini");
+    }
+    
+    @Benchmark
+    public Object anthropic() {
+        return claude.buildParams(claudeRequest.getModel(), claudeRequest);
+    }
+    
+    @Benchmark
+    public void google(Blackhole blackhole) {
+        blackhole.consume(gemini.buildConfig(geminiRequest));
+        blackhole.consume(gemini.buildContents(geminiRequest));
+    }
+    
+    @Benchmark
+    public Object openAI() {
+        return openAI.buildParams(openAIRequest.getModel(), openAIRequest);
+    }
+}
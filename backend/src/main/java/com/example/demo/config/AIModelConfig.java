@@ -1,10 +1,44 @@
 package com.example.demo.config;
 
+import com.example.demo.config.properties.AIAccessLogProperties;
+import com.example.demo.config.properties.AIBatchProperties;
+import com.example.demo.config.properties.AICassetteProperties;
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.config.properties.AICoalescingProperties;
+import com.example.demo.config.properties.AIHealthProperties;
+import com.example.demo.config.properties.AIHedgingProperties;
+import com.example.demo.config.properties.AIJobProperties;
+import com.example.demo.config.properties.AILimiterProperties;
 import com.example.demo.config.properties.AIModelProperties;
+import com.example.demo.config.properties.AIQuotaProperties;
+import com.example.demo.config.properties.AIRoutingProperties;
+import com.example.demo.config.properties.AISessionProperties;
+import com.example.demo.config.properties.AIStartupProperties;
+import com.example.demo.config.properties.AIStubProperties;
+import com.example.demo.config.properties.AITokenProperties;
+import com.example.demo.config.properties.AIUsageProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(AIModelProperties.class)
+@EnableConfigurationProperties({
+        AIModelProperties.class,
+        AICoalescingProperties.class,
+        AIBatchProperties.class,
+        AILimiterProperties.class,
+        AIHealthProperties.class,
+        AIRoutingProperties.class,
+        AIHedgingProperties.class,
+        AIStubProperties.class,
+        AICatalogProperties.class,
+        AIUsageProperties.class,
+        AIQuotaProperties.class,
+        AITokenProperties.class,
+        AICassetteProperties.class,
+        AIJobProperties.class,
+        AIStartupProperties.class,
+        AIAccessLogProperties.class,
+        AISessionProperties.class
+})
 public class AIModelConfig {
 }
@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import com.example.demo.model.ProviderHealth;
+import com.example.demo.service.AIService;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.health.ProviderHealthMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ProviderHealthMonitor 스냅샷 기반의 AI 프로바이더 헬스 인디케이터 (/actuator/health 의 aiProviders).
+ * 하나 이상의 프로바이더가 정상이면 UP, 확인된 프로바이더가 모두 비정상이면 DOWN 입니다.
+ */
+@Component("aiProvidersHealthIndicator")
+@RequiredArgsConstructor
+public class AIProvidersHealthIndicator implements HealthIndicator {
+
+    private final AIServiceFactory aiServiceFactory;
+    private final ProviderHealthMonitor healthMonitor;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean anyHealthy = false;
+        boolean anyChecked = false;
+
+        for (AIService service : aiServiceFactory.getAllServices()) {
+            Optional<ProviderHealth> health = healthMonitor.getHealth(service.getProviderName());
+            if (health.isEmpty()) {
+                details.put(service.getProviderName(), Map.of("status", "UNKNOWN"));
+                continue;
+            }
+
+            ProviderHealth providerHealth = health.get();
+            anyChecked = true;
+            anyHealthy |= providerHealth.isHealthy();
+
+            Map<String, Object> providerDetails = new LinkedHashMap<>();
+            providerDetails.put("status", providerHealth.isHealthy() ? "UP" : "DOWN");
+            providerDetails.put("lastCheckedAt", providerHealth.getLastCheckedAt());
+            providerDetails.put("lastSuccessAt", providerHealth.getLastSuccessAt());
+            providerDetails.put("latencyMs", providerHealth.getLatencyMs());
+            providerDetails.put("consecutiveFailures", providerHealth.getConsecutiveFailures());
+            details.put(service.getProviderName(), providerDetails);
+        }
+
+        Health.Builder builder = !anyChecked ? Health.unknown() : anyHealthy ? Health.up() : Health.down();
+        return builder.withDetails(details).build();
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.demo.config;
 
+import com.anthropic.backends.AnthropicBackend;
 import com.anthropic.client.AnthropicClient;
-import com.anthropic.client.okhttp.AnthropicOkHttpClient;
+import com.anthropic.client.AnthropicClientImpl;
+import com.anthropic.core.ClientOptions;
+import com.anthropic.core.RequestOptions;
+import com.anthropic.core.Timeout;
 import com.example.demo.config.properties.AIClaudeProperties;
+import com.example.demo.config.properties.ProviderTransportProperties;
+import com.example.demo.service.transport.AnthropicOkHttpTransport;
+import com.example.demo.service.transport.ProviderConnectionPools;
+import okhttp3.OkHttpClient;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,13 +21,44 @@ import java.time.Duration;
 @EnableConfigurationProperties(AIClaudeProperties.class)
 public class AnthropicConfig {
 
+    private static final String PROVIDER_NAME = "Anthropic";
+
+    /**
+     * SDK 기본 빌더(AnthropicOkHttpClient)는 커넥션 풀을 설정할 수 없어 ai.claude.transport 로 만든
+     * 풀을 쓰는 전송 계층을 직접 넣습니다.
+     */
     @Bean
-    public AnthropicClient anthropicClient(AIClaudeProperties properties) {
-        return AnthropicOkHttpClient.builder()
+    public AnthropicClient anthropicClient(AIClaudeProperties properties, ProviderConnectionPools connectionPools) {
+        OkHttpClient okHttpClient = connectionPools.create(PROVIDER_NAME, properties.getBaseUrl(), properties.getTransport());
+        AnthropicBackend backend = AnthropicBackend.builder()
                 .apiKey(properties.getApiKey())
                 .baseUrl(properties.getBaseUrl())
-                .timeout(Duration.ofMillis(properties.getTimeout()))
+                .build();
+
+        return new AnthropicClientImpl(ClientOptions.builder()
+                .httpClient(new AnthropicOkHttpTransport(okHttpClient, backend))
+                .baseUrl(properties.getBaseUrl())
+                .timeout(Timeout.builder()
+                        .connect(Duration.ofMillis(properties.getTransport().getConnectTimeoutMs()))
+                        .read(Duration.ofMillis(properties.getTransport().getReadTimeoutMs()))
+                        .write(Duration.ofMillis(properties.getTransport().getReadTimeoutMs()))
+                        .request(Duration.ofMillis(properties.getTimeout()))
+                        .build())
                 .maxRetries(properties.getMaxRetries())
+                .build());
+    }
+
+    /**
+     * 스트리밍 호출의 요청 옵션. 전체 시간 제한 없이 청크 사이 간격만 stream-idle-timeout-ms 로 제한합니다.
+     */
+    public static RequestOptions streamRequestOptions(ProviderTransportProperties transport) {
+        return RequestOptions.builder()
+                .timeout(Timeout.builder()
+                        .connect(Duration.ofMillis(transport.getConnectTimeoutMs()))
+                        .read(Duration.ofMillis(transport.getStreamIdleTimeoutMs()))
+                        .write(Duration.ofMillis(transport.getReadTimeoutMs()))
+                        .request(Duration.ZERO)
+                        .build())
                 .build();
     }
 }
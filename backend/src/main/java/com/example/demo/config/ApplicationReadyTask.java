@@ -0,0 +1,12 @@
+package com.example.demo.config;
+
+/**
+ * 기동이 끝난 뒤(ApplicationReadyEvent) 실행할 작업이 있는 빈.
+ * 
+ * {@code @EventListener} 로 받으면 이벤트를 보낼 때 빈이 만들어져 지연 초기화가 소용없으므로 DeferredBeanInitializer 가 대신 호출합니다.
+ * 지연 초기화 대상이면 빈을 만든 뒤 deferred-init 스레드에서, 아니면 이벤트를 받은 스레드에서 실행합니다.
+ */
+public interface ApplicationReadyTask {
+    
+    void onApplicationReady();
+}
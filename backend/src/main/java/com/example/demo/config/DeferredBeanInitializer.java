@@ -0,0 +1,86 @@
+package com.example.demo.config;
+
+import com.example.demo.config.properties.AIStartupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ai.startup.deferred-init 이 켜져 있으면 ai.startup.deferred-beans 에 나열된 빈(Loki 연결 확인, Sentry 초기화, 모델 검증 등
+ * 요청 처리에 필요 없는 빈)을 지연 초기화로 바꾸고, 기동이 끝난 뒤(ApplicationReadyEvent) 백그라운드 스레드에서 만듭니다.
+ * {@link ApplicationReadyTask} 빈의 작업도 여기서 실행하며, 지연 초기화 대상이면 빈을 만든 같은 스레드에서 실행합니다.
+ * 
+ * 빈 정의 단계에서 동작하므로 설정 프로퍼티 빈 대신 Environment 에서 직접 바인딩합니다.
+ */
+@Slf4j
+@Component
+public class DeferredBeanInitializer implements BeanFactoryPostProcessor, EnvironmentAware, ApplicationListener<ApplicationReadyEvent> {
+    
+    private final List<String> deferred = new ArrayList<>();
+    
+    private AIStartupProperties properties;
+    private ConfigurableListableBeanFactory beanFactory;
+    
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.properties = Binder.get(environment).bind("ai.startup", AIStartupProperties.class)
+                .orElseGet(() -> new AIStartupProperties(false, null));
+    }
+    
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+        if (!properties.isDeferredInit()) {
+            return;
+        }
+        
+        for (String name : properties.getDeferredBeans()) {
+            if (beanFactory.containsBeanDefinition(name)) {
+                beanFactory.getBeanDefinition(name).setLazyInit(true);
+                deferred.add(name);
+            } else {
+                log.debug("지연 초기화 대상 빈이 없습니다: {}", name);
+            }
+        }
+    }
+    
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        for (String name : beanFactory.getBeanNamesForType(ApplicationReadyTask.class, true, false)) {
+            if (!deferred.contains(name)) {
+                beanFactory.getBean(name, ApplicationReadyTask.class).onApplicationReady();
+            }
+        }
+        if (deferred.isEmpty()) {
+            return;
+        }
+        Thread thread = new Thread(this::initialize, "deferred-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    private void initialize() {
+        long startTime = System.nanoTime();
+        for (String name : deferred) {
+            try {
+                if (beanFactory.getBean(name) instanceof ApplicationReadyTask task) {
+                    task.onApplicationReady();
+                }
+            } catch (RuntimeException e) {
+                log.warn("지연 초기화 실패: bean={}, error={}", name, e.getMessage());
+            }
+        }
+        log.info("지연 초기화 완료: beans={}, durationMs={}", deferred, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.demo.config;
 
 import com.example.demo.config.properties.AIGoogleProperties;
 import com.google.genai.Client;
+import com.google.genai.types.ClientOptions;
 import com.google.genai.types.HttpOptions;
 import com.google.genai.types.HttpRetryOptions;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -12,6 +13,10 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties(AIGoogleProperties.class)
 public class GoogleGenAiConfig {
 
+    /**
+     * Google GenAI SDK 는 자체 OkHttpClient 를 만들어 커넥션 풀과 프로토콜을 설정할 수 없으므로
+     * 동시 요청 한도(max-connections, max-connections-per-host)만 적용합니다.
+     */
     @Bean(destroyMethod = "close")
     public Client googleGenAiClient(AIGoogleProperties properties) {
         HttpOptions httpOptions = HttpOptions.builder()
@@ -22,9 +27,18 @@ public class GoogleGenAiConfig {
                         .build())
                 .build();
 
+        ClientOptions.Builder clientOptions = ClientOptions.builder();
+        if (properties.getMaxConnections() > 0) {
+            clientOptions.maxConnections(properties.getMaxConnections());
+        }
+        if (properties.getMaxConnectionsPerHost() > 0) {
+            clientOptions.maxConnectionsPerHost(properties.getMaxConnectionsPerHost());
+        }
+
         return Client.builder()
                 .apiKey(properties.getApiKey())
                 .httpOptions(httpOptions)
+                .clientOptions(clientOptions.build())
                 .build();
     }
 }
@@ -3,8 +3,6 @@ package com.example.demo.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
@@ -15,7 +13,7 @@ import java.util.Arrays;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class LokiConnectionLogger {
+public class LokiConnectionLogger implements ApplicationReadyTask {
 
     private final Environment environment;
 
@@ -25,8 +23,8 @@ public class LokiConnectionLogger {
     @Value("${logging.loki.enabled:false}")
     private boolean lokiEnabled;
 
-    @EventListener(ApplicationReadyEvent.class)
-    public void checkLokiConnection() {
+    @Override
+    public void onApplicationReady() {
         String[] activeProfiles = environment.getActiveProfiles();
         boolean isDevOrProd = Arrays.asList(activeProfiles).stream()
                 .anyMatch(profile -> profile.equals("dev") || profile.equals("prod"));
@@ -41,6 +39,13 @@ public class LokiConnectionLogger {
             return;
         }
 
+        // 연결 확인은 최대 몇 초 걸릴 수 있어 readiness 전환을 늦추지 않도록 별도 스레드에서 합니다
+        Thread thread = new Thread(this::ping, "loki-connection-check");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void ping() {
         log.info("Loki 연결 확인 중: {}", lokiUrl);
         
         try {
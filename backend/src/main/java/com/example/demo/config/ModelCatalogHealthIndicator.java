@@ -0,0 +1,52 @@
+package com.example.demo.config;
+
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.catalog.ModelCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 모델 카탈로그 상태 (/actuator/health 의 modelCatalog).
+ * 마지막으로 다시 읽은 시각, 소요 시간, 카탈로그와 레지스트리의 모델 수를 보여줍니다.
+ * 다시 읽기에 실패해도 이전 카탈로그로 계속 동작하므로 DOWN 으로 보고하지 않고 lastError 에 원인을 남깁니다.
+ */
+@Component("modelCatalogHealthIndicator")
+@RequiredArgsConstructor
+public class ModelCatalogHealthIndicator implements HealthIndicator {
+
+    private final ModelCatalogService catalogService;
+    private final AIServiceFactory aiServiceFactory;
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("registeredModels", aiServiceFactory.getRegistry().size());
+
+        if (catalogService.getPath() == null) {
+            details.put("source", "built-in");
+            return Health.up().withDetails(details).build();
+        }
+
+        details.put("source", catalogService.getPath().toString());
+        details.put("catalogModels", catalogService.getCatalog().size());
+        if (catalogService.getCatalog().getLoadedAt() != null) {
+            details.put("loadedAt", catalogService.getCatalog().getLoadedAt());
+        }
+
+        ModelCatalogService.ReloadResult lastReload = catalogService.getLastReload();
+        if (lastReload != null) {
+            details.put("lastReloadAt", lastReload.reloadedAt());
+            details.put("lastReloadMs", lastReload.durationMs());
+            details.put("lastReloadSuccess", lastReload.success());
+            if (lastReload.error() != null) {
+                details.put("lastError", lastReload.error());
+            }
+        }
+        return Health.up().withDetails(details).build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.config;
+
+import com.example.demo.config.properties.AIModelProperties;
+import com.example.demo.model.ModelValidationStatus;
+import com.example.demo.service.ModelValidationService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기동 후 모델 검증 상태 (/actuator/health 의 modelValidation, readiness 그룹에 포함).
+ * ai.model.validation.gate-readiness 가 켜져 있으면 검증이 끝날 때까지 OUT_OF_SERVICE 로 보고해 트래픽을 받지 않습니다.
+ * 검증 결과(모델 미확인, 연결 실패)는 세부 정보로만 보여주고 상태에는 반영하지 않습니다.
+ */
+@Component("modelValidationHealthIndicator")
+public class ModelValidationHealthIndicator implements HealthIndicator {
+
+    private final ModelValidationService validationService;
+    private final AIModelProperties modelProperties;
+
+    // ai.startup.deferred-init 으로 검증 서비스가 지연 초기화될 수 있으므로 처음 조회할 때 찾습니다
+    public ModelValidationHealthIndicator(@Lazy ModelValidationService validationService, AIModelProperties modelProperties) {
+        this.validationService = validationService;
+        this.modelProperties = modelProperties;
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        ModelValidationService.State state = validationService.getState();
+        details.put("state", state);
+        if (validationService.getStartedAt() != null) {
+            details.put("startedAt", validationService.getStartedAt());
+        }
+        if (validationService.getCompletedAt() != null) {
+            details.put("completedAt", validationService.getCompletedAt());
+            details.put("durationMs", validationService.getCompletedAt().toEpochMilli() - validationService.getStartedAt().toEpochMilli());
+
+            Map<ModelValidationStatus, Integer> counts = new EnumMap<>(ModelValidationStatus.class);
+            validationService.getResults().values().forEach(status -> counts.merge(status, 1, Integer::sum));
+            details.put("models", counts);
+        }
+
+        boolean pending = state == ModelValidationService.State.PENDING || state == ModelValidationService.State.RUNNING;
+        if (pending && modelProperties.getValidation().isGateReadiness()) {
+            return Health.outOfService().withDetails(details).build();
+        }
+        return Health.up().withDetails(details).build();
+    }
+}
@@ -1,25 +1,63 @@
 package com.example.demo.config;
 
 import com.example.demo.config.properties.AIOpenAIProperties;
+import com.example.demo.config.properties.ProviderTimeoutProperties;
 import com.openai.client.OpenAIClient;
 import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.openai.core.RequestOptions;
+import com.openai.core.Timeout;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.time.Duration;
+import java.util.List;
 
+@Slf4j
 @Configuration
 @EnableConfigurationProperties(AIOpenAIProperties.class)
 public class OpenAIConfig {
 
+    private static final List<String> UNSUPPORTED_TRANSPORT_KEYS =
+            List.of("max-idle-connections", "keep-alive-ms", "http2", "prewarm-connections");
+
+    /**
+     * OpenAIOkHttpClient 는 커넥션 풀을 주입할 수 없어 ai.openai.transport 에는 타임아웃만 있습니다.
+     * 다른 프로바이더의 풀 설정을 옮겨 적으면 적용되지 않으므로 기동할 때 경고를 남깁니다.
+     */
     @Bean
-    public OpenAIClient openAIClient(AIOpenAIProperties properties) {
+    public OpenAIClient openAIClient(AIOpenAIProperties properties, Environment environment) {
+        for (String key : UNSUPPORTED_TRANSPORT_KEYS) {
+            if (environment.containsProperty("ai.openai.transport." + key)) {
+                log.warn("ai.openai.transport.{} 는 OpenAI SDK 에 적용할 수 없어 무시합니다. 타임아웃만 설정할 수 있습니다", key);
+            }
+        }
         return OpenAIOkHttpClient.builder()
                 .apiKey(properties.getApiKey())
                 .baseUrl(properties.getBaseUrl())
-                .timeout(Duration.ofMillis(properties.getTimeout()))
+                .timeout(Timeout.builder()
+                        .connect(Duration.ofMillis(properties.getTransport().getConnectTimeoutMs()))
+                        .read(Duration.ofMillis(properties.getTransport().getReadTimeoutMs()))
+                        .write(Duration.ofMillis(properties.getTransport().getReadTimeoutMs()))
+                        .request(Duration.ofMillis(properties.getTimeout()))
+                        .build())
                 .maxRetries(properties.getMaxRetries())
                 .build();
     }
+
+    /**
+     * 스트리밍 호출의 요청 옵션. 전체 시간 제한 없이 청크 사이 간격만 stream-idle-timeout-ms 로 제한합니다.
+     */
+    public static RequestOptions streamRequestOptions(ProviderTimeoutProperties transport) {
+        return RequestOptions.builder()
+                .timeout(Timeout.builder()
+                        .connect(Duration.ofMillis(transport.getConnectTimeoutMs()))
+                        .read(Duration.ofMillis(transport.getStreamIdleTimeoutMs()))
+                        .write(Duration.ofMillis(transport.getReadTimeoutMs()))
+                        .request(Duration.ZERO)
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import com.example.demo.config.properties.AIQuotaProperties;
+import com.example.demo.service.quota.CallerQuotaService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 호출자별 요청/토큰 한도와 일일 비용 사용 현황 (/actuator/quotas).
+ */
+@Component
+@Endpoint(id = "quotas")
+@RequiredArgsConstructor
+public class QuotaEndpoint {
+    
+    private final AIQuotaProperties properties;
+    private final CallerQuotaService callerQuotaService;
+    
+    @ReadOperation
+    public Map<String, Object> quotas() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", properties.isEnabled());
+        body.put("callers", callerQuotaService.getStatus());
+        return body;
+    }
+}
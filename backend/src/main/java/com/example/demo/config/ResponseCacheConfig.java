@@ -0,0 +1,31 @@
+package com.example.demo.config;
+
+import com.example.demo.config.properties.AICacheProperties;
+import com.example.demo.service.cache.InMemoryResponseCache;
+import com.example.demo.service.cache.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(AICacheProperties.class)
+public class ResponseCacheConfig {
+
+    /**
+     * 기본 응답 캐시. 다른 구현(예: 분산 캐시)을 사용하려면 ResponseCache 빈을 직접 등록합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean(ResponseCache.class)
+    public ResponseCache responseCache(AICacheProperties properties, MeterRegistry meterRegistry) {
+        return new InMemoryResponseCache(
+                properties.getMaxEntries(),
+                Duration.ofSeconds(properties.getTtlSeconds()),
+                meterRegistry,
+                Clock.systemUTC());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import com.example.demo.config.properties.AISessionProperties;
+import com.example.demo.service.session.ConversationStore;
+import com.example.demo.service.session.SessionSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대화 세션 메모리 사용량 조회 (/actuator/sessions).
+ * 
+ * 전체 세션 수와 크기, 그리고 메모리를 많이 차지하는 순서로 세션별 크기를 반환합니다. limit 기본값은 50 입니다.
+ */
+@Component
+@Endpoint(id = "sessions")
+@RequiredArgsConstructor
+public class SessionsEndpoint {
+    
+    private static final int DEFAULT_LIMIT = 50;
+    
+    private final ConversationStore conversationStore;
+    private final AISessionProperties properties;
+    
+    @ReadOperation
+    public Map<String, Object> sessions(@Nullable Integer limit) {
+        List<SessionSummary> sessions = conversationStore.list().stream()
+                .sorted(Comparator.comparingLong(SessionSummary::memoryBytes).reversed())
+                .limit(limit != null ? Math.max(0, limit) : DEFAULT_LIMIT)
+                .toList();
+        
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("sessions", conversationStore.size());
+        totals.put("memoryBytes", conversationStore.getMemoryBytes());
+        totals.put("maxMemoryBytes", properties.getMaxMemoryBytes());
+        totals.put("spilled", conversationStore.getSpilledCount());
+        
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("totals", totals);
+        body.put("sessions", sessions);
+        return body;
+    }
+}
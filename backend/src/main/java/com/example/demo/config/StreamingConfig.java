@@ -0,0 +1,44 @@
+package com.example.demo.config;
+
+import com.example.demo.config.properties.AIStreamingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableConfigurationProperties(AIStreamingProperties.class)
+public class StreamingConfig {
+
+    /**
+     * 프로바이더 SDK의 블로킹 스트림 I/O 전용 스케줄러.
+     * 요청 스레드(Tomcat)와 분리되어 있어 스트림이 열려 있는 동안에도 요청 스레드를 점유하지 않습니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler aiStreamingScheduler(AIStreamingProperties properties) {
+        return Schedulers.newBoundedElastic(
+                properties.getMaxThreads(),
+                properties.getMaxQueuedTasks(),
+                "ai-stream",
+                properties.getThreadTtlSeconds(),
+                true);
+    }
+
+    /**
+     * spring.threads.virtual.enabled=true 일 때 사용하는 가상 스레드 기반 스케줄러.
+     * 블로킹 I/O 동안 캐리어 스레드를 반납하므로 훨씬 큰 상한을 둘 수 있습니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler aiStreamingVirtualScheduler(AIStreamingProperties properties) {
+        return Schedulers.newBoundedElastic(
+                properties.getMaxVirtualThreads(),
+                properties.getMaxQueuedTasks(),
+                Thread.ofVirtual().name("ai-stream-vt-", 0).factory(),
+                properties.getThreadTtlSeconds());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.config;
+
+import com.example.demo.service.usage.UsageLedger;
+import com.example.demo.service.usage.UsageReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용량 원장 조회 (/actuator/usage).
+ * 
+ * minutes 를 지정하면 최근 해당 분 동안의 상세 보고서를, 지정하지 않으면 기동 이후 누적 보고서와
+ * 1분, 1시간, 24시간 구간의 합계를 반환합니다.
+ */
+@Component
+@Endpoint(id = "usage")
+@RequiredArgsConstructor
+public class UsageEndpoint {
+    
+    private final UsageLedger usageLedger;
+    
+    @ReadOperation
+    public Object usage(@Nullable Integer minutes) {
+        if (minutes != null) {
+            return usageLedger.window(minutes);
+        }
+        
+        Map<String, Object> windows = new LinkedHashMap<>();
+        windows.put("1m", summary(usageLedger.window(1)));
+        windows.put("60m", summary(usageLedger.window(60)));
+        windows.put("1440m", summary(usageLedger.window(1440)));
+        
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("totals", usageLedger.totals());
+        body.put("windows", windows);
+        return body;
+    }
+    
+    private static Map<String, Object> summary(UsageReport report) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("from", report.from());
+        summary.put("requests", report.requests());
+        summary.put("tokens", report.tokens());
+        summary.put("costUsd", report.costUsd());
+        return summary;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.access-log")
+public class AIAccessLogProperties {
+    
+    private final boolean enabled;
+    private final int capacity;
+    private final int errorReserve;
+    private final double successSampleRate;
+    private final long errorWaitMs;
+    
+    @ConstructorBinding
+    public AIAccessLogProperties(
+            boolean enabled,
+            int capacity,
+            int errorReserve,
+            double successSampleRate,
+            long errorWaitMs) {
+        this.enabled = enabled;
+        this.capacity = capacity > 0 ? capacity : 8192;
+        this.errorReserve = Math.max(0, errorReserve);
+        this.successSampleRate = Math.min(1.0, Math.max(0.0, successSampleRate));
+        this.errorWaitMs = Math.max(0, errorWaitMs);
+    }
+}
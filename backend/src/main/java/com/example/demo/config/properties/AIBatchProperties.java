@@ -0,0 +1,31 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.util.Map;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.batch")
+public class AIBatchProperties {
+    
+    private final int defaultConcurrency;
+    private final Map<String, Integer> providerConcurrency;
+    
+    @ConstructorBinding
+    public AIBatchProperties(
+            int defaultConcurrency,
+            Map<String, Integer> providerConcurrency) {
+        this.defaultConcurrency = defaultConcurrency;
+        this.providerConcurrency = providerConcurrency != null ? Map.copyOf(providerConcurrency) : Map.of();
+    }
+    
+    public int getConcurrency(String provider) {
+        return providerConcurrency.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(provider))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultConcurrency);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.cache")
+public class AICacheProperties {
+    
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int ttlSeconds;
+    private final double maxTemperature;
+    
+    @ConstructorBinding
+    public AICacheProperties(
+            boolean enabled,
+            int maxEntries,
+            int ttlSeconds,
+            double maxTemperature) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlSeconds = ttlSeconds;
+        this.maxTemperature = maxTemperature;
+    }
+}
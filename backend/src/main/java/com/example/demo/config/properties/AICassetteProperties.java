@@ -0,0 +1,25 @@
+package com.example.demo.config.properties;
+
+import com.example.demo.service.cassette.CassetteMode;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.cassette")
+public class AICassetteProperties {
+    
+    private final CassetteMode mode;
+    private final String path;
+    private final double speed;
+    
+    @ConstructorBinding
+    public AICassetteProperties(
+            CassetteMode mode,
+            String path,
+            double speed) {
+        this.mode = mode != null ? mode : CassetteMode.OFF;
+        this.path = path;
+        this.speed = speed;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.catalog")
+public class AICatalogProperties {
+    
+    private final String path;
+    private final boolean watch;
+    private final long debounceMs;
+    
+    @ConstructorBinding
+    public AICatalogProperties(
+            String path,
+            boolean watch,
+            long debounceMs) {
+        this.path = path;
+        this.watch = watch;
+        this.debounceMs = debounceMs;
+    }
+}
@@ -12,16 +12,19 @@ public class AIClaudeProperties {
     private final String baseUrl;
     private final int timeout;
     private final int maxRetries;
+    private final ProviderTransportProperties transport;
     
     @ConstructorBinding
     public AIClaudeProperties(
             String apiKey,
             String baseUrl,
             int timeout,
-            int maxRetries) {
+            int maxRetries,
+            ProviderTransportProperties transport) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
         this.timeout = timeout;
         this.maxRetries = maxRetries;
+        this.transport = transport != null ? transport : ProviderTransportProperties.defaults();
     }
 }
@@ -0,0 +1,17 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.coalescing")
+public class AICoalescingProperties {
+    
+    private final boolean enabled;
+    
+    @ConstructorBinding
+    public AICoalescingProperties(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -12,16 +12,22 @@ public class AIGoogleProperties {
     private final String baseUrl;
     private final int timeout;
     private final int maxRetries;
+    private final int maxConnections;
+    private final int maxConnectionsPerHost;
     
     @ConstructorBinding
     public AIGoogleProperties(
             String apiKey,
             String baseUrl,
             int timeout,
-            int maxRetries) {
+            int maxRetries,
+            int maxConnections,
+            int maxConnectionsPerHost) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
         this.timeout = timeout;
         this.maxRetries = maxRetries;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
     }
 }
@@ -0,0 +1,19 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.health")
+public class AIHealthProperties {
+    
+    private final long intervalMs;
+    private final long jitterMs;
+    
+    @ConstructorBinding
+    public AIHealthProperties(long intervalMs, long jitterMs) {
+        this.intervalMs = intervalMs;
+        this.jitterMs = jitterMs;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.hedging")
+public class AIHedgingProperties {
+    
+    private final boolean enabled;
+    private final double percentile;
+    private final int minSamples;
+    private final int windowSize;
+    private final long minDelayMs;
+    private final double budgetPercent;
+    private final int maxBurst;
+    private final int maxThreads;
+    
+    @ConstructorBinding
+    public AIHedgingProperties(
+            boolean enabled,
+            double percentile,
+            int minSamples,
+            int windowSize,
+            long minDelayMs,
+            double budgetPercent,
+            int maxBurst,
+            int maxThreads) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.windowSize = windowSize;
+        this.minDelayMs = minDelayMs;
+        this.budgetPercent = budgetPercent;
+        this.maxBurst = maxBurst;
+        this.maxThreads = maxThreads;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.jobs")
+public class AIJobProperties {
+    
+    private final int workers;
+    private final int maxQueued;
+    private final String storePath;
+    private final int retentionMinutes;
+    private final long retryAfterSeconds;
+    
+    @ConstructorBinding
+    public AIJobProperties(
+            int workers,
+            int maxQueued,
+            String storePath,
+            int retentionMinutes,
+            long retryAfterSeconds) {
+        this.workers = workers;
+        this.maxQueued = maxQueued;
+        this.storePath = storePath;
+        this.retentionMinutes = retentionMinutes;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
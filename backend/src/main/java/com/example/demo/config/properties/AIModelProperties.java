@@ -21,11 +21,15 @@ public class AIModelProperties {
     public static class Validation {
         private final boolean enabled;
         private final boolean verbose;
+        private final long deadlineMs;
+        private final boolean gateReadiness;
         
         @ConstructorBinding
-        public Validation(boolean enabled, boolean verbose) {
+        public Validation(boolean enabled, boolean verbose, long deadlineMs, boolean gateReadiness) {
             this.enabled = enabled;
             this.verbose = verbose;
+            this.deadlineMs = deadlineMs;
+            this.gateReadiness = gateReadiness;
         }
     }
     
@@ -12,16 +12,19 @@ public class AIOpenAIProperties {
     private final String baseUrl;
     private final int timeout;
     private final int maxRetries;
+    private final ProviderTimeoutProperties transport;
     
     @ConstructorBinding
     public AIOpenAIProperties(
             String apiKey,
             String baseUrl,
             int timeout,
-            int maxRetries) {
+            int maxRetries,
+            ProviderTimeoutProperties transport) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
         this.timeout = timeout;
         this.maxRetries = maxRetries;
+        this.transport = transport != null ? transport : ProviderTimeoutProperties.defaults();
     }
 }
@@ -0,0 +1,50 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.util.Map;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.quota")
+public class AIQuotaProperties {
+    
+    private final boolean enabled;
+    private final int maxCallers;
+    private final Limits defaults;
+    private final Map<String, Limits> callers;
+    
+    @ConstructorBinding
+    public AIQuotaProperties(
+            boolean enabled,
+            int maxCallers,
+            Limits defaults,
+            Map<String, Limits> callers) {
+        this.enabled = enabled;
+        this.maxCallers = maxCallers;
+        this.defaults = defaults != null ? defaults : new Limits(0, 0, 0);
+        this.callers = callers != null ? Map.copyOf(callers) : Map.of();
+    }
+    
+    public Limits getLimits(String caller) {
+        return callers.getOrDefault(caller, defaults);
+    }
+    
+    /**
+     * 호출자별 한도. 0 이하이면 해당 한도를 적용하지 않습니다.
+     */
+    @Getter
+    public static class Limits {
+        private final int requestsPerMinute;
+        private final long tokensPerMinute;
+        private final double dailyBudgetUsd;
+        
+        @ConstructorBinding
+        public Limits(int requestsPerMinute, long tokensPerMinute, double dailyBudgetUsd) {
+            this.requestsPerMinute = requestsPerMinute;
+            this.tokensPerMinute = tokensPerMinute;
+            this.dailyBudgetUsd = dailyBudgetUsd;
+        }
+    }
+}
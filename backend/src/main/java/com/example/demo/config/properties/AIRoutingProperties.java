@@ -0,0 +1,27 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.routing")
+public class AIRoutingProperties {
+    
+    private final Map<String, List<String>> classes;
+    private final double ewmaAlpha;
+    private final double errorPenalty;
+    
+    @ConstructorBinding
+    public AIRoutingProperties(
+            Map<String, List<String>> classes,
+            double ewmaAlpha,
+            double errorPenalty) {
+        this.classes = classes != null ? Map.copyOf(classes) : Map.of();
+        this.ewmaAlpha = ewmaAlpha;
+        this.errorPenalty = errorPenalty;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.sessions")
+public class AISessionProperties {
+    
+    private final long maxMemoryBytes;
+    private final int idleTimeoutMinutes;
+    private final int historyTokenBudget;
+    private final String spillPath;
+    
+    @ConstructorBinding
+    public AISessionProperties(
+            long maxMemoryBytes,
+            int idleTimeoutMinutes,
+            int historyTokenBudget,
+            String spillPath) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.idleTimeoutMinutes = idleTimeoutMinutes;
+        this.historyTokenBudget = historyTokenBudget;
+        this.spillPath = spillPath;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.util.List;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.startup")
+public class AIStartupProperties {
+    
+    private final boolean deferredInit;
+    private final List<String> deferredBeans;
+    
+    @ConstructorBinding
+    public AIStartupProperties(
+            boolean deferredInit,
+            List<String> deferredBeans) {
+        this.deferredInit = deferredInit;
+        this.deferredBeans = deferredBeans != null ? List.copyOf(deferredBeans) : List.of();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.streaming")
+public class AIStreamingProperties {
+    
+    private final int maxThreads;
+    private final int maxVirtualThreads;
+    private final int maxQueuedTasks;
+    private final int threadTtlSeconds;
+    
+    @ConstructorBinding
+    public AIStreamingProperties(
+            int maxThreads,
+            int maxVirtualThreads,
+            int maxQueuedTasks,
+            int threadTtlSeconds) {
+        this.maxThreads = maxThreads;
+        this.maxVirtualThreads = maxVirtualThreads;
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.threadTtlSeconds = threadTtlSeconds;
+    }
+}
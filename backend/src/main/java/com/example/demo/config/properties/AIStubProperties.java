@@ -0,0 +1,39 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.stub")
+public class AIStubProperties {
+    
+    private final boolean enabled;
+    private final long ttftMedianMs;
+    private final double ttftSigma;
+    private final double tokensPerSecond;
+    private final int outputTokens;
+    private final double errorRate;
+    private final double rateLimitRate;
+    private final int retryAfterSeconds;
+    
+    @ConstructorBinding
+    public AIStubProperties(
+            boolean enabled,
+            long ttftMedianMs,
+            double ttftSigma,
+            double tokensPerSecond,
+            int outputTokens,
+            double errorRate,
+            double rateLimitRate,
+            int retryAfterSeconds) {
+        this.enabled = enabled;
+        this.ttftMedianMs = ttftMedianMs;
+        this.ttftSigma = ttftSigma;
+        this.tokensPerSecond = tokensPerSecond;
+        this.outputTokens = outputTokens;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.tokens")
+public class AITokenProperties {
+    
+    private final boolean preflightEnabled;
+    
+    @ConstructorBinding
+    public AITokenProperties(boolean preflightEnabled) {
+        this.preflightEnabled = preflightEnabled;
+    }
+}
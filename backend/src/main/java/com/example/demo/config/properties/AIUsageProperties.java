@@ -0,0 +1,27 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@Getter
+@ConfigurationProperties(prefix = "ai.usage")
+public class AIUsageProperties {
+    
+    private final boolean enabled;
+    private final int retentionMinutes;
+    private final int maxCallers;
+    private final String flushPath;
+    
+    @ConstructorBinding
+    public AIUsageProperties(
+            boolean enabled,
+            int retentionMinutes,
+            int maxCallers,
+            String flushPath) {
+        this.enabled = enabled;
+        this.retentionMinutes = retentionMinutes;
+        this.maxCallers = maxCallers;
+        this.flushPath = flushPath;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+/**
+ * 전송 계층을 주입할 수 없는 SDK 클라이언트의 타임아웃 설정 (ai.openai.transport).
+ * 
+ * 커넥션 풀과 HTTP/2, 미리 연결 설정은 ProviderTransportProperties 를 쓰는 프로바이더에만 있습니다.
+ */
+@Getter
+public class ProviderTimeoutProperties {
+    
+    private final long connectTimeoutMs;
+    private final long readTimeoutMs;
+    private final long streamIdleTimeoutMs;
+    
+    @ConstructorBinding
+    public ProviderTimeoutProperties(
+            long connectTimeoutMs,
+            long readTimeoutMs,
+            long streamIdleTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.streamIdleTimeoutMs = streamIdleTimeoutMs;
+    }
+    
+    /**
+     * transport 항목이 없을 때 쓰는 기본값. ProviderTransportProperties.defaults() 의 타임아웃과 같습니다.
+     */
+    public static ProviderTimeoutProperties defaults() {
+        return new ProviderTimeoutProperties(10_000, 30_000, 60_000);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.config.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+/**
+ * 전송 계층을 주입할 수 있는 프로바이더 SDK 클라이언트의 HTTP 전송 설정 (ai.claude.transport).
+ * 
+ * 타임아웃과 함께 커넥션 풀, HTTP/2, 미리 연결을 설정합니다. 타임아웃만 적용할 수 있는 SDK 는 ProviderTimeoutProperties 를 씁니다.
+ */
+@Getter
+public class ProviderTransportProperties {
+    
+    private final int maxIdleConnections;
+    private final long keepAliveMs;
+    private final boolean http2;
+    private final long connectTimeoutMs;
+    private final long readTimeoutMs;
+    private final long streamIdleTimeoutMs;
+    private final int prewarmConnections;
+    
+    @ConstructorBinding
+    public ProviderTransportProperties(
+            int maxIdleConnections,
+            long keepAliveMs,
+            boolean http2,
+            long connectTimeoutMs,
+            long readTimeoutMs,
+            long streamIdleTimeoutMs,
+            int prewarmConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveMs = keepAliveMs;
+        this.http2 = http2;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.streamIdleTimeoutMs = streamIdleTimeoutMs;
+        this.prewarmConnections = prewarmConnections;
+    }
+    
+    /**
+     * transport 항목이 없을 때 쓰는 기본값. OkHttp 기본 풀(유휴 5개, 5분)과 같습니다.
+     */
+    public static ProviderTransportProperties defaults() {
+        return new ProviderTransportProperties(5, 300_000, true, 10_000, 30_000, 60_000, 0);
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.demo.controller;
 
+import com.example.demo.model.BatchGenerateRequest;
 import com.example.demo.model.GenerateRequest;
 import com.example.demo.model.GenerateResponse;
-import com.example.demo.model.ModelInfo;
+import com.example.demo.model.TokenCountResponse;
+import com.example.demo.service.AIGenerationService;
 import com.example.demo.service.AIService;
 import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.BatchGenerationService;
+import com.example.demo.service.accesslog.AccessLog;
+import com.example.demo.service.health.ProviderHealthMonitor;
+import com.example.demo.service.quota.CallerQuotaService;
+import com.example.demo.service.quota.QuotaReservation;
+import com.example.demo.service.routing.ModelRouter;
+import com.example.demo.service.token.PromptPreflight;
+import com.example.demo.service.usage.Callers;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -23,29 +34,76 @@ import java.util.stream.Collectors;
 public class AIController {
     
     private final AIServiceFactory aiServiceFactory;
+    private final AIGenerationService aiGenerationService;
+    private final BatchGenerationService batchGenerationService;
+    private final ProviderHealthMonitor healthMonitor;
+    private final CallerQuotaService callerQuotaService;
+    private final ModelRouter modelRouter;
+    private final PromptPreflight promptPreflight;
+    private final AccessLog accessLog;
     
     @PostMapping("/generate")
-    public ResponseEntity<?> generate(@Valid @RequestBody GenerateRequest request) {
-        log.info("텍스트 생성 요청: model={}, prompt length={}", request.getModel(), request.getPrompt().length());
+    public ResponseEntity<?> generate(@Valid @RequestBody GenerateRequest request,
+                                      @RequestHeader(value = Callers.HEADER, required = false) String clientId) {
+        log.debug("텍스트 생성 요청: model={}, prompt length={}", request.getModel(), request.getPrompt().length());
         
-        AIService service = aiServiceFactory.getServiceByModel(request.getModel());
-        GenerateResponse response = service.generate(request);
+        long startTime = System.nanoTime();
+        GenerateRequest callerRequest = withCaller(request, clientId);
+        GenerateResponse response;
+        try {
+            QuotaReservation reservation = callerQuotaService.acquire(callerRequest);
+            Integer usedTokens = 0;
+            try {
+                response = aiGenerationService.generate(callerRequest);
+                usedTokens = response.getTokensUsed();
+            } finally {
+                callerQuotaService.settle(reservation, usedTokens);
+            }
+        } catch (RuntimeException e) {
+            accessLog.failure(AccessLog.GENERATE, callerRequest, e, startTime);
+            throw e;
+        }
+        accessLog.success(AccessLog.GENERATE, callerRequest, response.getModel(), response.getTokensUsed(), startTime);
         
-        log.info("텍스트 생성 완료: model={}, tokens={}, time={}ms", 
+        log.debug("텍스트 생성 완료: model={}, tokens={}, time={}ms",
                 response.getModel(), response.getTokensUsed(), response.getProcessingTimeMs());
         
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping(value = "/generate/batch", produces = "application/x-ndjson")
+    public Flux<Object> generateBatch(@Valid @RequestBody BatchGenerateRequest request,
+                                      @RequestHeader(value = Callers.HEADER, required = false) String clientId) {
+        log.info("배치 텍스트 생성 요청: size={}", request.getRequests().size());
+        
+        List<GenerateRequest> requests = request.getRequests().stream()
+                .map(item -> withCaller(item, clientId))
+                .toList();
+        QuotaReservation reservation = callerQuotaService.acquire(Callers.of(clientId), requests);
+        return callerQuotaService.settleBatch(reservation, requests, batchGenerationService.generateBatch(requests))
+                .doOnComplete(() -> log.info("배치 텍스트 생성 완료: size={}", request.getRequests().size()));
+    }
+    
+    @PostMapping("/tokens/count")
+    public ResponseEntity<?> countTokens(@Valid @RequestBody GenerateRequest request) {
+        String modelId = modelRouter.route(request).get(0);
+        TokenCountResponse response = promptPreflight.count(request.toBuilder()
+                .model(modelId)
+                .build());
+        
+        log.debug("토큰 수 추정: model={}, promptTokens={}, totalTokens={}",
+                response.getModel(), response.getPromptTokens(), response.getTotalTokens());
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/models")
     public ResponseEntity<?> getAllModels() {
         log.info("모든 모델 목록 조회");
         
-        List<ModelInfo> models = aiServiceFactory.getAllServices().stream()
-                .flatMap(service -> service.getAvailableModels().stream())
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(models);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(aiServiceFactory.getRegistry().getAllModelsJson());
     }
     
     @GetMapping("/models/{provider}")
@@ -53,31 +111,58 @@ public class AIController {
         log.info("프로바이더별 모델 목록 조회: provider={}", provider);
         
         AIService service = aiServiceFactory.getServiceByProvider(provider);
-        List<ModelInfo> models = service.getAvailableModels();
         
-        return ResponseEntity.ok(models);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(aiServiceFactory.getRegistry().getModelsJson(service.getProviderName()));
     }
     
     @PostMapping(value = "/generate/stream", produces = "text/event-stream")
-    public Flux<String> generateStream(@Valid @RequestBody GenerateRequest request) {
-        log.info("스트리밍 텍스트 생성 요청: model={}, prompt length={}", request.getModel(), request.getPrompt().length());
+    public Flux<String> generateStream(@Valid @RequestBody GenerateRequest request,
+                                       @RequestHeader(value = Callers.HEADER, required = false) String clientId) {
+        log.debug("스트리밍 텍스트 생성 요청: model={}, prompt length={}", request.getModel(), request.getPrompt().length());
         
-        AIService service = aiServiceFactory.getServiceByModel(request.getModel());
-        return service.generateStream(request)
-                .doOnComplete(() -> log.info("스트리밍 완료: model={}", request.getModel()))
-                .doOnError(error -> log.error("스트리밍 오류: model={}", request.getModel(), error));
+        long startTime = System.nanoTime();
+        GenerateRequest callerRequest = withCaller(request, clientId);
+        Flux<String> stream;
+        try {
+            QuotaReservation reservation = callerQuotaService.acquire(callerRequest);
+            try {
+                stream = callerQuotaService.settleStream(callerRequest, reservation, aiGenerationService.generateStream(callerRequest));
+            } catch (RuntimeException e) {
+                callerQuotaService.settle(reservation, 0);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            accessLog.failure(AccessLog.STREAM, callerRequest, e, startTime);
+            throw e;
+        }
+        
+        return stream
+                .doOnComplete(() -> accessLog.success(AccessLog.STREAM, callerRequest, null, null, startTime))
+                .doOnCancel(() -> accessLog.cancelled(AccessLog.STREAM, callerRequest, startTime))
+                .doOnError(error -> {
+                    accessLog.failure(AccessLog.STREAM, callerRequest, error, startTime);
+                    log.error("스트리밍 오류: model={}", request.getModel(), error);
+                });
     }
     
     @GetMapping("/health")
     public ResponseEntity<?> checkHealth() {
-        log.info("AI 서비스 헬스체크");
+        log.debug("AI 서비스 헬스체크");
         
         Map<String, Boolean> healthStatus = aiServiceFactory.getAllServices().stream()
                 .collect(Collectors.toMap(
                         AIService::getProviderName,
-                        AIService::isHealthy
+                        service -> healthMonitor.isHealthy(service.getProviderName())
                 ));
         
         return ResponseEntity.ok(healthStatus);
     }
+    
+    private static GenerateRequest withCaller(GenerateRequest request, String clientId) {
+        return request.toBuilder()
+                .caller(Callers.of(clientId))
+                .build();
+    }
 }
@@ -0,0 +1,70 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.JobResponse;
+import com.example.demo.service.job.GenerationJob;
+import com.example.demo.service.job.GenerationJobService;
+import com.example.demo.service.quota.CallerQuotaService;
+import com.example.demo.service.quota.QuotaReservation;
+import com.example.demo.service.usage.Callers;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/ai/jobs")
+@RequiredArgsConstructor
+public class JobController {
+    
+    private final GenerationJobService jobService;
+    private final CallerQuotaService callerQuotaService;
+    
+    @PostMapping
+    public ResponseEntity<?> submit(@Valid @RequestBody GenerateRequest request,
+                                    @RequestHeader(value = Callers.HEADER, required = false) String clientId) {
+        log.info("생성 작업 요청: model={}, prompt length={}", request.getModel(), request.getPrompt().length());
+        
+        GenerateRequest callerRequest = request.toBuilder()
+                .caller(Callers.of(clientId))
+                .build();
+        QuotaReservation reservation = callerQuotaService.acquire(callerRequest);
+        GenerationJob job = jobService.submit(callerRequest, reservation);
+        
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/ai/jobs/" + job.id()))
+                .body(toResponse(job));
+    }
+    
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> get(@PathVariable String jobId) {
+        return ResponseEntity.ok(toResponse(jobService.get(jobId)));
+    }
+    
+    @GetMapping(value = "/{jobId}/events", produces = "text/event-stream")
+    public Flux<JobResponse> events(@PathVariable String jobId) {
+        log.debug("작업 상태 구독: jobId={}", jobId);
+        
+        return jobService.watch(jobId)
+                .map(JobController::toResponse);
+    }
+    
+    private static JobResponse toResponse(GenerationJob job) {
+        return JobResponse.builder()
+                .id(job.id())
+                .state(job.state().name())
+                .model(job.request().getModel())
+                .response(job.response())
+                .error(job.error())
+                .errorCode(job.errorCode())
+                .createdAt(job.createdAt())
+                .startedAt(job.startedAt())
+                .finishedAt(job.finishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.model.SessionResponse;
+import com.example.demo.service.accesslog.AccessLog;
+import com.example.demo.service.session.ConversationService;
+import com.example.demo.service.session.ConversationStore;
+import com.example.demo.service.session.SessionSummary;
+import com.example.demo.service.usage.Callers;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/ai/sessions")
+@RequiredArgsConstructor
+public class SessionController {
+    
+    private final ConversationService conversationService;
+    private final ConversationStore conversationStore;
+    private final AccessLog accessLog;
+    
+    @PostMapping
+    public ResponseEntity<?> create() {
+        SessionSummary session = conversationStore.create();
+        log.debug("세션 생성: sessionId={}", session.id());
+        
+        return ResponseEntity.created(URI.create("/api/v1/ai/sessions/" + session.id()))
+                .body(toResponse(session, List.of()));
+    }
+    
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<?> get(@PathVariable String sessionId) {
+        List<ConversationTurn> history = conversationStore.history(sessionId);
+        return ResponseEntity.ok(toResponse(conversationStore.get(sessionId), history));
+    }
+    
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<?> delete(@PathVariable String sessionId) {
+        conversationStore.delete(sessionId);
+        log.debug("세션 삭제: sessionId={}", sessionId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+    
+    @PostMapping("/{sessionId}/messages")
+    public ResponseEntity<?> send(@PathVariable String sessionId,
+                                  @Valid @RequestBody GenerateRequest request,
+                                  @RequestHeader(value = Callers.HEADER, required = false) String clientId) {
+        log.debug("세션 메시지: sessionId={}, model={}, prompt length={}", sessionId, request.getModel(), request.getPrompt().length());
+        
+        long startTime = System.nanoTime();
+        GenerateRequest callerRequest = withCaller(request, clientId);
+        GenerateResponse response;
+        try {
+            response = conversationService.send(sessionId, callerRequest);
+        } catch (RuntimeException e) {
+            accessLog.failure(AccessLog.SESSION, callerRequest, e, startTime);
+            throw e;
+        }
+        accessLog.success(AccessLog.SESSION, callerRequest, response.getModel(), response.getTokensUsed(), startTime);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping(value = "/{sessionId}/messages/stream", produces = "text/event-stream")
+    public Flux<String> sendStream(@PathVariable String sessionId,
+                                   @Valid @RequestBody GenerateRequest request,
+                                   @RequestHeader(value = Callers.HEADER, required = false) String clientId) {
+        log.debug("세션 스트리밍 메시지: sessionId={}, model={}, prompt length={}", sessionId, request.getModel(), request.getPrompt().length());
+        
+        long startTime = System.nanoTime();
+        GenerateRequest callerRequest = withCaller(request, clientId);
+        Flux<String> stream;
+        try {
+            stream = conversationService.sendStream(sessionId, callerRequest);
+        } catch (RuntimeException e) {
+            accessLog.failure(AccessLog.SESSION_STREAM, callerRequest, e, startTime);
+            throw e;
+        }
+        
+        return stream
+                .doOnComplete(() -> accessLog.success(AccessLog.SESSION_STREAM, callerRequest, null, null, startTime))
+                .doOnCancel(() -> accessLog.cancelled(AccessLog.SESSION_STREAM, callerRequest, startTime))
+                .doOnError(error -> {
+                    accessLog.failure(AccessLog.SESSION_STREAM, callerRequest, error, startTime);
+                    log.error("세션 스트리밍 오류: sessionId={}, model={}", sessionId, request.getModel(), error);
+                });
+    }
+    
+    private static SessionResponse toResponse(SessionSummary session, List<ConversationTurn> history) {
+        return SessionResponse.builder()
+                .id(session.id())
+                .createdAt(session.createdAt())
+                .lastAccessedAt(session.lastAccessedAt())
+                .turns(session.turns())
+                .tokens(session.tokens())
+                .memoryBytes(session.memoryBytes())
+                .history(history)
+                .build();
+    }
+    
+    private static GenerateRequest withCaller(GenerateRequest request, String clientId) {
+        return request.toBuilder()
+                .caller(Callers.of(clientId))
+                .build();
+    }
+}
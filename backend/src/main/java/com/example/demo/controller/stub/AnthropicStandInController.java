@@ -0,0 +1,95 @@
+package com.example.demo.controller.stub;
+
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.stub.StubOutcome;
+import com.example.demo.service.stub.StubPlan;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.controller.stub.StandInResponder.object;
+
+/**
+ * Anthropic Messages API 대역. ai.claude.base-url 을 http://localhost:8080/stub/anthropic 으로 지정해 사용합니다.
+ */
+@RestController
+@RequestMapping("/stub/anthropic/v1")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+public class AnthropicStandInController {
+    
+    private static final String PROVIDER_NAME = "Anthropic";
+    
+    private final StandInResponder responder;
+    private final AIServiceFactory aiServiceFactory;
+    
+    @PostMapping("/messages")
+    public ResponseEntity<ResponseBodyEmitter> messages(@RequestBody JsonNode body) {
+        String model = body.path("model").asText();
+        Integer maxTokens = body.hasNonNull("max_tokens") ? body.get("max_tokens").asInt() : null;
+        int inputTokens = responder.latencyModel().estimateTokens(body.path("messages").toString());
+        StubPlan plan = responder.plan(maxTokens);
+        
+        if (body.path("stream").asBoolean(false)) {
+            return responder.stream(plan,
+                    List.of(
+                            responder.event("message_start", object("type", "message_start", "message", message(model, List.of(), null, inputTokens, 0))),
+                            responder.event("content_block_start", object("type", "content_block_start", "index", 0,
+                                    "content_block", object("type", "text", "text", "")))),
+                    index -> responder.event("content_block_delta", object("type", "content_block_delta", "index", 0,
+                            "delta", object("type", "text_delta", "text", responder.latencyModel().token(index)))),
+                    List.of(
+                            responder.event("content_block_stop", object("type", "content_block_stop", "index", 0)),
+                            responder.event("message_delta", object("type", "message_delta",
+                                    "delta", object("stop_reason", "end_turn", "stop_sequence", null),
+                                    "usage", object("output_tokens", plan.outputTokens()))),
+                            responder.event("message_stop", object("type", "message_stop"))),
+                    error(plan));
+        }
+        
+        List<Map<String, Object>> content = List.of(object("type", "text", "text", responder.latencyModel().text(plan.outputTokens())));
+        return responder.json(plan, message(model, content, "end_turn", inputTokens, plan.outputTokens()), error(plan));
+    }
+    
+    @GetMapping("/models")
+    public Map<String, Object> models() {
+        List<Map<String, Object>> models = aiServiceFactory.getServiceByProvider(PROVIDER_NAME).getAvailableModels().stream()
+                .map(ModelInfo::getId)
+                .map(id -> object("type", "model", "id", id, "display_name", id, "created_at", "2025-01-01T00:00:00Z"))
+                .toList();
+        return object(
+                "data", models,
+                "has_more", false,
+                "first_id", models.isEmpty() ? null : models.get(0).get("id"),
+                "last_id", models.isEmpty() ? null : models.get(models.size() - 1).get("id"));
+    }
+    
+    private Map<String, Object> message(String model, List<Map<String, Object>> content, String stopReason,
+                                        int inputTokens, int outputTokens) {
+        return object(
+                "id", "msg_stub",
+                "type", "message",
+                "role", "assistant",
+                "model", model,
+                "content", content,
+                "stop_reason", stopReason,
+                "stop_sequence", null,
+                "usage", object("input_tokens", inputTokens, "output_tokens", outputTokens));
+    }
+    
+    private Map<String, Object> error(StubPlan plan) {
+        String type = plan.outcome() == StubOutcome.RATE_LIMITED ? "rate_limit_error" : "api_error";
+        return object("type", "error", "error", object("type", type, "message", "Stub 오류 (" + plan.outcome() + ")"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.controller.stub;
+
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.stub.StubOutcome;
+import com.example.demo.service.stub.StubPlan;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.controller.stub.StandInResponder.object;
+
+/**
+ * Google Gemini API 대역. ai.google.base-url 을 http://localhost:8080/stub/google/ 로 지정해 사용합니다.
+ */
+@RestController
+@RequestMapping("/stub/google/{version}")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+public class GoogleStandInController {
+    
+    private static final String PROVIDER_NAME = "Google";
+    
+    private final StandInResponder responder;
+    private final AIServiceFactory aiServiceFactory;
+    
+    @PostMapping("/models/{model}:generateContent")
+    public ResponseEntity<ResponseBodyEmitter> generateContent(@PathVariable String model, @RequestBody JsonNode body) {
+        StubPlan plan = responder.plan(maxOutputTokens(body));
+        int promptTokens = responder.latencyModel().estimateTokens(body.path("contents").toString());
+        
+        return responder.json(plan,
+                response(model, responder.latencyModel().text(plan.outputTokens()), "STOP", promptTokens, plan.outputTokens()),
+                error(plan));
+    }
+    
+    @PostMapping("/models/{model}:streamGenerateContent")
+    public ResponseEntity<ResponseBodyEmitter> streamGenerateContent(@PathVariable String model, @RequestBody JsonNode body) {
+        StubPlan plan = responder.plan(maxOutputTokens(body));
+        int promptTokens = responder.latencyModel().estimateTokens(body.path("contents").toString());
+        
+        return responder.stream(plan,
+                List.of(),
+                index -> responder.data(response(model, responder.latencyModel().token(index),
+                        index == plan.outputTokens() - 1 ? "STOP" : null, promptTokens, index + 1)),
+                List.of(),
+                error(plan));
+    }
+    
+    @GetMapping("/models")
+    public Map<String, Object> models() {
+        List<Map<String, Object>> models = aiServiceFactory.getServiceByProvider(PROVIDER_NAME).getAvailableModels().stream()
+                .map(ModelInfo::getId)
+                .map(id -> object("name", "models/" + id, "displayName", id))
+                .toList();
+        return object("models", models);
+    }
+    
+    private Integer maxOutputTokens(JsonNode body) {
+        JsonNode maxOutputTokens = body.path("generationConfig").path("maxOutputTokens");
+        return maxOutputTokens.isNumber() ? maxOutputTokens.asInt() : null;
+    }
+    
+    private Map<String, Object> response(String model, String text, String finishReason, int promptTokens, int candidatesTokens) {
+        Map<String, Object> candidate = object(
+                "content", object("role", "model", "parts", List.of(object("text", text))),
+                "index", 0);
+        if (finishReason != null) {
+            candidate.put("finishReason", finishReason);
+        }
+        return object(
+                "candidates", List.of(candidate),
+                "usageMetadata", object(
+                        "promptTokenCount", promptTokens,
+                        "candidatesTokenCount", candidatesTokens,
+                        "totalTokenCount", promptTokens + candidatesTokens),
+                "modelVersion", model);
+    }
+    
+    private Map<String, Object> error(StubPlan plan) {
+        boolean rateLimited = plan.outcome() == StubOutcome.RATE_LIMITED;
+        return object("error", object(
+                "code", rateLimited ? 429 : 500,
+                "message", "Stub 오류 (" + plan.outcome() + ")",
+                "status", rateLimited ? "RESOURCE_EXHAUSTED" : "INTERNAL"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.controller.stub;
+
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.stub.StubPlan;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.controller.stub.StandInResponder.object;
+
+/**
+ * OpenAI Chat Completions API 대역. ai.openai.base-url 을 http://localhost:8080/stub/openai/v1 로 지정해 사용합니다.
+ */
+@RestController
+@RequestMapping("/stub/openai/v1")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+public class OpenAIStandInController {
+    
+    private static final String PROVIDER_NAME = "OpenAI";
+    
+    private final StandInResponder responder;
+    private final AIServiceFactory aiServiceFactory;
+    
+    @PostMapping("/chat/completions")
+    public ResponseEntity<ResponseBodyEmitter> chatCompletions(@RequestBody JsonNode body) {
+        String model = body.path("model").asText();
+        Integer maxTokens = body.hasNonNull("max_completion_tokens") ? body.get("max_completion_tokens").asInt() : null;
+        int promptTokens = responder.latencyModel().estimateTokens(body.path("messages").toString());
+        StubPlan plan = responder.plan(maxTokens);
+        
+        if (body.path("stream").asBoolean(false)) {
+            return responder.stream(plan,
+                    List.of(),
+                    index -> responder.data(chunk(model, object("content", responder.latencyModel().token(index)), null)),
+                    List.of(responder.data(chunk(model, object(), "stop")), responder.data("[DONE]")),
+                    error(plan));
+        }
+        
+        Map<String, Object> completion = object(
+                "id", "chatcmpl-stub",
+                "object", "chat.completion",
+                "created", System.currentTimeMillis() / 1000,
+                "model", model,
+                "choices", List.of(object(
+                        "index", 0,
+                        "message", object("role", "assistant", "content", responder.latencyModel().text(plan.outputTokens())),
+                        "finish_reason", "stop")),
+                "usage", object(
+                        "prompt_tokens", promptTokens,
+                        "completion_tokens", plan.outputTokens(),
+                        "total_tokens", promptTokens + plan.outputTokens()));
+        return responder.json(plan, completion, error(plan));
+    }
+    
+    @GetMapping("/models")
+    public Map<String, Object> models() {
+        List<Map<String, Object>> models = aiServiceFactory.getServiceByProvider(PROVIDER_NAME).getAvailableModels().stream()
+                .map(ModelInfo::getId)
+                .map(id -> object("id", id, "object", "model", "created", 0, "owned_by", "stub"))
+                .toList();
+        return object("object", "list", "data", models);
+    }
+    
+    private Map<String, Object> chunk(String model, Map<String, Object> delta, String finishReason) {
+        return object(
+                "id", "chatcmpl-stub",
+                "object", "chat.completion.chunk",
+                "created", System.currentTimeMillis() / 1000,
+                "model", model,
+                "choices", List.of(object("index", 0, "delta", delta, "finish_reason", finishReason)));
+    }
+    
+    private Map<String, Object> error(StubPlan plan) {
+        return object("error", object(
+                "message", "Stub 오류 (" + plan.outcome() + ")",
+                "type", "stub_error",
+                "param", null,
+                "code", plan.outcome().name().toLowerCase()));
+    }
+}
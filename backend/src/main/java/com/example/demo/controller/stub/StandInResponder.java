@@ -0,0 +1,129 @@
+package com.example.demo.controller.stub;
+
+import com.example.demo.service.stub.StubLatencyModel;
+import com.example.demo.service.stub.StubOutcome;
+import com.example.demo.service.stub.StubPlan;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 프로바이더 HTTP 대역(stand-in) 공통 응답 처리.
+ * 
+ * 지연은 Reactor 타이머로 처리하므로 응답을 기다리는 동안 서블릿 스레드를 점유하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+public class StandInResponder {
+    
+    private static final MediaType EVENT_STREAM = new MediaType("text", "event-stream", StandardCharsets.UTF_8);
+    
+    private final StubLatencyModel latencyModel;
+    private final ObjectMapper objectMapper;
+    
+    public StubPlan plan(Integer maxTokens) {
+        return latencyModel.nextPlan(maxTokens);
+    }
+    
+    public StubLatencyModel latencyModel() {
+        return latencyModel;
+    }
+    
+    /**
+     * 정상 응답이면 전체 지연 후 body 를, 아니면 error 를 프로바이더 오류 형식으로 응답합니다.
+     */
+    public ResponseEntity<ResponseBodyEmitter> json(StubPlan plan, Object body, Object error) {
+        if (plan.outcome() != StubOutcome.OK) {
+            return error(plan, error);
+        }
+        return emit(ResponseEntity.ok(), MediaType.APPLICATION_JSON, Flux.just(write(body)).delaySubscription(plan.totalLatency()));
+    }
+    
+    /**
+     * head 이벤트와 토큰 이벤트, tail 이벤트를 TTFT 와 토큰 간격에 맞춰 SSE 로 전송합니다.
+     */
+    public ResponseEntity<ResponseBodyEmitter> stream(StubPlan plan, List<String> head, IntFunction<String> token,
+                                                      List<String> tail, Object error) {
+        if (plan.outcome() != StubOutcome.OK) {
+            return error(plan, error);
+        }
+        Flux<String> tokens = Flux.interval(Duration.ZERO, plan.tokenInterval())
+                .take(plan.outputTokens())
+                .map(index -> token.apply(index.intValue()));
+        Flux<String> frames = Flux.concat(Flux.fromIterable(head), tokens, Flux.fromIterable(tail))
+                .delaySubscription(plan.timeToFirstToken());
+        return emit(ResponseEntity.ok(), EVENT_STREAM, frames);
+    }
+    
+    public String event(String name, Object data) {
+        return "event: " + name + "\ndata: " + write(data) + "\n\n";
+    }
+    
+    public String data(Object data) {
+        return "data: " + (data instanceof String text ? text : write(data)) + "\n\n";
+    }
+    
+    public String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * 키/값 쌍으로 JSON 객체를 만듭니다. Map.of 와 달리 null 값을 허용합니다.
+     */
+    public static Map<String, Object> object(Object... keyValues) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            object.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return object;
+    }
+    
+    private ResponseEntity<ResponseBodyEmitter> error(StubPlan plan, Object error) {
+        if (plan.outcome() == StubOutcome.RATE_LIMITED) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(latencyModel.getRetryAfterSeconds()));
+            return emit(builder, MediaType.APPLICATION_JSON, Flux.just(write(error)));
+        }
+        return emit(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR), MediaType.APPLICATION_JSON,
+                Flux.just(write(error)).delaySubscription(plan.timeToFirstToken()));
+    }
+    
+    private ResponseEntity<ResponseBodyEmitter> emit(ResponseEntity.BodyBuilder builder, MediaType mediaType, Flux<String> frames) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        frames.subscribe(
+                frame -> send(emitter, frame, mediaType),
+                emitter::completeWithError,
+                emitter::complete);
+        return builder.contentType(mediaType).body(emitter);
+    }
+    
+    private static void send(ResponseBodyEmitter emitter, String frame, MediaType mediaType) {
+        try {
+            emitter.send(frame, mediaType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.exception;
+
+public class ConcurrencyLimitExceededException extends AIServiceException {
+    
+    private final int limit;
+    
+    public ConcurrencyLimitExceededException(String provider, int limit) {
+        super(String.format("%s 서비스의 동시 요청 한도(%d)를 초과했습니다. 잠시 후 다시 시도해주세요", provider, limit),
+              provider,
+              "CONCURRENCY_LIMIT_EXCEEDED");
+        this.limit = limit;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+}
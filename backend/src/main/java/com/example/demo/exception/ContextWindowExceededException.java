@@ -0,0 +1,29 @@
+package com.example.demo.exception;
+
+public class ContextWindowExceededException extends AIServiceException {
+    
+    private final String model;
+    private final int requiredTokens;
+    private final int contextWindow;
+    
+    public ContextWindowExceededException(String model, String provider, int requiredTokens, int contextWindow) {
+        super(String.format("모델 '%s'의 컨텍스트 크기(%d 토큰)를 초과했습니다: 예상 %d 토큰", model, contextWindow, requiredTokens),
+              provider,
+              "CONTEXT_WINDOW_EXCEEDED");
+        this.model = model;
+        this.requiredTokens = requiredTokens;
+        this.contextWindow = contextWindow;
+    }
+    
+    public String getModel() {
+        return model;
+    }
+    
+    public int getRequiredTokens() {
+        return requiredTokens;
+    }
+    
+    public int getContextWindow() {
+        return contextWindow;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.demo.exception;
 
+import com.example.demo.config.properties.AIJobProperties;
+import com.example.demo.config.properties.AILimiterProperties;
 import com.example.demo.model.ApiResponse;
 import io.sentry.Sentry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -15,8 +19,12 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
     
+    private final AILimiterProperties limiterProperties;
+    private final AIJobProperties jobProperties;
+    
     @ExceptionHandler(ModelNotSupportedException.class)
     public ResponseEntity<ApiResponse<Void>> handleModelNotSupported(ModelNotSupportedException e) {
         log.warn("지원하지 않는 모델: {}", e.getMessage());
@@ -25,6 +33,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
     
+    @ExceptionHandler(ContextWindowExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleContextWindowExceeded(ContextWindowExceededException e) {
+        log.warn("컨텍스트 크기 초과: model={}, required={}, contextWindow={}",
+                e.getModel(), e.getRequiredTokens(), e.getContextWindow());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
     @ExceptionHandler(AIServiceUnavailableException.class)
     public ResponseEntity<ApiResponse<Void>> handleAIServiceUnavailable(AIServiceUnavailableException e) {
         log.error("AI 서비스 사용 불가: {}", e.getMessage());
@@ -34,6 +51,49 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
     
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException e) {
+        log.warn("동시 요청 한도 초과: provider={}, limit={}", e.getProvider(), e.getLimit());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(limiterProperties.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleQuotaExceeded(QuotaExceededException e) {
+        log.warn("호출자 한도 초과: caller={}, reason={}", e.getCaller(), e.getReason());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleJobQueueFull(JobQueueFullException e) {
+        log.warn("작업 대기열 한도 초과: maxQueued={}", e.getMaxQueued());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(jobProperties.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleJobNotFound(JobNotFoundException e) {
+        log.debug("작업 없음: jobId={}", e.getJobId());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
+    @ExceptionHandler(SessionNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSessionNotFound(SessionNotFoundException e) {
+        log.debug("세션 없음: sessionId={}", e.getSessionId());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
     @ExceptionHandler(AIServiceException.class)
     public ResponseEntity<ApiResponse<Void>> handleAIServiceException(AIServiceException e) {
         log.error("AI 서비스 오류: {}", e.getMessage(), e);
@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+public class JobNotFoundException extends RuntimeException {
+    
+    private final String jobId;
+    
+    public JobNotFoundException(String jobId) {
+        super(String.format("작업 '%s'을(를) 찾을 수 없습니다", jobId));
+        this.jobId = jobId;
+    }
+    
+    public String getJobId() {
+        return jobId;
+    }
+}
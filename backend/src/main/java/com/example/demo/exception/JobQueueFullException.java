@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+public class JobQueueFullException extends RuntimeException {
+    
+    private final int maxQueued;
+    
+    public JobQueueFullException(int maxQueued) {
+        super(String.format("작업 대기열 한도(%d)를 초과했습니다. 잠시 후 다시 시도해주세요", maxQueued));
+        this.maxQueued = maxQueued;
+    }
+    
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.exception;
+
+public class QuotaExceededException extends RuntimeException {
+    
+    private final String caller;
+    private final String reason;
+    private final long retryAfterSeconds;
+    
+    public QuotaExceededException(String message, String caller, String reason, long retryAfterSeconds) {
+        super(message);
+        this.caller = caller;
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public String getCaller() {
+        return caller;
+    }
+    
+    public String getReason() {
+        return reason;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
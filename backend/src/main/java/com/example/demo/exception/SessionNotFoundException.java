@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+public class SessionNotFoundException extends RuntimeException {
+    
+    private final String sessionId;
+    
+    public SessionNotFoundException(String sessionId) {
+        super(String.format("세션 '%s'을(를) 찾을 수 없습니다", sessionId));
+        this.sessionId = sessionId;
+    }
+    
+    public String getSessionId() {
+        return sessionId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGenerateRequest {
+    
+    @NotEmpty(message = "요청 목록은 필수입니다")
+    @Size(max = 1000, message = "배치 요청은 최대 1000개까지 가능합니다")
+    private List<@Valid GenerateRequest> requests;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchSummary {
+    
+    private String type;
+    private Integer total;
+    private Integer succeeded;
+    private Integer failed;
+    private Long totalTokens;
+    private Double totalCostUsd;
+    private Long processingTimeMs;
+}
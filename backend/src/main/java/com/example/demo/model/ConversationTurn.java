@@ -0,0 +1,30 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세션 대화의 한 차례. 사용자 프롬프트나 모델 응답 하나입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationTurn {
+    
+    private Role role;
+    private String text;
+    
+    public static ConversationTurn user(String text) {
+        return new ConversationTurn(Role.USER, text);
+    }
+    
+    public static ConversationTurn assistant(String text) {
+        return new ConversationTurn(Role.ASSISTANT, text);
+    }
+    
+    public enum Role {
+        USER,
+        ASSISTANT
+    }
+}
@@ -1,15 +1,19 @@
 package com.example.demo.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class GenerateRequest {
@@ -19,6 +23,9 @@ public class GenerateRequest {
     
     private String model;
     
+    @Size(max = 5, message = "대체 모델은 최대 5개까지 지정할 수 있습니다")
+    private List<String> fallbackModels;
+    
     @Min(value = 1, message = "최대 토큰은 1 이상이어야 합니다")
     @Max(value = 4096, message = "최대 토큰은 4096 이하여야 합니다")
     private Integer maxTokens;
@@ -26,4 +33,23 @@ public class GenerateRequest {
     @Min(value = 0, message = "온도는 0 이상이어야 합니다")
     @Max(value = 2, message = "온도는 2 이하여야 합니다")
     private Double temperature;
+    
+    /**
+     * 사용량 집계에 쓰는 호출자 식별자. 요청 본문이 아니라 X-Client-Id 헤더에서 채웁니다.
+     */
+    @JsonIgnore
+    private String caller;
+    
+    /**
+     * 프롬프트 앞에 보낼 이전 대화. 요청 본문이 아니라 세션 저장소에서 채웁니다.
+     */
+    @JsonIgnore
+    private List<ConversationTurn> history;
+    
+    /**
+     * @return 이전 대화가 없으면 빈 목록
+     */
+    public List<ConversationTurn> getHistory() {
+        return history != null ? history : List.of();
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+    
+    private String id;
+    private String state;
+    private String model;
+    private GenerateResponse response;
+    private String error;
+    private String errorCode;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -6,7 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ModelInfo {
@@ -15,4 +15,6 @@ public class ModelInfo {
     private String name;
     private String provider;
     private Boolean available;
+    private Integer contextWindow;
+    private ModelValidationStatus validationStatus;
 }
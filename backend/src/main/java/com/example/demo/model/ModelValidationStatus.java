@@ -0,0 +1,24 @@
+package com.example.demo.model;
+
+public enum ModelValidationStatus {
+    
+    /**
+     * 프로바이더의 모델 목록에서 확인됨
+     */
+    VERIFIED,
+    
+    /**
+     * 프로바이더의 모델 목록에 없음
+     */
+    NOT_FOUND,
+    
+    /**
+     * 프로바이더에 연결할 수 없음
+     */
+    PROVIDER_UNAVAILABLE,
+    
+    /**
+     * 검증 기한(ai.model.validation.deadline-ms) 안에 끝나지 않음
+     */
+    TIMED_OUT
+}
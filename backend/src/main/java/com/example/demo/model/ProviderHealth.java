@@ -0,0 +1,22 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderHealth {
+    
+    private String provider;
+    private boolean healthy;
+    private Instant lastCheckedAt;
+    private Instant lastSuccessAt;
+    private Long latencyMs;
+    private int consecutiveFailures;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionResponse {
+    
+    private String id;
+    private Instant createdAt;
+    private Instant lastAccessedAt;
+    private int turns;
+    private long tokens;
+    private long memoryBytes;
+    private List<ConversationTurn> history;
+}
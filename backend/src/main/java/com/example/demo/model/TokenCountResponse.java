@@ -0,0 +1,24 @@
+package com.example.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenCountResponse {
+    
+    private String model;
+    private String provider;
+    private String tokenizer;
+    private Integer promptTokens;
+    private Integer maxTokens;
+    private Integer totalTokens;
+    private Integer contextWindow;
+    private Boolean fitsContextWindow;
+    private Double estimatedInputCostUsd;
+    private Double estimatedMaxCostUsd;
+}
@@ -0,0 +1,219 @@
+package com.example.demo.service;
+
+import com.example.demo.config.properties.AICacheProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.cache.ResponseCache;
+import com.example.demo.service.coalesce.RequestCoalescer;
+import com.example.demo.service.hedge.HedgedRequestExecutor;
+import com.example.demo.service.limit.ProviderConcurrencyLimiter;
+import com.example.demo.service.metrics.GenerationMetrics;
+import com.example.demo.service.routing.ModelRouter;
+import com.example.demo.service.token.PromptPreflight;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.usage.UsageLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 컨트롤러와 프로바이더 서비스 사이에서 텍스트 생성 요청을 처리합니다.
+ * 
+ * ModelRouter 가 정한 후보 모델을 순서대로 시도하며, 후보마다 컨텍스트 크기 확인 → 응답 캐시 → 동일 요청 병합 →
+ * 헤지 요청 → 프로바이더 동시 실행 한도를 거쳐 AIService 를 호출합니다. 모델을 지원하지 않는 후보도 실패한 후보처럼 건너뛰고,
+ * 모든 후보가 실패한 경우에만 마지막 오류를 던집니다.
+ * 프로바이더 호출 결과와 캐시 응답은 UsageLedger 에 호출자별로 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AIGenerationService {
+    
+    private final AIServiceFactory aiServiceFactory;
+    private final ResponseCache responseCache;
+    private final AICacheProperties cacheProperties;
+    private final RequestCoalescer requestCoalescer;
+    private final ProviderConcurrencyLimiter concurrencyLimiter;
+    private final ModelRouter modelRouter;
+    private final HedgedRequestExecutor hedgedExecutor;
+    private final GenerationMetrics generationMetrics;
+    private final UsageLedger usageLedger;
+    private final PromptPreflight promptPreflight;
+    private final TokenEstimator tokenEstimator;
+    
+    public GenerateResponse generate(GenerateRequest request) {
+        List<String> candidates = modelRouter.route(request);
+        
+        for (int i = 0; ; i++) {
+            String modelId = candidates.get(i);
+            try {
+                GenerateResponse response = generateWithModel(withModel(request, modelId));
+                modelRouter.recordDecision(request, modelId);
+                return response;
+            } catch (AIServiceException e) {
+                if (i + 1 >= candidates.size()) {
+                    throw e;
+                }
+                modelRouter.recordFailover(modelId, candidates.get(i + 1));
+            }
+        }
+    }
+    
+    public Flux<String> generateStream(GenerateRequest request) {
+        List<String> candidates = modelRouter.route(request);
+        return generateStream(request, candidates, 0);
+    }
+    
+    private Flux<String> generateStream(GenerateRequest request, List<String> candidates, int index) {
+        String modelId = candidates.get(index);
+        AtomicBoolean emitted = new AtomicBoolean();
+        
+        return Flux.defer(() -> generateStreamWithModel(withModel(request, modelId)))
+                .doOnNext(chunk -> {
+                    if (emitted.compareAndSet(false, true)) {
+                        modelRouter.recordDecision(request, modelId);
+                    }
+                })
+                .onErrorResume(
+                        e -> e instanceof AIServiceException
+                                && !emitted.get()
+                                && index + 1 < candidates.size(),
+                        e -> {
+                            modelRouter.recordFailover(modelId, candidates.get(index + 1));
+                            return generateStream(request, candidates, index + 1);
+                        });
+    }
+    
+    private GenerateResponse generateWithModel(GenerateRequest request) {
+        AIService service = aiServiceFactory.getServiceByModel(request.getModel());
+        promptPreflight.check(service, request);
+        
+        long startTime = System.nanoTime();
+        String requestKey = requestKey(service, request);
+        boolean cacheable = isCacheable(service, request);
+        
+        if (cacheable) {
+            Optional<GenerateResponse> cached = responseCache.get(requestKey);
+            if (cached.isPresent()) {
+                log.debug("캐시된 응답 반환: model={}", request.getModel());
+                usageLedger.record(request.getCaller(), service.getProviderName(), modelKey(service, request),
+                        cached.get().getTokensUsed() != null ? cached.get().getTokensUsed() : 0, 0.0);
+                return GenerateResponse.builder()
+                        .generatedText(cached.get().getGeneratedText())
+                        .model(cached.get().getModel())
+                        .tokensUsed(cached.get().getTokensUsed())
+                        .processingTimeMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                        .costUsd(0.0)
+                        .build();
+            }
+        }
+        
+        return requestCoalescer.execute(requestKey, () -> {
+            GenerateResponse response = hedgedExecutor.execute(service.getProviderName(), modelKey(service, request),
+                    () -> concurrencyLimiter.execute(service.getProviderName(), () -> callProvider(service, request),
+                            result -> tokenEstimator.estimate(service.getProviderName(), result.getGeneratedText())));
+            if (cacheable) {
+                responseCache.put(requestKey, response);
+            }
+            return response;
+        });
+    }
+    
+    private GenerateResponse callProvider(AIService service, GenerateRequest request) {
+        long startTime = System.nanoTime();
+        try {
+            GenerateResponse response = generationMetrics.recordGenerate(service.getProviderName(), modelKey(service, request),
+                    () -> service.generate(request));
+            modelRouter.recordResult(request.getModel(), elapsedMillis(startTime), true);
+            usageLedger.record(request.getCaller(), service.getProviderName(), modelKey(service, request),
+                    response.getTokensUsed() != null ? response.getTokensUsed() : 0,
+                    response.getCostUsd() != null ? response.getCostUsd() : 0.0);
+            return response;
+        } catch (ModelNotSupportedException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            modelRouter.recordResult(request.getModel(), elapsedMillis(startTime), false);
+            throw e;
+        }
+    }
+    
+    private Flux<String> generateStreamWithModel(GenerateRequest request) {
+        AIService service = aiServiceFactory.getServiceByModel(request.getModel());
+        promptPreflight.check(service, request);
+        
+        return requestCoalescer.executeStream(requestKey(service, request),
+                () -> recordStreamResult(request, concurrencyLimiter.executeStream(service.getProviderName(),
+                        () -> usageLedger.recordStream(request.getCaller(), service.getProviderName(), modelKey(service, request), inputText(request),
+                                generationMetrics.recordStream(service.getProviderName(), modelKey(service, request), service.generateStream(request))))));
+    }
+    
+    /**
+     * 스트림이 끝까지 완료되거나 실패하면 callProvider 와 같이 모델별 지연 시간과 성공 여부를 라우터에 기록합니다.
+     * 병합된 스트림은 원본 구독 한 번만 기록하고, 클라이언트가 취소한 스트림은 기록하지 않습니다.
+     */
+    private Flux<String> recordStreamResult(GenerateRequest request, Flux<String> stream) {
+        return Flux.defer(() -> {
+            long startTime = System.nanoTime();
+            return stream
+                    .doOnComplete(() -> modelRouter.recordResult(request.getModel(), elapsedMillis(startTime), true))
+                    .doOnError(e -> {
+                        if (!(e instanceof ModelNotSupportedException)) {
+                            modelRouter.recordResult(request.getModel(), elapsedMillis(startTime), false);
+                        }
+                    });
+        });
+    }
+    
+    private boolean isCacheable(AIService service, GenerateRequest request) {
+        return cacheProperties.isEnabled() && effectiveTemperature(service, request) <= cacheProperties.getMaxTemperature();
+    }
+    
+    private String requestKey(AIService service, GenerateRequest request) {
+        int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : service.getDefaultMaxTokens();
+        return GenerateRequestKeys.of(request, service.getSystemInstruction(), maxTokens, effectiveTemperature(service, request));
+    }
+    
+    private double effectiveTemperature(AIService service, GenerateRequest request) {
+        return request.getTemperature() != null ? request.getTemperature() : service.getDefaultTemperature();
+    }
+    
+    private String modelKey(AIService service, GenerateRequest request) {
+        return request.getModel() != null ? request.getModel() : service.getProviderName();
+    }
+    
+    /**
+     * 스트림 사용량 추정에 쓰는 입력 텍스트. 세션 요청이면 이전 대화도 입력 토큰으로 과금되므로 함께 셉니다.
+     */
+    private static String inputText(GenerateRequest request) {
+        if (request.getHistory().isEmpty()) {
+            return request.getPrompt();
+        }
+        StringBuilder text = new StringBuilder();
+        for (ConversationTurn turn : request.getHistory()) {
+            text.append(turn.getText()).append('\n');
+        }
+        return text.append(request.getPrompt()).toString();
+    }
+    
+    private static GenerateRequest withModel(GenerateRequest request, String modelId) {
+        if (modelId == null || modelId.equals(request.getModel())) {
+            return request;
+        }
+        return request.toBuilder()
+                .model(modelId)
+                .build();
+    }
+    
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
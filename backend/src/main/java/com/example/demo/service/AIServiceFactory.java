@@ -3,38 +3,34 @@ package com.example.demo.service;
 import com.example.demo.config.properties.AIModelProperties;
 import com.example.demo.exception.ModelNotSupportedException;
 import com.example.demo.model.ModelInfo;
+import com.example.demo.model.ModelValidationStatus;
+import com.example.demo.service.catalog.ModelCatalog;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class AIServiceFactory {
     
-    private final Map<String, AIService> servicesByProvider;
-    private final Map<String, AIService> servicesByModel;
+    private final List<AIService> aiServices;
     private final AIModelProperties modelProperties;
+    private final ObjectMapper objectMapper;
+    private volatile ModelRegistry registry;
+    private Map<String, ModelValidationStatus> validation = Map.of();
     
-    public AIServiceFactory(List<AIService> aiServices, AIModelProperties modelProperties) {
+    public AIServiceFactory(List<AIService> aiServices, AIModelProperties modelProperties, ObjectMapper objectMapper,
+                            ModelCatalogService catalogService) {
+        this.aiServices = aiServices;
         this.modelProperties = modelProperties;
-        this.servicesByProvider = aiServices.stream()
-                .collect(Collectors.toMap(
-                        AIService::getProviderName,
-                        service -> service
-                ));
-        
-        this.servicesByModel = aiServices.stream()
-                .flatMap(service -> service.getAvailableModels().stream()
-                        .map(model -> Map.entry(model.getId(), service)))
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue
-                ));
+        this.objectMapper = objectMapper;
+        this.registry = ModelRegistry.of(aiServices, objectMapper);
+        catalogService.subscribe(this::rebuildRegistry);
     }
     
     @PostConstruct
@@ -47,29 +43,67 @@ public class AIServiceFactory {
         log.info("등록된 AI 모델 목록:");
         log.info("=".repeat(80));
         
-        servicesByProvider.forEach((provider, service) -> {
-            List<String> modelIds = service.getAvailableModels().stream()
+        registry.getAllServices().forEach(service -> {
+            List<String> modelIds = registry.getModels(service.getProviderName()).stream()
                     .map(ModelInfo::getId)
                     .toList();
-            log.info("[{}] {} 개 모델: {}", provider, modelIds.size(), String.join(", ", modelIds));
+            log.info("[{}] {} 개 모델: {}", service.getProviderName(), modelIds.size(), String.join(", ", modelIds));
         });
         
         log.info("=".repeat(80));
-        log.info("총 {} 개의 모델이 등록되었습니다.", servicesByModel.size());
+        log.info("총 {} 개의 모델이 등록되었습니다.", registry.size());
         log.info("=".repeat(80));
     }
     
     public AIService getServiceByProvider(String provider) {
-        return Optional.ofNullable(servicesByProvider.get(provider))
-                .orElseThrow(() -> new ModelNotSupportedException(provider, "Unknown"));
+        AIService service = registry.findService(provider);
+        if (service == null) {
+            throw new ModelNotSupportedException(provider, "Unknown");
+        }
+        return service;
     }
     
     public AIService getServiceByModel(String modelId) {
-        return Optional.ofNullable(servicesByModel.get(modelId))
-                .orElseThrow(() -> new ModelNotSupportedException(modelId, "Unknown"));
+        ModelRegistry.Entry entry = registry.find(modelId);
+        if (entry == null) {
+            throw new ModelNotSupportedException(modelId, "Unknown");
+        }
+        return entry.service();
     }
     
     public List<AIService> getAllServices() {
-        return List.copyOf(servicesByProvider.values());
+        return registry.getAllServices();
+    }
+    
+    public ModelRegistry getRegistry() {
+        return registry;
+    }
+    
+    /**
+     * 모델 검증 결과를 반영한 레지스트리로 교체합니다. 이후 카탈로그가 바뀌어도 같은 결과를 계속 반영합니다.
+     */
+    public synchronized void publishValidation(Map<String, ModelValidationStatus> validation) {
+        this.validation = Map.copyOf(validation);
+        rebuild();
+    }
+    
+    /**
+     * 카탈로그가 바뀌면 레지스트리를 새로 만들어 교체합니다. 만들 수 없으면 이전 레지스트리를 유지합니다.
+     */
+    private synchronized void rebuildRegistry(ModelCatalog catalog) {
+        catalog.getProviders().stream()
+                .filter(provider -> aiServices.stream().noneMatch(service -> service.getProviderName().equals(provider)))
+                .forEach(provider -> log.warn("카탈로그의 프로바이더에 해당하는 서비스가 없어 무시합니다: {}", provider));
+        rebuild();
+    }
+    
+    private void rebuild() {
+        try {
+            ModelRegistry rebuilt = ModelRegistry.of(aiServices, objectMapper, validation);
+            registry = rebuilt;
+            log.info("모델 레지스트리 갱신: 총 {} 개 모델", rebuilt.size());
+        } catch (IllegalStateException e) {
+            log.error("모델 레지스트리 갱신 실패, 이전 레지스트리를 유지합니다: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import com.example.demo.config.properties.AIBatchProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.BatchItemResult;
+import com.example.demo.model.BatchSummary;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.routing.ModelRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 여러 생성 요청을 프로바이더별 동시 실행 한도 안에서 병렬로 처리합니다.
+ * 
+ * 결과는 완료된 순서대로 내보내며, 개별 요청의 실패는 해당 항목의 오류로만 기록합니다.
+ * 모든 항목이 끝나면 토큰과 비용 합계를 담은 요약을 마지막으로 내보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchGenerationService {
+    
+    private static final String UNRESOLVED_PROVIDER = "";
+    
+    private final AIServiceFactory aiServiceFactory;
+    private final AIGenerationService aiGenerationService;
+    private final ModelRouter modelRouter;
+    private final AIBatchProperties batchProperties;
+    private final Scheduler aiStreamingScheduler;
+    
+    public Flux<Object> generateBatch(List<GenerateRequest> requests) {
+        return Flux.defer(() -> {
+            long startTime = System.currentTimeMillis();
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+            AtomicLong totalTokens = new AtomicLong();
+            DoubleAdder totalCost = new DoubleAdder();
+            
+            Flux<BatchItemResult> results = Flux.range(0, requests.size())
+                    .groupBy(index -> providerOf(requests.get(index)))
+                    .flatMap(group -> group.flatMap(
+                            index -> execute(index, requests.get(index)),
+                            concurrencyOf(group.key())), Integer.MAX_VALUE)
+                    .doOnNext(result -> {
+                        if (Boolean.TRUE.equals(result.getSuccess())) {
+                            succeeded.incrementAndGet();
+                            GenerateResponse response = result.getResponse();
+                            if (response.getTokensUsed() != null) {
+                                totalTokens.addAndGet(response.getTokensUsed());
+                            }
+                            if (response.getCostUsd() != null) {
+                                totalCost.add(response.getCostUsd());
+                            }
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    });
+            
+            Mono<BatchSummary> summary = Mono.fromSupplier(() -> BatchSummary.builder()
+                    .type("summary")
+                    .total(requests.size())
+                    .succeeded(succeeded.get())
+                    .failed(failed.get())
+                    .totalTokens(totalTokens.get())
+                    .totalCostUsd(totalCost.sum())
+                    .processingTimeMs(System.currentTimeMillis() - startTime)
+                    .build());
+            
+            return Flux.concat(results, summary);
+        });
+    }
+    
+    private Mono<BatchItemResult> execute(int index, GenerateRequest request) {
+        return Mono.fromCallable(() -> aiGenerationService.generate(request))
+                .subscribeOn(aiStreamingScheduler)
+                .map(response -> BatchItemResult.builder()
+                        .type("result")
+                        .index(index)
+                        .success(true)
+                        .response(response)
+                        .build())
+                .onErrorResume(e -> {
+                    log.warn("배치 항목 처리 실패: index={}, model={}, error={}", index, request.getModel(), e.getMessage());
+                    return Mono.just(BatchItemResult.builder()
+                            .type("result")
+                            .index(index)
+                            .success(false)
+                            .error(e instanceof AIServiceException ? e.getMessage() : "요청 처리 중 오류가 발생했습니다")
+                            .build());
+                });
+    }
+    
+    private String providerOf(GenerateRequest request) {
+        try {
+            return aiServiceFactory.getServiceByModel(modelRouter.route(request).get(0)).getProviderName();
+        } catch (AIServiceException e) {
+            return UNRESOLVED_PROVIDER;
+        }
+    }
+    
+    private int concurrencyOf(String provider) {
+        return Math.max(1, batchProperties.getConcurrency(provider));
+    }
+}
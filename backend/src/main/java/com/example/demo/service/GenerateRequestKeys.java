@@ -0,0 +1,44 @@
+package com.example.demo.service;
+
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 정규화된 요청과 시스템 지시문으로 요청 키(SHA-256)를 생성합니다. 세션 요청은 이전 대화도 키에 포함합니다.
+ * 응답 캐시와 동일 요청 병합(coalescing)에서 같은 키를 사용합니다.
+ */
+public final class GenerateRequestKeys {
+    
+    private static final char SEPARATOR = '\u0000';
+    
+    private GenerateRequestKeys() {
+    }
+    
+    public static String of(GenerateRequest request, String systemInstruction, int maxTokens, double temperature) {
+        StringBuilder normalized = new StringBuilder()
+                .append(request.getModel()).append(SEPARATOR)
+                .append(maxTokens).append(SEPARATOR)
+                .append(temperature).append(SEPARATOR)
+                .append(systemInstruction).append(SEPARATOR);
+        for (ConversationTurn turn : request.getHistory()) {
+            normalized.append(turn.getRole().name()).append(SEPARATOR)
+                    .append(turn.getText()).append(SEPARATOR);
+        }
+        normalized.append(request.getPrompt().strip());
+        
+        return HexFormat.of().formatHex(sha256().digest(normalized.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -19,35 +18,27 @@ public class ModelManagementService {
     }
     
     public List<ModelInfo> getAllAvailableModels() {
-        return serviceFactory.getAllServices().stream()
-                .flatMap(service -> service.getAvailableModels().stream())
-                .collect(Collectors.toList());
+        return serviceFactory.getRegistry().getAllModels();
     }
     
     public List<ModelInfo> getModelsByProvider(String provider) {
-        try {
-            AIService service = serviceFactory.getServiceByProvider(provider);
-            return service.getAvailableModels();
-        } catch (ModelNotSupportedException e) {
+        if (serviceFactory.getRegistry().findService(provider) == null) {
             log.warn("지원하지 않는 프로바이더: {}", provider);
             return List.of();
         }
+        return serviceFactory.getRegistry().getModels(provider);
     }
     
     public ModelInfo getModelInfo(String modelId) {
-        return getAllAvailableModels().stream()
-                .filter(model -> model.getId().equals(modelId))
-                .findFirst()
-                .orElseThrow(() -> new ModelNotSupportedException(modelId, "Unknown"));
+        ModelRegistry.Entry entry = serviceFactory.getRegistry().find(modelId);
+        if (entry == null) {
+            throw new ModelNotSupportedException(modelId, "Unknown");
+        }
+        return entry.model();
     }
     
     public boolean isModelSupported(String modelId) {
-        try {
-            AIService service = serviceFactory.getServiceByModel(modelId);
-            return service.isModelSupported(modelId);
-        } catch (ModelNotSupportedException e) {
-            return false;
-        }
+        return serviceFactory.getRegistry().contains(modelId);
     }
     
     public AIService getServiceForModel(String modelId) {
@@ -0,0 +1,151 @@
+package com.example.demo.service;
+
+import com.example.demo.model.ModelInfo;
+import com.example.demo.model.ModelValidationStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모델 ID와 프로바이더로 조회하는 불변 모델 레지스트리.
+ * 
+ * 조회용 맵과 목록, 목록 API 응답에 쓰는 JSON 바이트를 생성 시점에 모두 계산하므로
+ * 요청 처리 중에는 해시 조회만 수행하고 객체를 새로 만들지 않습니다.
+ * 모델 검증 결과가 있으면 모델 정보에 반영해 만듭니다.
+ */
+public final class ModelRegistry {
+    
+    /**
+     * 모델 정보와 해당 모델을 처리하는 서비스.
+     */
+    public record Entry(ModelInfo model, AIService service) {
+    }
+    
+    private final Map<String, Entry> entriesByModel;
+    private final Map<String, AIService> servicesByProvider;
+    private final Map<String, List<ModelInfo>> modelsByProvider;
+    private final List<ModelInfo> allModels;
+    private final List<AIService> allServices;
+    private final byte[] allModelsJson;
+    private final Map<String, byte[]> providerModelsJson;
+    
+    private ModelRegistry(List<AIService> services, ObjectMapper objectMapper, Map<String, ModelValidationStatus> validation) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        Map<String, AIService> providers = new LinkedHashMap<>();
+        Map<String, List<ModelInfo>> providerModels = new LinkedHashMap<>();
+        Map<String, byte[]> providerJson = new LinkedHashMap<>();
+        List<ModelInfo> models = new ArrayList<>();
+        
+        for (AIService service : services) {
+            if (providers.putIfAbsent(service.getProviderName(), service) != null) {
+                throw new IllegalStateException("중복된 프로바이더: " + service.getProviderName());
+            }
+            List<ModelInfo> serviceModels = service.getAvailableModels().stream()
+                    .map(model -> withValidation(model, validation.get(model.getId())))
+                    .toList();
+            for (ModelInfo model : serviceModels) {
+                if (entries.putIfAbsent(model.getId(), new Entry(model, service)) != null) {
+                    throw new IllegalStateException("중복된 모델 ID: " + model.getId());
+                }
+            }
+            providerModels.put(service.getProviderName(), serviceModels);
+            providerJson.put(service.getProviderName(), toJson(objectMapper, serviceModels));
+            models.addAll(serviceModels);
+        }
+        
+        this.entriesByModel = Map.copyOf(entries);
+        this.servicesByProvider = Map.copyOf(providers);
+        this.modelsByProvider = Map.copyOf(providerModels);
+        this.allModels = List.copyOf(models);
+        this.allServices = List.copyOf(providers.values());
+        this.allModelsJson = toJson(objectMapper, this.allModels);
+        this.providerModelsJson = Map.copyOf(providerJson);
+    }
+    
+    public static ModelRegistry of(List<AIService> services, ObjectMapper objectMapper) {
+        return of(services, objectMapper, Map.of());
+    }
+    
+    /**
+     * @param validation 모델 ID별 검증 결과. 없는 모델은 검증 상태를 비워 둡니다
+     */
+    public static ModelRegistry of(List<AIService> services, ObjectMapper objectMapper,
+                                   Map<String, ModelValidationStatus> validation) {
+        return new ModelRegistry(services, objectMapper, validation);
+    }
+    
+    /**
+     * @return 모델이 없으면 null
+     */
+    public Entry find(String modelId) {
+        return modelId == null ? null : entriesByModel.get(modelId);
+    }
+    
+    /**
+     * @return 프로바이더가 없으면 null
+     */
+    public AIService findService(String provider) {
+        return provider == null ? null : servicesByProvider.get(provider);
+    }
+    
+    public boolean contains(String modelId) {
+        return find(modelId) != null;
+    }
+    
+    public List<ModelInfo> getAllModels() {
+        return allModels;
+    }
+    
+    public List<ModelInfo> getModels(String provider) {
+        return provider == null ? List.of() : modelsByProvider.getOrDefault(provider, List.of());
+    }
+    
+    public List<AIService> getAllServices() {
+        return allServices;
+    }
+    
+    public int size() {
+        return entriesByModel.size();
+    }
+    
+    /**
+     * 반환된 배열은 공유되므로 수정하면 안 됩니다.
+     */
+    public byte[] getAllModelsJson() {
+        return allModelsJson;
+    }
+    
+    /**
+     * 반환된 배열은 공유되므로 수정하면 안 됩니다.
+     * 
+     * @return 프로바이더가 없으면 null
+     */
+    public byte[] getModelsJson(String provider) {
+        return provider == null ? null : providerModelsJson.get(provider);
+    }
+    
+    /**
+     * 프로바이더에 연결할 수 없었던 모델은 사용할 수 없는 것으로 표시합니다.
+     */
+    private static ModelInfo withValidation(ModelInfo model, ModelValidationStatus status) {
+        if (status == null) {
+            return model;
+        }
+        return model.toBuilder()
+                .validationStatus(status)
+                .available(status != ModelValidationStatus.PROVIDER_UNAVAILABLE && !Boolean.FALSE.equals(model.getAvailable()))
+                .build();
+    }
+    
+    private static byte[] toJson(ObjectMapper objectMapper, List<ModelInfo> models) {
+        try {
+            return objectMapper.writeValueAsBytes(models);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모델 목록 직렬화 실패", e);
+        }
+    }
+}
@@ -1,89 +1,199 @@
 package com.example.demo.service;
 
+import com.example.demo.config.ApplicationReadyTask;
 import com.example.demo.config.properties.AIModelProperties;
 import com.example.demo.model.ModelInfo;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.model.ModelValidationStatus;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 프로바이더 API 의 실제 모델 목록과 정의된 모델을 비교해 결과를 모델 레지스트리에 반영합니다.
+ * 
+ * 기동이 끝난 뒤(ApplicationReadyEvent) 전용 스레드에서 프로바이더별로 병렬 실행하므로 기동 시간에 영향을 주지 않으며,
+ * ai.model.validation.deadline-ms 안에 끝나지 않은 프로바이더는 중단하고 TIMED_OUT 으로 기록합니다.
+ * ai.model.validation.gate-readiness 가 켜져 있으면 검증이 끝날 때까지 readiness 를 OUT_OF_SERVICE 로 보고합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class ModelValidationService {
+public class ModelValidationService implements ApplicationReadyTask {
+    
+    public enum State {
+        DISABLED,
+        PENDING,
+        RUNNING,
+        COMPLETED
+    }
     
     private final List<AIService> aiServices;
     private final AIModelProperties modelProperties;
+    private final AIServiceFactory aiServiceFactory;
+    private final ExecutorService executor;
+    
+    private volatile State state;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile Map<String, ModelValidationStatus> results = Map.of();
+    
+    public ModelValidationService(List<AIService> aiServices, AIModelProperties modelProperties, AIServiceFactory aiServiceFactory) {
+        this.aiServices = aiServices;
+        this.modelProperties = modelProperties;
+        this.aiServiceFactory = aiServiceFactory;
+        this.state = modelProperties.getValidation().isEnabled() ? State.PENDING : State.DISABLED;
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        // 조율 스레드 하나와 프로바이더마다 하나씩
+        this.executor = Executors.newFixedThreadPool(aiServices.size() + 1, runnable -> {
+            Thread thread = new Thread(runnable, "model-validation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
     
-    @PostConstruct
-    public void validateModels() {
-        if (!modelProperties.getValidation().isEnabled()) {
+    @Override
+    public void onApplicationReady() {
+        if (state == State.DISABLED) {
             log.info("AI 모델 검증이 비활성화되었습니다");
+            executor.shutdown();
             return;
         }
-        
+        executor.execute(() -> {
+            try {
+                validateModels();
+            } finally {
+                executor.shutdown();
+            }
+        });
+    }
+    
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+    
+    public State getState() {
+        return state;
+    }
+    
+    /**
+     * @return 아직 시작하지 않았으면 null
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+    
+    /**
+     * @return 아직 끝나지 않았으면 null
+     */
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+    
+    /**
+     * 모델 ID별 검증 결과. 모델 목록을 가져오지 못한 프로바이더의 모델은 포함하지 않습니다.
+     */
+    public Map<String, ModelValidationStatus> getResults() {
+        return results;
+    }
+    
+    /**
+     * 모든 프로바이더를 병렬로 검증하고 기한 안에 끝나지 않은 검증은 중단합니다.
+     */
+    void validateModels() {
+        state = State.RUNNING;
+        startedAt = Instant.now();
         if (modelProperties.getValidation().isVerbose()) {
             log.info("=".repeat(80));
             log.info("AI 모델 검증 시작");
             log.info("=".repeat(80));
         }
         
-        List<CompletableFuture<Void>> validationTasks = aiServices.stream()
-                .map(service -> CompletableFuture.runAsync(() -> validateService(service)))
-                .collect(Collectors.toList());
+        List<Callable<Map<String, ModelValidationStatus>>> tasks = aiServices.stream()
+                .<Callable<Map<String, ModelValidationStatus>>>map(service -> () -> validateService(service))
+                .toList();
+        Map<String, ModelValidationStatus> validated = new LinkedHashMap<>();
+        try {
+            long deadlineMs = modelProperties.getValidation().getDeadlineMs();
+            List<Future<Map<String, ModelValidationStatus>>> futures = deadlineMs > 0
+                    ? executor.invokeAll(tasks, deadlineMs, TimeUnit.MILLISECONDS)
+                    : executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                validated.putAll(resultOf(aiServices.get(i), futures.get(i)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
         
-        CompletableFuture.allOf(validationTasks.toArray(new CompletableFuture[0])).join();
+        results = Map.copyOf(validated);
+        aiServiceFactory.publishValidation(results);
+        completedAt = Instant.now();
+        state = State.COMPLETED;
         
         if (modelProperties.getValidation().isVerbose()) {
             log.info("=".repeat(80));
-            log.info("AI 모델 검증 완료");
+            log.info("AI 모델 검증 완료: {}ms", completedAt.toEpochMilli() - startedAt.toEpochMilli());
             log.info("=".repeat(80));
         }
     }
     
-    private void validateService(AIService service) {
-        String providerName = service.getProviderName();
-        
+    private Map<String, ModelValidationStatus> resultOf(AIService service, Future<Map<String, ModelValidationStatus>> future) {
         try {
-            boolean isHealthy = service.isHealthy();
-            
-            if (isHealthy) {
-                if (modelProperties.getValidation().isVerbose()) {
-                    log.info("[{}] 연결 성공 - API 정상 작동", providerName);
-                }
-                validateModels(service);
-            } else {
-                log.warn("[{}] 연결 실패 - API 키 또는 네트워크 확인 필요", providerName);
-                markModelsUnavailable(service);
-            }
-        } catch (Exception e) {
-            log.error("[{}] 검증 중 오류 발생: {}", providerName, e.getMessage());
-            markModelsUnavailable(service);
+            return future.get();
+        } catch (CancellationException e) {
+            log.warn("[{}] 검증 기한({}ms) 초과", service.getProviderName(), modelProperties.getValidation().getDeadlineMs());
+            return statusOfAll(service, ModelValidationStatus.TIMED_OUT);
+        } catch (ExecutionException e) {
+            log.error("[{}] 검증 중 오류 발생: {}", service.getProviderName(), e.getCause().getMessage());
+            return markModelsUnavailable(service);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
         }
     }
     
-    private void validateModels(AIService service) {
-        List<String> actualModelIds = service.getActualModelIds();
-        List<ModelInfo> definedModels = service.getAvailableModels();
+    /**
+     * 모델 목록 조회 한 번으로 연결과 모델을 함께 확인합니다. 목록이 비어 있을 때만 헬스체크로 연결 실패인지 구분합니다.
+     */
+    private Map<String, ModelValidationStatus> validateService(AIService service) {
+        String providerName = service.getProviderName();
         
+        List<String> actualModelIds = service.getActualModelIds();
         if (actualModelIds.isEmpty()) {
-            log.warn("[{}] API에서 모델 목록을 가져올 수 없습니다", service.getProviderName());
-            return;
+            if (!service.isHealthy()) {
+                log.warn("[{}] 연결 실패 - API 키 또는 네트워크 확인 필요", providerName);
+                return markModelsUnavailable(service);
+            }
+            log.warn("[{}] API에서 모델 목록을 가져올 수 없습니다", providerName);
+            return Map.of();
         }
         
         if (modelProperties.getValidation().isVerbose()) {
-            log.info("[{}] API에서 {} 개의 모델을 발견했습니다", 
-                    service.getProviderName(), 
-                    actualModelIds.size());
+            log.info("[{}] 연결 성공 - API에서 {} 개의 모델을 발견했습니다", providerName, actualModelIds.size());
         }
-        
-        for (ModelInfo model : definedModels) {
+        return validateModels(service, actualModelIds);
+    }
+    
+    private Map<String, ModelValidationStatus> validateModels(AIService service, List<String> actualModelIds) {
+        Map<String, ModelValidationStatus> statuses = new LinkedHashMap<>();
+        for (ModelInfo model : service.getAvailableModels()) {
             boolean exists = actualModelIds.stream()
                     .anyMatch(id -> id.contains(model.getId()) || model.getId().contains(id));
+            statuses.put(model.getId(), exists ? ModelValidationStatus.VERIFIED : ModelValidationStatus.NOT_FOUND);
             
             if (modelProperties.getValidation().isVerbose()) {
                 if (exists) {
@@ -97,12 +207,20 @@ public class ModelValidationService {
                 log.warn("[{}] ✗ 모델 미확인: {}", service.getProviderName(), model.getId());
             }
         }
+        return statuses;
     }
     
-    private void markModelsUnavailable(AIService service) {
+    private Map<String, ModelValidationStatus> markModelsUnavailable(AIService service) {
         List<ModelInfo> models = service.getAvailableModels();
         log.warn("[{}] {} 개의 모델을 사용할 수 없습니다", 
                 service.getProviderName(), 
                 models.size());
+        return statusOfAll(service, ModelValidationStatus.PROVIDER_UNAVAILABLE);
+    }
+    
+    private static Map<String, ModelValidationStatus> statusOfAll(AIService service, ModelValidationStatus status) {
+        Map<String, ModelValidationStatus> statuses = new LinkedHashMap<>();
+        service.getAvailableModels().forEach(model -> statuses.put(model.getId(), status));
+        return statuses;
     }
 }
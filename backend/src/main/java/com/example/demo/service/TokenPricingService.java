@@ -1,59 +1,71 @@
 package com.example.demo.service;
 
+import com.example.demo.service.catalog.ModelCatalog;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.catalog.ModelPrice;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * 모델별 토큰 가격으로 비용을 계산합니다.
+ * 
+ * 내장 가격 위에 모델 카탈로그의 가격을 덮어쓴 맵을 카탈로그가 바뀔 때마다 새로 만들어 교체하므로
+ * 비용 계산은 잠금 없이 현재 맵만 읽습니다.
+ */
 @Service
 public class TokenPricingService {
     
-    private static final Map<String, TokenPrice> MODEL_PRICES = new HashMap<>();
+    private static final Map<String, ModelPrice> DEFAULT_PRICES = new HashMap<>();
     
     static {
-        MODEL_PRICES.put("gpt-5.2", new TokenPrice(0.00000175, 0.000014));
-        MODEL_PRICES.put("gpt-5.2-pro", new TokenPrice(0.000021, 0.000168));
-        MODEL_PRICES.put("gpt-5.1", new TokenPrice(0.00000125, 0.00001));
-        MODEL_PRICES.put("gpt-5.1-pro", new TokenPrice(0.000015, 0.000075));
-        MODEL_PRICES.put("gpt-5-mini", new TokenPrice(0.000001, 0.000005));
-        MODEL_PRICES.put("gpt-3.5-turbo", new TokenPrice(0.0000005, 0.0000015));
+        DEFAULT_PRICES.put("gpt-5.2", new ModelPrice(0.00000175, 0.000014));
+        DEFAULT_PRICES.put("gpt-5.2-pro", new ModelPrice(0.000021, 0.000168));
+        DEFAULT_PRICES.put("gpt-5.1", new ModelPrice(0.00000125, 0.00001));
+        DEFAULT_PRICES.put("gpt-5.1-pro", new ModelPrice(0.000015, 0.000075));
+        DEFAULT_PRICES.put("gpt-5-mini", new ModelPrice(0.000001, 0.000005));
+        DEFAULT_PRICES.put("gpt-3.5-turbo", new ModelPrice(0.0000005, 0.0000015));
         
-        MODEL_PRICES.put("claude-sonnet-4-5-20250929", new TokenPrice(0.000003, 0.000015));
-        MODEL_PRICES.put("claude-haiku-4-5-20251001", new TokenPrice(0.000001, 0.000005));
-        MODEL_PRICES.put("claude-3-5-haiku-20241022", new TokenPrice(0.0000008, 0.000004));
-        MODEL_PRICES.put("claude-3-haiku-20240307", new TokenPrice(0.00000025, 0.00000125));
+        DEFAULT_PRICES.put("claude-sonnet-4-5-20250929", new ModelPrice(0.000003, 0.000015));
+        DEFAULT_PRICES.put("claude-haiku-4-5-20251001", new ModelPrice(0.000001, 0.000005));
+        DEFAULT_PRICES.put("claude-3-5-haiku-20241022", new ModelPrice(0.0000008, 0.000004));
+        DEFAULT_PRICES.put("claude-3-haiku-20240307", new ModelPrice(0.00000025, 0.00000125));
         
-        MODEL_PRICES.put("gemini-3-pro-preview", new TokenPrice(0.000002, 0.000012));
-        MODEL_PRICES.put("gemini-2.5-flash", new TokenPrice(0.0000003, 0.0000025));
-        MODEL_PRICES.put("gemini-2.5-flash-lite", new TokenPrice(0.0000001, 0.0000004));
+        DEFAULT_PRICES.put("gemini-3-pro-preview", new ModelPrice(0.000002, 0.000012));
+        DEFAULT_PRICES.put("gemini-2.5-flash", new ModelPrice(0.0000003, 0.0000025));
+        DEFAULT_PRICES.put("gemini-2.5-flash-lite", new ModelPrice(0.0000001, 0.0000004));
+    }
+    
+    private volatile Map<String, ModelPrice> prices;
+    
+    public TokenPricingService(ModelCatalogService catalogService) {
+        this.prices = merge(catalogService.getCatalog());
+        catalogService.subscribe(catalog -> this.prices = merge(catalog));
     }
     
     public double calculateCost(String modelId, int inputTokens, int outputTokens) {
-        TokenPrice price = MODEL_PRICES.get(modelId);
+        ModelPrice price = modelId != null ? prices.get(modelId) : null;
         if (price == null) {
             return 0.0;
         }
         
-        return (inputTokens * price.inputPricePerToken) + (outputTokens * price.outputPricePerToken);
+        return (inputTokens * price.inputPricePerToken()) + (outputTokens * price.outputPricePerToken());
     }
     
     public double calculateCostFromTotal(String modelId, int totalTokens) {
-        TokenPrice price = MODEL_PRICES.get(modelId);
+        ModelPrice price = modelId != null ? prices.get(modelId) : null;
         if (price == null) {
             return 0.0;
         }
         
-        double avgPrice = (price.inputPricePerToken + price.outputPricePerToken) / 2;
+        double avgPrice = (price.inputPricePerToken() + price.outputPricePerToken()) / 2;
         return totalTokens * avgPrice;
     }
     
-    private static class TokenPrice {
-        final double inputPricePerToken;
-        final double outputPricePerToken;
-        
-        TokenPrice(double inputPricePerToken, double outputPricePerToken) {
-            this.inputPricePerToken = inputPricePerToken;
-            this.outputPricePerToken = outputPricePerToken;
-        }
+    private static Map<String, ModelPrice> merge(ModelCatalog catalog) {
+        Map<String, ModelPrice> merged = new HashMap<>(DEFAULT_PRICES);
+        merged.putAll(catalog.getPrices());
+        return Map.copyOf(merged);
     }
 }
@@ -0,0 +1,282 @@
+package com.example.demo.service.accesslog;
+
+import com.example.demo.config.properties.AIAccessLogProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * /generate, /generate/stream 과 세션 메시지(/sessions/{id}/messages, /messages/stream) 호출마다 고정된 필드의 접근 로그 이벤트를 남깁니다.
+ * 
+ * 요청 스레드는 미리 만들어 둔 링 버퍼 슬롯에 값만 채우고, 백그라운드 작성 스레드 하나가 한 줄 JSON 으로 만들어
+ * ai.access 로거에 씁니다. 성공 이벤트는 ai.access-log.success-sample-rate 비율로 표본을 남기며 버퍼가
+ * ai.access-log.error-reserve 만큼 남았을 때부터 버립니다. 오류 이벤트는 표본 추출 없이 남은 자리를 모두 쓸 수 있고,
+ * 버퍼가 가득 차면 작성 스레드가 자리를 비울 때까지 최대 ai.access-log.error-wait-ms 동안 기다린 뒤 버립니다(reason=overflow).
+ * 요청 스레드가 작성 스레드나 그 뒤의 appender 에 묶이지 않도록 기다리는 시간을 제한합니다.
+ * 
+ * - ai.access-log.written: 기록한 이벤트 수
+ * - ai.access-log.dropped: 버린 이벤트 수 (reason=sampled|overflow)
+ * - ai.access-log.error.waits: 버퍼가 가득 차 기다린 오류 이벤트 수
+ * - ai.access-log.backlog: 아직 기록하지 않은 이벤트 수
+ */
+@Slf4j
+@Component
+public class AccessLog {
+    
+    public static final String GENERATE = "generate";
+    public static final String STREAM = "stream";
+    public static final String SESSION = "session";
+    public static final String SESSION_STREAM = "session-stream";
+    
+    static final String OK = "ok";
+    static final String ERROR = "error";
+    static final String CANCELLED = "cancelled";
+    
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ai.access");
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    
+    private final AIAccessLogProperties properties;
+    private final Consumer<String> sink;
+    private final AccessLogRingBuffer buffer;
+    private final int successLimit;
+    private final StringBuilder line = new StringBuilder(256);
+    private final Counter written;
+    private final Counter sampled;
+    private final Counter overflow;
+    private final Counter errorWaits;
+    
+    private volatile boolean running;
+    private volatile Thread writer;
+    
+    @Autowired
+    public AccessLog(AIAccessLogProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, ACCESS_LOG::info);
+    }
+    
+    AccessLog(AIAccessLogProperties properties, MeterRegistry meterRegistry, Consumer<String> sink) {
+        this.properties = properties;
+        this.sink = sink;
+        this.buffer = new AccessLogRingBuffer(properties.isEnabled() ? properties.getCapacity() : 2);
+        this.successLimit = Math.max(1, buffer.capacity() - properties.getErrorReserve());
+        this.written = Counter.builder("ai.access-log.written")
+                .description("기록한 접근 로그 이벤트 수")
+                .register(meterRegistry);
+        this.sampled = droppedCounter(meterRegistry, "sampled");
+        this.overflow = droppedCounter(meterRegistry, "overflow");
+        this.errorWaits = Counter.builder("ai.access-log.error.waits")
+                .description("버퍼가 가득 차 자리가 날 때까지 기다린 오류 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.access-log.backlog", buffer, AccessLogRingBuffer::size)
+                .description("아직 기록하지 않은 접근 로그 이벤트 수")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::drain, "ai-access-log");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * @param resolvedModel 라우팅 후 실제로 사용한 모델
+     */
+    public void success(String endpoint, GenerateRequest request, String resolvedModel, Integer tokens, long startNanos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        double rate = properties.getSuccessSampleRate();
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            sampled.increment();
+            return;
+        }
+        
+        long sequence = buffer.tryClaim(successLimit);
+        if (sequence < 0) {
+            overflow.increment();
+            return;
+        }
+        fill(buffer.slot(sequence), endpoint, request, resolvedModel, OK, null, tokens, startNanos);
+        buffer.publish(sequence);
+    }
+    
+    public void cancelled(String endpoint, GenerateRequest request, long startNanos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long sequence = buffer.tryClaim(successLimit);
+        if (sequence < 0) {
+            overflow.increment();
+            return;
+        }
+        fill(buffer.slot(sequence), endpoint, request, null, CANCELLED, null, null, startNanos);
+        buffer.publish(sequence);
+    }
+    
+    public void failure(String endpoint, GenerateRequest request, Throwable error, long startNanos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long sequence = buffer.tryClaim(buffer.capacity());
+        if (sequence < 0) {
+            sequence = awaitSlot();
+            if (sequence < 0) {
+                overflow.increment();
+                return;
+            }
+        }
+        fill(buffer.slot(sequence), endpoint, request, null, ERROR, errorCode(error), null, startNanos);
+        buffer.publish(sequence);
+    }
+    
+    private long awaitSlot() {
+        errorWaits.increment();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getErrorWaitMs());
+        long sequence;
+        while ((sequence = buffer.tryClaim(buffer.capacity())) < 0) {
+            if (!running || System.nanoTime() - deadline >= 0) {
+                return -1;
+            }
+            LockSupport.parkNanos(WAIT_PARK_NANOS);
+        }
+        return sequence;
+    }
+    
+    private static void fill(AccessLogEvent event, String endpoint, GenerateRequest request, String resolvedModel,
+                             String outcome, String errorCode, Integer tokens, long startNanos) {
+        event.timestamp = System.currentTimeMillis();
+        event.endpoint = endpoint;
+        event.caller = request.getCaller();
+        event.model = request.getModel();
+        event.resolvedModel = resolvedModel;
+        event.outcome = outcome;
+        event.errorCode = errorCode;
+        event.promptChars = request.getPrompt() != null ? request.getPrompt().length() : 0;
+        event.tokens = tokens != null ? tokens : -1;
+        event.durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+    
+    private static String errorCode(Throwable error) {
+        if (error instanceof AIServiceException serviceException && serviceException.getErrorCode() != null) {
+            return serviceException.getErrorCode();
+        }
+        return error.getClass().getSimpleName();
+    }
+    
+    private void drain() {
+        while (running || buffer.size() > 0) {
+            AccessLogEvent event = buffer.peek();
+            if (event == null) {
+                if (!running) {
+                    // 차지했지만 아직 공개되지 않은 슬롯이 남아 있을 수 있습니다
+                    LockSupport.parkNanos(WAIT_PARK_NANOS);
+                    if (buffer.peek() == null) {
+                        break;
+                    }
+                    continue;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            
+            format(event);
+            buffer.release(event);
+            try {
+                sink.accept(line.toString());
+                written.increment();
+            } catch (RuntimeException e) {
+                log.warn("접근 로그 기록 실패: {}", e.getMessage());
+            }
+        }
+    }
+    
+    private void format(AccessLogEvent event) {
+        line.setLength(0);
+        line.append("{\"ts\":").append(event.timestamp);
+        appendString("endpoint", event.endpoint);
+        appendString("caller", event.caller);
+        appendString("model", event.model);
+        appendString("resolvedModel", event.resolvedModel);
+        appendString("outcome", event.outcome);
+        appendString("errorCode", event.errorCode);
+        line.append(",\"promptChars\":").append(event.promptChars);
+        if (event.tokens >= 0) {
+            line.append(",\"tokens\":").append(event.tokens);
+        }
+        line.append(",\"durationMs\":").append(event.durationMicros / 1000).append('.');
+        long fraction = event.durationMicros % 1000;
+        if (fraction < 100) {
+            line.append('0');
+        }
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction).append('}');
+    }
+    
+    private void appendString(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+    
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ai.access-log.dropped")
+                .description("버린 접근 로그 이벤트 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
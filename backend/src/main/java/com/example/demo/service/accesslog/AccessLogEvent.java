@@ -0,0 +1,31 @@
+package com.example.demo.service.accesslog;
+
+/**
+ * 링 버퍼에 미리 만들어 두고 재사용하는 접근 로그 슬롯. 필드 구성은 고정이며 요청 스레드는 값만 채웁니다.
+ * 
+ * published 는 이 슬롯에 마지막으로 기록을 마친 시퀀스로, 작성 스레드는 이 값이 읽을 차례와 같을 때만 읽습니다.
+ */
+final class AccessLogEvent {
+    
+    volatile long published = -1;
+    
+    long timestamp;
+    String endpoint;
+    String caller;
+    String model;
+    String resolvedModel;
+    String outcome;
+    String errorCode;
+    int promptChars;
+    int tokens;
+    long durationMicros;
+    
+    void clear() {
+        endpoint = null;
+        caller = null;
+        model = null;
+        resolvedModel = null;
+        outcome = null;
+        errorCode = null;
+    }
+}
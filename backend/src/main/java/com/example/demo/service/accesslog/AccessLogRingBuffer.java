@@ -0,0 +1,76 @@
+package com.example.demo.service.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 요청 스레드가 쓰고 작성 스레드 하나가 읽는 고정 크기 링 버퍼.
+ * 
+ * 쓰는 쪽은 CAS 로 시퀀스를 하나 차지해 해당 슬롯을 채운 뒤 published 로 공개하고, 읽는 쪽은 차례가 된 슬롯이
+ * 공개될 때까지 기다렸다가 처리한 뒤 consumed 를 올려 슬롯을 돌려줍니다. 잠금과 요청마다의 할당이 없습니다.
+ */
+final class AccessLogRingBuffer {
+    
+    private final AccessLogEvent[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    
+    private volatile long consumed;
+    
+    AccessLogRingBuffer(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AccessLogEvent[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AccessLogEvent();
+        }
+    }
+    
+    int capacity() {
+        return slots.length;
+    }
+    
+    /**
+     * @param limit 차지한 뒤의 점유 수가 이 값을 넘으면 차지하지 않습니다
+     * @return 차지한 시퀀스, 자리가 없으면 -1
+     */
+    long tryClaim(int limit) {
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed >= limit) {
+                return -1;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+    
+    AccessLogEvent slot(long sequence) {
+        return slots[(int) (sequence & mask)];
+    }
+    
+    void publish(long sequence) {
+        slot(sequence).published = sequence;
+    }
+    
+    /**
+     * 작성 스레드 전용. 다음 차례 슬롯이 공개되지 않았으면 null.
+     */
+    AccessLogEvent peek() {
+        long sequence = consumed;
+        AccessLogEvent event = slot(sequence);
+        return event.published == sequence ? event : null;
+    }
+    
+    /**
+     * 작성 스레드 전용. peek 으로 얻은 슬롯을 처리한 뒤 돌려줍니다.
+     */
+    void release(AccessLogEvent event) {
+        event.clear();
+        consumed = consumed + 1;
+    }
+    
+    long size() {
+        return claimed.get() - consumed;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.service.cache;
+
+import com.example.demo.model.GenerateResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 크기(LRU)와 TTL 기반으로 만료되는 인메모리 응답 캐시.
+ */
+public class InMemoryResponseCache implements ResponseCache {
+    
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, CacheEntry> entries;
+    
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    
+    public InMemoryResponseCache(int maxEntries, Duration ttl, MeterRegistry meterRegistry, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > InMemoryResponseCache.this.maxEntries) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.expiredEvictions = evictionCounter(meterRegistry, "expired");
+        Gauge.builder("ai.cache.size", this, InMemoryResponseCache::size)
+                .description("응답 캐시 항목 수")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public Optional<GenerateResponse> get(String key) {
+        long now = clock.millis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(key);
+                expiredEvictions.increment();
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.response);
+        }
+    }
+    
+    @Override
+    public void put(String key, GenerateResponse response) {
+        CacheEntry entry = new CacheEntry(response, clock.millis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+    
+    @Override
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.cache.requests")
+                .description("응답 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("ai.cache.evictions")
+                .description("응답 캐시에서 제거된 항목 수")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+    
+    private static final class CacheEntry {
+        final GenerateResponse response;
+        final long expiresAt;
+        
+        CacheEntry(GenerateResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
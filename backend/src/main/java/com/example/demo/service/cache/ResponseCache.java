@@ -0,0 +1,17 @@
+package com.example.demo.service.cache;
+
+import com.example.demo.model.GenerateResponse;
+
+import java.util.Optional;
+
+/**
+ * AIService.generate 결과를 보관하는 응답 캐시.
+ */
+public interface ResponseCache {
+    
+    Optional<GenerateResponse> get(String key);
+    
+    void put(String key, GenerateResponse response);
+    
+    int size();
+}
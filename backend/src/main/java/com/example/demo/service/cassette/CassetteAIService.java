@@ -0,0 +1,75 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIService;
+import com.example.demo.service.GenerateRequestKeys;
+
+import java.util.List;
+
+/**
+ * 프로바이더 서비스를 감싸 생성 호출만 기록하거나 재생하는 AIService. 모델 목록과 기본값은 원래 서비스를 그대로 따릅니다.
+ */
+public abstract class CassetteAIService implements AIService {
+    
+    protected final AIService delegate;
+    protected final CassetteStore store;
+    
+    protected CassetteAIService(AIService delegate, CassetteStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+    
+    public AIService getDelegate() {
+        return delegate;
+    }
+    
+    @Override
+    public List<ModelInfo> getAvailableModels() {
+        return delegate.getAvailableModels();
+    }
+    
+    @Override
+    public boolean isModelSupported(String modelId) {
+        return delegate.isModelSupported(modelId);
+    }
+    
+    @Override
+    public boolean isHealthy() {
+        return delegate.isHealthy();
+    }
+    
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+    
+    @Override
+    public List<String> getActualModelIds() {
+        return delegate.getActualModelIds();
+    }
+    
+    @Override
+    public String getSystemInstruction() {
+        return delegate.getSystemInstruction();
+    }
+    
+    @Override
+    public int getDefaultMaxTokens() {
+        return delegate.getDefaultMaxTokens();
+    }
+    
+    @Override
+    public double getDefaultTemperature() {
+        return delegate.getDefaultTemperature();
+    }
+    
+    /**
+     * 응답 캐시와 같은 정규화 규칙으로 만든 요청 키. 프롬프트 앞뒤 공백만 다른 요청은 같은 응답으로 재생됩니다.
+     */
+    protected String key(GenerateRequest request) {
+        int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : getDefaultMaxTokens();
+        double temperature = request.getTemperature() != null ? request.getTemperature() : getDefaultTemperature();
+        return GenerateRequestKeys.of(request, getSystemInstruction(), maxTokens, temperature);
+    }
+}
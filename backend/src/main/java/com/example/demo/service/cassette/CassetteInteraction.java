@@ -0,0 +1,64 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 카세트 파일의 한 줄. 프로바이더 호출 하나의 요청 키와 응답(또는 오류)을 담습니다.
+ * 
+ * 스트리밍은 청크와 함께 직전 청크(첫 청크는 구독 시점)로부터의 간격을 delaysMs 에 밀리초로 기록합니다.
+ * 
+ * @param key GenerateRequestKeys 로 만든 요청 키
+ * @param kind generate 또는 stream
+ * @param durationMs 구독부터 응답 완료(또는 오류)까지 걸린 시간
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CassetteInteraction(
+        String key,
+        String kind,
+        String provider,
+        String model,
+        String text,
+        Integer tokensUsed,
+        Double costUsd,
+        List<String> chunks,
+        long[] delaysMs,
+        long durationMs,
+        String error,
+        String errorCode) {
+    
+    public static final String GENERATE = "generate";
+    public static final String STREAM = "stream";
+    
+    public static CassetteInteraction generated(String key, String provider, GenerateResponse response, long durationMs) {
+        return new CassetteInteraction(key, GENERATE, provider, response.getModel(), response.getGeneratedText(),
+                response.getTokensUsed(), response.getCostUsd(), null, null, durationMs, null, null);
+    }
+    
+    public static CassetteInteraction streamed(String key, String provider, String model, List<String> chunks,
+                                               long[] delaysMs, long durationMs, Throwable error) {
+        return new CassetteInteraction(key, STREAM, provider, model, null, null, null, List.copyOf(chunks), delaysMs,
+                durationMs, error != null ? String.valueOf(error.getMessage()) : null, errorCode(error));
+    }
+    
+    public static CassetteInteraction failed(String key, String provider, String model, Throwable error, long durationMs) {
+        return new CassetteInteraction(key, GENERATE, provider, model, null, null, null, null, null, durationMs,
+                String.valueOf(error.getMessage()), errorCode(error));
+    }
+    
+    @JsonIgnore
+    public boolean isFailed() {
+        return error != null;
+    }
+    
+    private static String errorCode(Throwable error) {
+        if (error == null) {
+            return null;
+        }
+        return error instanceof AIServiceException e ? e.getErrorCode() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.service.cassette;
+
+public enum CassetteMode {
+    
+    /**
+     * 프로바이더를 그대로 호출합니다.
+     */
+    OFF,
+    
+    /**
+     * 프로바이더를 호출하고 요청과 응답을 카세트 파일에 기록합니다.
+     */
+    RECORD,
+    
+    /**
+     * 프로바이더를 호출하지 않고 카세트 파일에 기록된 응답을 돌려줍니다.
+     */
+    REPLAY
+}
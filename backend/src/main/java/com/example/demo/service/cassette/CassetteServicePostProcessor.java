@@ -0,0 +1,38 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.config.properties.AICassetteProperties;
+import com.example.demo.service.AIService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * ai.cassette.mode 가 record 나 replay 면 모든 AIService 빈을 기록/재생 서비스로 감쌉니다.
+ * 
+ * 빈 단계에서 감싸므로 AIServiceFactory, 헬스 모니터, 모델 검증 등 AIService 를 주입받는 모든 곳이 같은 모드로 동작합니다.
+ */
+@Component
+public class CassetteServicePostProcessor implements BeanPostProcessor {
+    
+    private final ObjectProvider<AICassetteProperties> properties;
+    private final ObjectProvider<CassetteStore> store;
+    
+    public CassetteServicePostProcessor(ObjectProvider<AICassetteProperties> properties, ObjectProvider<CassetteStore> store) {
+        this.properties = properties;
+        this.store = store;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof AIService service) || bean instanceof CassetteAIService) {
+            return bean;
+        }
+        
+        AICassetteProperties cassette = properties.getObject();
+        return switch (cassette.getMode()) {
+            case RECORD -> new RecordingAIService(service, store.getObject());
+            case REPLAY -> new ReplayingAIService(service, store.getObject(), cassette.getSpeed());
+            case OFF -> bean;
+        };
+    }
+}
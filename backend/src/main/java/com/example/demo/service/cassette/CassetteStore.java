@@ -0,0 +1,118 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.config.properties.AICassetteProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * ai.cassette.path 디렉터리의 카세트 파일(프로바이더별 NDJSON)을 읽고 씁니다.
+ * 
+ * 기록 모드에서는 호출이 끝날 때마다 &lt;provider&gt;.ndjson 끝에 한 줄씩 덧붙이므로 중간에 종료돼도 그때까지의 기록은 남습니다.
+ * 재생 모드에서는 기동 시 모든 파일을 읽어 두고, 같은 요청 키가 여러 번 기록됐으면 기록된 순서대로 돌아가며 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class CassetteStore {
+    
+    static final String EXTENSION = ".ndjson";
+    
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final Map<String, List<CassetteInteraction>> interactions;
+    private final Map<String, AtomicInteger> cursors = new HashMap<>();
+    
+    public CassetteStore(AICassetteProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(properties.getPath() == null || properties.getPath().isBlank() ? "cassettes" : properties.getPath())
+                .toAbsolutePath()
+                .normalize();
+        this.interactions = properties.getMode() == CassetteMode.REPLAY ? load() : Map.of();
+        this.interactions.keySet().forEach(key -> cursors.put(key, new AtomicInteger()));
+        
+        if (properties.getMode() != CassetteMode.OFF) {
+            log.info("프로바이더 카세트 {} 모드: directory={}, interactions={}", properties.getMode(), directory, size());
+        }
+    }
+    
+    /**
+     * @return 기록된 호출이 없으면 null
+     */
+    public CassetteInteraction find(String kind, String key) {
+        String id = id(kind, key);
+        List<CassetteInteraction> recorded = interactions.get(id);
+        if (recorded == null) {
+            return null;
+        }
+        int index = Math.floorMod(cursors.get(id).getAndIncrement(), recorded.size());
+        return recorded.get(index);
+    }
+    
+    public synchronized void append(CassetteInteraction interaction) {
+        Path file = directory.resolve(interaction.provider().toLowerCase(Locale.ROOT) + EXTENSION);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(file, objectMapper.writeValueAsString(interaction) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("카세트 기록 실패: file={}, error={}", file, e.getMessage());
+        }
+    }
+    
+    public int size() {
+        return interactions.values().stream().mapToInt(List::size).sum();
+    }
+    
+    public Path getDirectory() {
+        return directory;
+    }
+    
+    private Map<String, List<CassetteInteraction>> load() {
+        if (!Files.isDirectory(directory)) {
+            log.warn("카세트 디렉터리가 없어 모든 요청이 재생에 실패합니다: {}", directory);
+            return Map.of();
+        }
+        
+        Map<String, List<CassetteInteraction>> loaded = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).sorted().toList()) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        CassetteInteraction interaction = objectMapper.readValue(line, CassetteInteraction.class);
+                        loaded.computeIfAbsent(id(interaction.kind(), interaction.key()), id -> new ArrayList<>()).add(interaction);
+                    } catch (JsonProcessingException e) {
+                        log.warn("카세트 항목을 건너뜁니다: file={}, error={}", file, e.getOriginalMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카세트 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+        
+        Map<String, List<CassetteInteraction>> result = new HashMap<>();
+        loaded.forEach((id, recorded) -> result.put(id, List.copyOf(recorded)));
+        return Map.copyOf(result);
+    }
+    
+    private static String id(String kind, String key) {
+        return kind + ':' + key;
+    }
+}
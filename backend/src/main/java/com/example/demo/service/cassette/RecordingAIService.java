@@ -0,0 +1,67 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.AIService;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로바이더를 호출하고 응답과 오류를 카세트에 기록합니다. 스트리밍은 청크 사이 간격도 함께 기록하며,
+ * 도중에 취소된 스트림은 재생할 수 없으므로 기록하지 않습니다.
+ */
+public class RecordingAIService extends CassetteAIService {
+    
+    public RecordingAIService(AIService delegate, CassetteStore store) {
+        super(delegate, store);
+    }
+    
+    @Override
+    public GenerateResponse generate(GenerateRequest request) {
+        String key = key(request);
+        long startTime = System.nanoTime();
+        try {
+            GenerateResponse response = delegate.generate(request);
+            store.append(CassetteInteraction.generated(key, getProviderName(), response, elapsedMillis(startTime)));
+            return response;
+        } catch (AIServiceException e) {
+            store.append(CassetteInteraction.failed(key, getProviderName(), request.getModel(), e, elapsedMillis(startTime)));
+            throw e;
+        }
+    }
+    
+    @Override
+    public Flux<String> generateStream(GenerateRequest request) {
+        return Flux.defer(() -> {
+            String key = key(request);
+            List<String> chunks = new ArrayList<>();
+            List<Long> delays = new ArrayList<>();
+            long startTime = System.nanoTime();
+            long[] lastTime = {startTime};
+            
+            return delegate.generateStream(request)
+                    .doOnNext(chunk -> {
+                        long now = System.nanoTime();
+                        delays.add(TimeUnit.NANOSECONDS.toMillis(now - lastTime[0]));
+                        lastTime[0] = now;
+                        chunks.add(chunk);
+                    })
+                    .doOnComplete(() -> store.append(CassetteInteraction.streamed(key, getProviderName(), request.getModel(),
+                            chunks, toArray(delays), elapsedMillis(startTime), null)))
+                    .doOnError(e -> store.append(CassetteInteraction.streamed(key, getProviderName(), request.getModel(),
+                            chunks, toArray(delays), elapsedMillis(startTime), e)));
+        });
+    }
+    
+    private static long[] toArray(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+    
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
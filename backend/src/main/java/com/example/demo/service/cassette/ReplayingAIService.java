@@ -0,0 +1,112 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.AIService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 프로바이더를 호출하지 않고 카세트에 기록된 응답을 기록 당시의 시간 간격으로 돌려줍니다.
+ * 
+ * speed 가 2 면 두 배 빠르게, 0 이하면 지연 없이 재생합니다. 기록되지 않은 요청은 CASSETTE_MISS 오류로 실패하며,
+ * 헬스체크와 실제 모델 목록 조회도 네트워크 없이 처리합니다.
+ */
+public class ReplayingAIService extends CassetteAIService {
+    
+    private final double speed;
+    
+    public ReplayingAIService(AIService delegate, CassetteStore store, double speed) {
+        super(delegate, store);
+        this.speed = speed;
+    }
+    
+    @Override
+    public GenerateResponse generate(GenerateRequest request) {
+        CassetteInteraction interaction = store.find(CassetteInteraction.GENERATE, key(request));
+        if (interaction == null) {
+            throw miss(request);
+        }
+        
+        long durationMs = scaled(interaction.durationMs());
+        try {
+            Thread.sleep(durationMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIServiceException("카세트 재생이 중단되었습니다", e, getProviderName());
+        }
+        if (interaction.isFailed()) {
+            throw recordedError(interaction);
+        }
+        
+        return GenerateResponse.builder()
+                .generatedText(interaction.text())
+                .model(interaction.model())
+                .tokensUsed(interaction.tokensUsed())
+                .processingTimeMs(durationMs)
+                .costUsd(interaction.costUsd())
+                .build();
+    }
+    
+    @Override
+    public Flux<String> generateStream(GenerateRequest request) {
+        return Flux.defer(() -> {
+            CassetteInteraction interaction = store.find(CassetteInteraction.STREAM, key(request));
+            if (interaction == null) {
+                return Flux.error(miss(request));
+            }
+            
+            List<String> chunks = interaction.chunks() != null ? interaction.chunks() : List.of();
+            long[] delays = interaction.delaysMs() != null ? interaction.delaysMs() : new long[0];
+            Flux<String> replay = Flux.range(0, chunks.size())
+                    .concatMap(index -> delay(Mono.just(chunks.get(index)), index < delays.length ? delays[index] : 0));
+            
+            if (!interaction.isFailed()) {
+                return replay;
+            }
+            long elapsedMs = 0;
+            for (long delayMs : delays) {
+                elapsedMs += delayMs;
+            }
+            return replay.concatWith(delay(Mono.error(recordedError(interaction)), interaction.durationMs() - elapsedMs));
+        });
+    }
+    
+    @Override
+    public boolean isHealthy() {
+        return true;
+    }
+    
+    @Override
+    public List<String> getActualModelIds() {
+        return List.of();
+    }
+    
+    private <T> Mono<T> delay(Mono<T> signal, long recordedMs) {
+        long delayMs = scaled(recordedMs);
+        return delayMs > 0 ? signal.delaySubscription(Duration.ofMillis(delayMs)) : signal;
+    }
+    
+    private long scaled(long recordedMs) {
+        if (speed <= 0 || recordedMs <= 0) {
+            return 0;
+        }
+        return Math.round(recordedMs / speed);
+    }
+    
+    private AIServiceException recordedError(CassetteInteraction interaction) {
+        return new AIServiceException(interaction.error(), getProviderName(),
+                interaction.errorCode() != null ? interaction.errorCode() : "UNKNOWN");
+    }
+    
+    private AIServiceException miss(GenerateRequest request) {
+        return new AIServiceException(
+                String.format("카세트에 기록되지 않은 요청입니다: provider=%s, model=%s", getProviderName(), request.getModel()),
+                getProviderName(),
+                "CASSETTE_MISS");
+    }
+}
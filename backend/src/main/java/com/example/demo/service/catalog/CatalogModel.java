@@ -0,0 +1,15 @@
+package com.example.demo.service.catalog;
+
+/**
+ * 카탈로그 파일의 모델 항목. 가격은 100만 토큰당 USD 이며 생략하면 기본 가격을 사용합니다.
+ * context-window 를 생략하면 요청 전 컨텍스트 크기 확인을 하지 않습니다.
+ */
+public record CatalogModel(
+        String id,
+        String name,
+        String provider,
+        Boolean available,
+        Integer contextWindow,
+        Double inputPrice,
+        Double outputPrice) {
+}
@@ -0,0 +1,121 @@
+package com.example.demo.service.catalog;
+
+import com.example.demo.model.ModelInfo;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 파일에서 읽은 모델 목록과 가격의 불변 스냅샷.
+ * 
+ * 카탈로그에 등장한 프로바이더는 서비스에 내장된 모델 목록 대신 카탈로그의 목록을 사용하고,
+ * 등장하지 않은 프로바이더는 내장 목록을 그대로 사용합니다.
+ */
+public final class ModelCatalog {
+    
+    private static final ModelCatalog EMPTY = new ModelCatalog(List.of(), null);
+    
+    private final Map<String, List<ModelInfo>> modelsByProvider;
+    private final Map<String, Set<String>> modelIdsByProvider;
+    private final Map<String, ModelPrice> prices;
+    private final int size;
+    private final Instant loadedAt;
+    
+    private ModelCatalog(List<CatalogModel> models, Instant loadedAt) {
+        Map<String, List<ModelInfo>> providerModels = new LinkedHashMap<>();
+        Map<String, ModelPrice> modelPrices = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        
+        for (CatalogModel model : models) {
+            if (model.id() == null || model.id().isBlank() || model.provider() == null || model.provider().isBlank()) {
+                throw new IllegalArgumentException("모델 항목에 id 와 provider 가 필요합니다: " + model);
+            }
+            if (!seen.add(model.id())) {
+                throw new IllegalArgumentException("중복된 모델 ID: " + model.id());
+            }
+            if ((model.inputPrice() == null) != (model.outputPrice() == null)) {
+                throw new IllegalArgumentException("input-price 와 output-price 는 함께 지정해야 합니다: " + model.id());
+            }
+            
+            providerModels.computeIfAbsent(model.provider(), provider -> new ArrayList<>())
+                    .add(ModelInfo.builder()
+                            .id(model.id())
+                            .name(model.name() != null ? model.name() : model.id())
+                            .provider(model.provider())
+                            .available(model.available() == null || model.available())
+                            .contextWindow(model.contextWindow())
+                            .build());
+            if (model.inputPrice() != null) {
+                modelPrices.put(model.id(), ModelPrice.perMillion(model.inputPrice(), model.outputPrice()));
+            }
+        }
+        
+        this.modelsByProvider = providerModels.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+        this.modelIdsByProvider = providerModels.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+                        .map(ModelInfo::getId)
+                        .collect(Collectors.toUnmodifiableSet())));
+        this.prices = Map.copyOf(modelPrices);
+        this.size = seen.size();
+        this.loadedAt = loadedAt;
+    }
+    
+    /**
+     * @throws IllegalArgumentException 필수 값이 없거나 모델 ID가 중복된 경우
+     */
+    public static ModelCatalog of(List<CatalogModel> models) {
+        return new ModelCatalog(models, Instant.now());
+    }
+    
+    public static ModelCatalog empty() {
+        return EMPTY;
+    }
+    
+    /**
+     * @return 카탈로그에 프로바이더가 있으면 카탈로그의 모델 목록, 없으면 defaults
+     */
+    public List<ModelInfo> getModels(String provider, List<ModelInfo> defaults) {
+        return provider != null ? modelsByProvider.getOrDefault(provider, defaults) : defaults;
+    }
+    
+    /**
+     * @return 카탈로그에 프로바이더가 있으면 카탈로그 기준, 없으면 defaults 기준의 지원 여부
+     */
+    public boolean isModelSupported(String provider, String modelId, Set<String> defaults) {
+        return modelId != null && modelIdsByProvider.getOrDefault(provider, defaults).contains(modelId);
+    }
+    
+    /**
+     * @return 카탈로그에 가격이 없으면 null
+     */
+    public ModelPrice getPrice(String modelId) {
+        return modelId != null ? prices.get(modelId) : null;
+    }
+    
+    public Map<String, ModelPrice> getPrices() {
+        return prices;
+    }
+    
+    public Set<String> getProviders() {
+        return modelsByProvider.keySet();
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * @return 빈 카탈로그이면 null
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.demo.service.catalog;
+
+import com.example.demo.config.properties.AICatalogProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ai.catalog.path 의 YAML/JSON 카탈로그 파일을 읽어 모델 목록과 가격을 제공하고, 파일이 바뀌면 다시 읽습니다.
+ * 
+ * 새 카탈로그는 완전히 만들어진 뒤 참조 하나를 바꾸는 방식(copy-on-write)으로 교체되므로 요청 경로는 잠금 없이
+ * 현재 스냅샷을 읽습니다. 파일을 읽지 못하거나 내용이 잘못되면 이전 카탈로그를 유지합니다.
+ * 
+ * - ai.catalog.reload: 다시 읽는 데 걸린 시간 (outcome=success|failure)
+ * - ai.catalog.models: 현재 카탈로그의 모델 수
+ */
+@Slf4j
+@Service
+public class ModelCatalogService {
+    
+    private final AICatalogProperties properties;
+    private final ObjectMapper catalogMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<Consumer<ModelCatalog>> listeners = new CopyOnWriteArrayList<>();
+    private final Path path;
+    
+    private volatile ModelCatalog catalog = ModelCatalog.empty();
+    private volatile ReloadResult lastReload;
+    private WatchService watchService;
+    
+    public ModelCatalogService(AICatalogProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.catalogMapper = objectMapper.copy()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.meterRegistry = meterRegistry;
+        this.path = properties.getPath() == null || properties.getPath().isBlank()
+                ? null
+                : Path.of(properties.getPath()).toAbsolutePath().normalize();
+        
+        Gauge.builder("ai.catalog.models", this, service -> service.catalog.size())
+                .description("현재 카탈로그의 모델 수")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void start() {
+        if (path == null) {
+            log.debug("모델 카탈로그 경로가 설정되지 않아 내장 모델 목록과 가격을 사용합니다");
+            return;
+        }
+        
+        reload();
+        if (properties.isWatch()) {
+            startWatching();
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("모델 카탈로그 감시 종료 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+    
+    public ModelCatalog getCatalog() {
+        return catalog;
+    }
+    
+    /**
+     * 카탈로그가 교체될 때마다 새 카탈로그로 호출됩니다. 현재 카탈로그로는 호출하지 않습니다.
+     */
+    public void subscribe(Consumer<ModelCatalog> listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * @return 설정되지 않았으면 null
+     */
+    public Path getPath() {
+        return path;
+    }
+    
+    /**
+     * @return 아직 읽은 적이 없으면 null
+     */
+    public ReloadResult getLastReload() {
+        return lastReload;
+    }
+    
+    /**
+     * 카탈로그 파일을 다시 읽고 성공하면 현재 카탈로그를 교체합니다.
+     * 
+     * @return 교체했으면 true
+     */
+    public synchronized boolean reload() {
+        if (path == null) {
+            return false;
+        }
+        
+        long startTime = System.nanoTime();
+        try {
+            ModelCatalog loaded = parse(path);
+            long durationNanos = System.nanoTime() - startTime;
+            catalog = loaded;
+            lastReload = new ReloadResult(Instant.now(), TimeUnit.NANOSECONDS.toMillis(durationNanos), true, loaded.size(), null);
+            reloadTimer("success").record(durationNanos, TimeUnit.NANOSECONDS);
+            log.info("모델 카탈로그 로드 완료: path={}, models={}, providers={}", path, loaded.size(), loaded.getProviders());
+        } catch (Exception e) {
+            long durationNanos = System.nanoTime() - startTime;
+            lastReload = new ReloadResult(Instant.now(), TimeUnit.NANOSECONDS.toMillis(durationNanos), false, catalog.size(), e.getMessage());
+            reloadTimer("failure").record(durationNanos, TimeUnit.NANOSECONDS);
+            log.error("모델 카탈로그 로드 실패, 이전 카탈로그를 유지합니다: path={}, error={}", path, e.getMessage());
+            return false;
+        }
+        
+        for (Consumer<ModelCatalog> listener : listeners) {
+            try {
+                listener.accept(catalog);
+            } catch (RuntimeException e) {
+                log.error("모델 카탈로그 변경 반영 실패: {}", e.getMessage(), e);
+            }
+        }
+        return true;
+    }
+    
+    ModelCatalog parse(Path file) throws IOException {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        Object tree;
+        if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                tree = new Yaml(new SafeConstructor(new LoaderOptions())).load(reader);
+            }
+        } else {
+            tree = catalogMapper.readValue(file.toFile(), Object.class);
+        }
+        
+        CatalogFile catalogFile = tree == null ? null : catalogMapper.convertValue(tree, CatalogFile.class);
+        if (catalogFile == null || catalogFile.models() == null) {
+            throw new IllegalArgumentException("models 항목이 없습니다");
+        }
+        return ModelCatalog.of(catalogFile.models());
+    }
+    
+    private void startWatching() {
+        Path directory = path.getParent();
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.error("모델 카탈로그 감시 시작 실패: directory={}, error={}", directory, e.getMessage());
+            return;
+        }
+        
+        Thread watcher = new Thread(this::watch, "model-catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("모델 카탈로그 변경 감시 시작: {}", path);
+    }
+    
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = isCatalogEvent(key);
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+                
+                // 에디터와 배포 도구는 한 번의 변경을 여러 이벤트로 나눠 쓰므로 잠시 모아서 한 번만 읽습니다
+                Thread.sleep(properties.getDebounceMs());
+                WatchKey pending;
+                while ((pending = watchService.poll()) != null) {
+                    pending.pollEvents();
+                    pending.reset();
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("모델 카탈로그 감시 종료");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private boolean isCatalogEvent(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || path.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+    
+    private Timer reloadTimer(String outcome) {
+        return Timer.builder("ai.catalog.reload")
+                .description("모델 카탈로그를 다시 읽는 데 걸린 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 마지막으로 카탈로그를 읽은 결과.
+     * 
+     * @param models 실패한 경우 유지 중인 이전 카탈로그의 모델 수
+     */
+    public record ReloadResult(Instant reloadedAt, long durationMs, boolean success, int models, String error) {
+    }
+    
+    record CatalogFile(List<CatalogModel> models) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.service.catalog;
+
+/**
+ * 토큰당 가격 (USD).
+ */
+public record ModelPrice(double inputPricePerToken, double outputPricePerToken) {
+    
+    private static final double TOKENS_PER_MILLION = 1_000_000.0;
+    
+    public static ModelPrice perMillion(double inputPrice, double outputPrice) {
+        return new ModelPrice(inputPrice / TOKENS_PER_MILLION, outputPrice / TOKENS_PER_MILLION);
+    }
+}
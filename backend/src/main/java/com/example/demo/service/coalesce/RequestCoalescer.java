@@ -0,0 +1,117 @@
+package com.example.demo.service.coalesce;
+
+import com.example.demo.config.properties.AICoalescingProperties;
+import com.example.demo.model.GenerateResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 들어온 동일 요청을 하나의 프로바이더 호출로 병합합니다(single-flight).
+ * 
+ * generate는 먼저 도착한 요청의 결과를 모든 대기자가 공유하고, 스트리밍은 진행 중인 Flux에
+ * 나중에 합류한 구독자에게 이미 전송된 청크부터 재생(replay)합니다.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+    
+    private final AICoalescingProperties properties;
+    private final Map<String, CompletableFuture<GenerateResponse>> inFlightCalls = new ConcurrentHashMap<>();
+    private final Map<String, Flux<String>> inFlightStreams = new ConcurrentHashMap<>();
+    private final Counter joinedCalls;
+    private final Counter joinedStreams;
+    
+    public RequestCoalescer(AICoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.joinedCalls = joinedCounter(meterRegistry, "generate");
+        this.joinedStreams = joinedCounter(meterRegistry, "stream");
+        Gauge.builder("ai.coalescing.in.flight", inFlightCalls, Map::size)
+                .description("진행 중인 병합 대상 요청 수")
+                .tag("type", "generate")
+                .register(meterRegistry);
+        Gauge.builder("ai.coalescing.in.flight", inFlightStreams, Map::size)
+                .description("진행 중인 병합 대상 요청 수")
+                .tag("type", "stream")
+                .register(meterRegistry);
+    }
+    
+    public GenerateResponse execute(String key, Supplier<GenerateResponse> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        
+        CompletableFuture<GenerateResponse> leader = new CompletableFuture<>();
+        CompletableFuture<GenerateResponse> existing = inFlightCalls.putIfAbsent(key, leader);
+        if (existing != null) {
+            joinedCalls.increment();
+            log.debug("진행 중인 동일 요청에 합류: key={}", key);
+            return await(existing);
+        }
+        
+        try {
+            GenerateResponse response = call.get();
+            leader.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, leader);
+        }
+    }
+    
+    public Flux<String> executeStream(String key, Supplier<Flux<String>> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        
+        Flux<String> existing = inFlightStreams.get(key);
+        if (existing != null) {
+            joinedStreams.increment();
+            return existing;
+        }
+        
+        AtomicReference<Flux<String>> self = new AtomicReference<>();
+        Flux<String> shared = Flux.defer(call)
+                .doFinally(signal -> inFlightStreams.remove(key, self.get()))
+                .replay()
+                .refCount();
+        self.set(shared);
+        
+        existing = inFlightStreams.putIfAbsent(key, shared);
+        if (existing != null) {
+            joinedStreams.increment();
+            return existing;
+        }
+        return shared;
+    }
+    
+    private static GenerateResponse await(CompletableFuture<GenerateResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private static Counter joinedCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("ai.coalescing.joined")
+                .description("진행 중인 동일 요청에 합류한 요청 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.service.health;
+
+import com.example.demo.config.properties.AIHealthProperties;
+import com.example.demo.model.ProviderHealth;
+import com.example.demo.service.AIService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로바이더 상태를 백그라운드에서 주기적으로 확인하고 최신 결과를 메모리에 보관합니다.
+ * 
+ * /health 와 액추에이터 헬스 인디케이터는 이 스냅샷만 읽으므로 프로바이더 API를 호출하지 않습니다.
+ * 프로바이더마다 지터를 둔 간격으로 확인해 여러 인스턴스의 요청이 한 시점에 몰리지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ProviderHealthMonitor {
+    
+    private final List<AIService> aiServices;
+    private final AIHealthProperties properties;
+    private final Map<String, ProviderHealth> snapshot = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    
+    @Autowired
+    public ProviderHealthMonitor(List<AIService> aiServices, AIHealthProperties properties) {
+        this(aiServices, properties, newScheduler(aiServices.size()));
+    }
+    
+    ProviderHealthMonitor(List<AIService> aiServices, AIHealthProperties properties, ScheduledExecutorService scheduler) {
+        this.aiServices = aiServices;
+        this.properties = properties;
+        this.scheduler = scheduler;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (AIService service : aiServices) {
+            scheduler.schedule(() -> probe(service), randomDelay(0, properties.getJitterMs()), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+    
+    public Optional<ProviderHealth> getHealth(String provider) {
+        return Optional.ofNullable(snapshot.get(provider));
+    }
+    
+    public boolean isHealthy(String provider) {
+        ProviderHealth health = snapshot.get(provider);
+        return health != null && health.isHealthy();
+    }
+    
+    public Map<String, ProviderHealth> getSnapshot() {
+        return Map.copyOf(snapshot);
+    }
+    
+    void probe(AIService service) {
+        String provider = service.getProviderName();
+        long startTime = System.nanoTime();
+        boolean healthy;
+        try {
+            healthy = service.isHealthy();
+        } catch (Exception e) {
+            log.warn("[{}] 헬스체크 중 오류 발생: {}", provider, e.getMessage());
+            healthy = false;
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        Instant now = Instant.now();
+        
+        ProviderHealth previous = snapshot.get(provider);
+        snapshot.put(provider, ProviderHealth.builder()
+                .provider(provider)
+                .healthy(healthy)
+                .lastCheckedAt(now)
+                .lastSuccessAt(healthy ? now : previous != null ? previous.getLastSuccessAt() : null)
+                .latencyMs(latencyMs)
+                .consecutiveFailures(healthy ? 0 : previous != null ? previous.getConsecutiveFailures() + 1 : 1)
+                .build());
+        
+        if (previous != null && previous.isHealthy() != healthy) {
+            log.info("[{}] 상태 변경: {} -> {}", provider, previous.isHealthy() ? "UP" : "DOWN", healthy ? "UP" : "DOWN");
+        }
+        
+        if (!scheduler.isShutdown()) {
+            long delay = randomDelay(properties.getIntervalMs() - properties.getJitterMs(),
+                    properties.getIntervalMs() + properties.getJitterMs());
+            scheduler.schedule(() -> probe(service), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private static ScheduledExecutorService newScheduler(int providers) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newScheduledThreadPool(Math.max(1, providers), runnable -> {
+            Thread thread = new Thread(runnable, "ai-health-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    private static long randomDelay(long min, long max) {
+        long lower = Math.max(0, min);
+        return max > lower ? ThreadLocalRandom.current().nextLong(lower, max + 1) : lower;
+    }
+}
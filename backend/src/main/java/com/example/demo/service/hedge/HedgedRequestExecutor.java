@@ -0,0 +1,189 @@
+package com.example.demo.service.hedge;
+
+import com.example.demo.config.properties.AIHedgingProperties;
+import com.example.demo.exception.AIServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 모델별 최근 지연 시간의 백분위수를 넘도록 응답이 없으면 같은 요청을 한 번 더 보내고,
+ * 먼저 끝난 응답을 사용합니다.
+ * 
+ * 두 시도는 ai.hedging.max-threads 크기의 전용 스레드 풀에서 실행합니다. 풀이 가득 차 원 요청을 넘기지 못하면
+ * 호출 스레드에서 그대로 실행하고, 헤지를 넘기지 못하면 헤지 없이 원 요청을 계속 기다립니다.
+ * 
+ * 늦은 쪽은 작업 스레드를 인터럽트합니다. 동시성 한도 대기나 재시도 대기는 이것으로 멈추지만,
+ * 프로바이더 SDK 의 블로킹 HTTP 호출은 인터럽트로 닫히지 않아 응답이 올 때까지 연결을 계속 씁니다.
+ * 이렇게 버린 시도 수는 ai.hedge.losers 로 셉니다. 인터럽트로 끝난 쪽의 실패는 ProviderConcurrencyLimiter 가 과부하로 세지 않습니다.
+ * 
+ * 진행 중인 시도 수(outstanding)는 헤지를 실제로 보낼 때만 늘리므로, 마지막으로 실패한 시도가 항상 결과를 완료합니다.
+ * 
+ * 추가 요청 수는 HedgingBudget 으로 전체 요청의 ai.hedging.budget-percent% 이내로 제한합니다.
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+    
+    private static final int NONE = -1;
+    private static final int PRIMARY = 0;
+    private static final int HEDGE = 1;
+    
+    private final AIHedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final HedgingBudget budget;
+    private final ThreadPoolExecutor attempts;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    
+    public HedgedRequestExecutor(AIHedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.budget = new HedgingBudget(properties.getBudgetPercent(), properties.getMaxBurst());
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.attempts = new ThreadPoolExecutor(0, Math.max(1, properties.getMaxThreads()), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-hedge-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @PreDestroy
+    public void stop() {
+        attempts.shutdownNow();
+    }
+    
+    public <T> T execute(String provider, String modelId, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        
+        budget.onRequest();
+        LatencyWindow window = windows.computeIfAbsent(modelId, id -> new LatencyWindow(properties.getWindowSize()));
+        OptionalLong threshold = window.percentile(properties.getPercentile(), properties.getMinSamples());
+        if (threshold.isEmpty()) {
+            return callDirectly(call, window);
+        }
+        
+        long delayMs = Math.max(properties.getMinDelayMs(), threshold.getAsLong());
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        AtomicInteger winner = new AtomicInteger(NONE);
+        AtomicReference<Throwable> lastError = new AtomicReference<>();
+        Future<?> primary;
+        try {
+            primary = attempts.submit(() -> attempt(PRIMARY, call, window, result, outstanding, winner, lastError));
+        } catch (RejectedExecutionException e) {
+            counter("ai.hedge.rejected", "전용 스레드 풀이 가득 차 넘기지 못한 시도 수", modelId).increment();
+            return callDirectly(call, window);
+        }
+        Future<?> hedge = null;
+        
+        try {
+            try {
+                return result.get(delayMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (result.isDone() || !budget.tryAcquire()) {
+                    if (!result.isDone()) {
+                        counter("ai.hedge.budget.exhausted", "예산 부족으로 보내지 않은 헤지 요청 수", modelId).increment();
+                    }
+                    return result.get();
+                }
+                // 원 요청이 이미 실패해 0이 됐다면 result 도 이미 완료됐으므로 헤지를 보내지 않습니다
+                if (outstanding.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                    return result.get();
+                }
+                
+                try {
+                    hedge = attempts.submit(() -> attempt(HEDGE, call, window, result, outstanding, winner, lastError));
+                } catch (RejectedExecutionException rejected) {
+                    counter("ai.hedge.rejected", "전용 스레드 풀이 가득 차 넘기지 못한 시도 수", modelId).increment();
+                    // 헤지 몫으로 늘린 수를 되돌립니다. 그 사이 원 요청이 실패했다면 여기서 결과를 완료합니다
+                    if (outstanding.decrementAndGet() == 0) {
+                        result.completeExceptionally(lastError.get());
+                    }
+                    return result.get();
+                }
+                log.debug("헤지 요청 전송: model={}, delayMs={}", modelId, delayMs);
+                counter("ai.hedge.fired", "보낸 헤지 요청 수", modelId).increment();
+                T response = result.get();
+                if (winner.get() == HEDGE) {
+                    counter("ai.hedge.won", "원 요청보다 먼저 끝난 헤지 요청 수", modelId).increment();
+                }
+                return response;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIServiceException("헤지 요청 대기 중 인터럽트가 발생했습니다", e, provider);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AIServiceException("헤지 요청 처리 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause(), provider);
+        } finally {
+            int won = winner.get();
+            if (won != PRIMARY) {
+                abandon(primary, modelId);
+            }
+            if (hedge != null && won != HEDGE) {
+                abandon(hedge, modelId);
+            }
+        }
+    }
+    
+    private <T> T callDirectly(Supplier<T> call, LatencyWindow window) {
+        long startTime = System.nanoTime();
+        T result = call.get();
+        window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return result;
+    }
+    
+    private <T> void attempt(int attempt, Supplier<T> call, LatencyWindow window, CompletableFuture<T> result,
+                             AtomicInteger outstanding, AtomicInteger winner, AtomicReference<Throwable> lastError) {
+        long startTime = System.nanoTime();
+        try {
+            T response = call.get();
+            window.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            if (winner.compareAndSet(NONE, attempt)) {
+                result.complete(response);
+            }
+        } catch (Throwable e) {
+            lastError.set(e);
+            if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+    
+    private void abandon(Future<?> loser, String modelId) {
+        if (loser.cancel(true)) {
+            counter("ai.hedge.losers", "다른 시도가 먼저 끝나 인터럽트한 시도 수", modelId).increment();
+        }
+    }
+    
+    private Counter counter(String name, String description, String modelId) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("model", modelId)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.service.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 요청 비율을 제한하는 토큰 버킷.
+ * 
+ * 요청마다 budgetPercent 만큼 적립되고 헤지 요청 1건에 100이 차감되므로,
+ * 장기적으로 헤지 요청은 전체 요청의 budgetPercent% 를 넘지 않습니다.
+ */
+public class HedgingBudget {
+    
+    private static final long HEDGE_COST = 100_000;
+    
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance = new AtomicLong();
+    
+    public HedgingBudget(double budgetPercent, int maxBurst) {
+        this.depositPerRequest = Math.round(budgetPercent * 1_000);
+        this.capacity = HEDGE_COST * Math.max(1, maxBurst);
+    }
+    
+    public void onRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(capacity, current + deposit));
+    }
+    
+    public boolean tryAcquire() {
+        while (true) {
+            long current = balance.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.service.hedge;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 최근 N개의 응답 지연 시간을 보관하는 고정 크기 링 버퍼.
+ */
+public class LatencyWindow {
+    
+    private final long[] samples;
+    private int next;
+    private int count;
+    
+    public LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+    
+    public synchronized void record(long latencyMs) {
+        samples[next] = latencyMs;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+    
+    /**
+     * 표본이 minSamples 보다 적으면 비어 있는 값을 반환합니다.
+     */
+    public OptionalLong percentile(double percentile, int minSamples) {
+        long[] sorted;
+        synchronized (this) {
+            if (count == 0 || count < minSamples) {
+                return OptionalLong.empty();
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return OptionalLong.of(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+}
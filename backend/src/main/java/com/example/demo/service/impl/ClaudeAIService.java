@@ -1,17 +1,23 @@
 package com.example.demo.service.impl;
 
 import com.anthropic.client.AnthropicClient;
+import com.anthropic.core.RequestOptions;
 import com.anthropic.models.messages.Message;
 import com.anthropic.models.messages.MessageCreateParams;
 import com.anthropic.models.messages.MessageParam;
 import com.anthropic.models.messages.Model;
+import com.example.demo.config.AnthropicConfig;
+import com.example.demo.config.properties.AIClaudeProperties;
 import com.example.demo.exception.AIServiceException;
 import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.ConversationTurn;
 import com.example.demo.model.GenerateRequest;
 import com.example.demo.model.GenerateResponse;
 import com.example.demo.model.ModelInfo;
 import com.example.demo.service.AIService;
 import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.stream.ProviderStreamExecutor;
 import reactor.core.publisher.Flux;
 
 import java.util.stream.Collectors;
@@ -21,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Anthropic Claude AI Service Implementation
@@ -38,32 +45,42 @@ public class ClaudeAIService implements AIService {
                     .id("claude-sonnet-4-5-20250929")
                     .name("Claude 4.5 Sonnet")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(200_000)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("claude-haiku-4-5-20251001")
                     .name("Claude 4.5 Haiku")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(200_000)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("claude-3-5-haiku-20241022")
                     .name("Claude Haiku 3.5")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(200_000)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("claude-3-haiku-20240307")
                     .name("Claude Haiku 3")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(200_000)
                     .available(true)
                     .build()
     );
+    private static final Set<String> MODEL_IDS = AVAILABLE_MODELS.stream()
+            .map(ModelInfo::getId)
+            .collect(Collectors.toUnmodifiableSet());
     
     private final AnthropicClient client;
     private final TokenPricingService pricingService;
+    private final ModelCatalogService catalogService;
+    private final ProviderStreamExecutor streamExecutor;
+    private final AIClaudeProperties properties;
+    
     
-
     
     @Override
     public GenerateResponse generate(GenerateRequest request) {
@@ -76,20 +93,7 @@ public class ClaudeAIService implements AIService {
                 throw new ModelNotSupportedException(modelId, PROVIDER_NAME);
             }
             
-            MessageCreateParams.Builder paramsBuilder = MessageCreateParams.builder()
-                    .model(Model.of(modelId))
-                    .maxTokens(request.getMaxTokens() != null ? request.getMaxTokens().longValue() : getDefaultMaxTokens())
-                    .system(MessageCreateParams.System.ofString(getSystemInstruction()))
-                    .addMessage(MessageParam.builder()
-                            .role(MessageParam.Role.USER)
-                            .content(MessageParam.Content.ofString(request.getPrompt()))
-                            .build());
-            
-            if (request.getTemperature() != null) {
-                paramsBuilder.temperature(request.getTemperature());
-            }
-            
-            Message response = client.messages().create(paramsBuilder.build());
+            Message response = client.messages().create(buildParams(modelId, request));
             
             long processingTime = System.currentTimeMillis() - startTime;
             
@@ -128,35 +132,22 @@ public class ClaudeAIService implements AIService {
                 throw new ModelNotSupportedException(modelId, PROVIDER_NAME);
             }
             
-            MessageCreateParams.Builder paramsBuilder = MessageCreateParams.builder()
-                    .model(Model.of(modelId))
-                    .maxTokens(request.getMaxTokens() != null ? request.getMaxTokens().longValue() : getDefaultMaxTokens())
-                    .system(MessageCreateParams.System.ofString(getSystemInstruction()))
-                    .addMessage(MessageParam.builder()
-                            .role(MessageParam.Role.USER)
-                            .content(MessageParam.Content.ofString(request.getPrompt()))
-                            .build());
-            
-            if (request.getTemperature() != null) {
-                paramsBuilder.temperature(request.getTemperature());
-            }
+            MessageCreateParams params = buildParams(modelId, request);
+            RequestOptions requestOptions = AnthropicConfig.streamRequestOptions(properties.getTransport());
+            int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : getDefaultMaxTokens();
             
-            return Flux.create(sink -> {
-                try (var streamResponse = client.messages().createStreaming(paramsBuilder.build())) {
-                    streamResponse.stream()
-                            .flatMap(event -> event.contentBlockDelta().stream())
-                            .flatMap(deltaEvent -> deltaEvent.delta().text().stream())
-                            .forEach(textDelta -> {
-                                String text = textDelta.text();
-                                if (text != null && !text.isEmpty()) {
-                                    sink.next(text);
-                                }
-                            });
-                    sink.complete();
-                } catch (Exception e) {
-                    sink.error(new AIServiceException("Claude 스트리밍 중 오류 발생: " + e.getMessage(), e, PROVIDER_NAME));
-                }
-            });
+            return streamExecutor.execute(
+                            PROVIDER_NAME,
+                            modelId,
+                            maxTokens,
+                            () -> client.messages().createStreaming(params, requestOptions),
+                            streamResponse -> streamResponse.stream()
+                                    .flatMap(event -> event.contentBlockDelta().stream())
+                                    .flatMap(deltaEvent -> deltaEvent.delta().text().stream())
+                                    .map(textDelta -> textDelta.text())
+                                    .filter(text -> text != null && !text.isEmpty()))
+                    .onErrorMap(e -> !(e instanceof AIServiceException),
+                            e -> new AIServiceException("Claude 스트리밍 중 오류 발생: " + e.getMessage(), e, PROVIDER_NAME));
             
         } catch (ModelNotSupportedException e) {
             return Flux.error(e);
@@ -168,15 +159,38 @@ public class ClaudeAIService implements AIService {
         }
     }
     
+    MessageCreateParams buildParams(String modelId, GenerateRequest request) {
+        MessageCreateParams.Builder paramsBuilder = MessageCreateParams.builder()
+                .model(Model.of(modelId))
+                .maxTokens(request.getMaxTokens() != null ? request.getMaxTokens().longValue() : getDefaultMaxTokens())
+                .system(MessageCreateParams.System.ofString(getSystemInstruction()));
+        
+        for (ConversationTurn turn : request.getHistory()) {
+            paramsBuilder.addMessage(MessageParam.builder()
+                    .role(turn.getRole() == ConversationTurn.Role.USER ? MessageParam.Role.USER : MessageParam.Role.ASSISTANT)
+                    .content(MessageParam.Content.ofString(turn.getText()))
+                    .build());
+        }
+        paramsBuilder.addMessage(MessageParam.builder()
+                .role(MessageParam.Role.USER)
+                .content(MessageParam.Content.ofString(request.getPrompt()))
+                .build());
+            
+        if (request.getTemperature() != null) {
+            paramsBuilder.temperature(request.getTemperature());
+        }
+        
+        return paramsBuilder.build();
+    }
+    
     @Override
     public List<ModelInfo> getAvailableModels() {
-        return AVAILABLE_MODELS;
+        return catalogService.getCatalog().getModels(PROVIDER_NAME, AVAILABLE_MODELS);
     }
     
     @Override
     public boolean isModelSupported(String modelId) {
-        return AVAILABLE_MODELS.stream()
-                .anyMatch(model -> model.getId().equals(modelId));
+        return catalogService.getCatalog().isModelSupported(PROVIDER_NAME, modelId, MODEL_IDS);
     }
     
     @Override
@@ -2,11 +2,14 @@ package com.example.demo.service.impl;
 
 import com.example.demo.exception.AIServiceException;
 import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.ConversationTurn;
 import com.example.demo.model.GenerateRequest;
 import com.example.demo.model.GenerateResponse;
 import com.example.demo.model.ModelInfo;
 import com.example.demo.service.AIService;
 import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.stream.ProviderStreamExecutor;
 import com.google.genai.Client;
 import reactor.core.publisher.Flux;
 
@@ -14,12 +17,15 @@ import com.google.genai.Pager;
 import com.google.genai.types.*;
 
 import java.util.ArrayList;
+import java.util.stream.StreamSupport;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Google Gemini AI Service Implementation
@@ -37,24 +43,32 @@ public class GeminiAIService implements AIService {
                     .id("gemini-3-pro-preview")
                     .name("Gemini 3 Pro Preview")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(1_048_576)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("gemini-2.5-flash")
                     .name("Gemini 2.5 Flash")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(1_048_576)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("gemini-2.5-flash-lite")
                     .name("Gemini 2.5 Flash Lite")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(1_048_576)
                     .available(true)
                     .build()
     );
+    private static final Set<String> MODEL_IDS = AVAILABLE_MODELS.stream()
+            .map(ModelInfo::getId)
+            .collect(Collectors.toUnmodifiableSet());
 
     private final Client client;
     private final TokenPricingService pricingService;
+    private final ModelCatalogService catalogService;
+    private final ProviderStreamExecutor streamExecutor;
 
 
     
@@ -69,27 +83,8 @@ public class GeminiAIService implements AIService {
                 throw new ModelNotSupportedException(modelId, PROVIDER_NAME);
             }
 
-            GenerateContentConfig.Builder configBuilder = GenerateContentConfig.builder()
-                    .systemInstruction(Content.builder()
-                            .role("user")
-                            .parts(List.of(Part.builder().text(getSystemInstruction()).build()))
-                            .build());
-            
-            if (request.getMaxTokens() != null) {
-                configBuilder.maxOutputTokens(request.getMaxTokens());
-            }
-            
-            if (request.getTemperature() != null) {
-                configBuilder.temperature(request.getTemperature().floatValue());
-            }
-
-            Content content = Content.builder()
-                    .role("user")
-                    .parts(List.of(Part.builder().text(request.getPrompt()).build()))
-                    .build();
-
             GenerateContentResponse response = client.models
-                    .generateContent(request.getModel(), List.of(content), configBuilder.build());
+                    .generateContent(request.getModel(), buildContents(request), buildConfig(request));
 
             long processingTime = System.currentTimeMillis() - startTime;
 
@@ -132,41 +127,21 @@ public class GeminiAIService implements AIService {
                 throw new ModelNotSupportedException(modelId, PROVIDER_NAME);
             }
 
-            GenerateContentConfig.Builder configBuilder = GenerateContentConfig.builder()
-                    .systemInstruction(Content.builder()
-                            .role("user")
-                            .parts(List.of(Part.builder().text(getSystemInstruction()).build()))
-                            .build());
-            
-            if (request.getMaxTokens() != null) {
-                configBuilder.maxOutputTokens(request.getMaxTokens());
-            }
-            
-            if (request.getTemperature() != null) {
-                configBuilder.temperature(request.getTemperature().floatValue());
-            }
-
-            Content content = Content.builder()
-                    .role("user")
-                    .parts(List.of(Part.builder().text(request.getPrompt()).build()))
-                    .build();
-
-            return Flux.create(sink -> {
-                try {
-                    client.models.generateContentStream(modelId, List.of(content), configBuilder.build())
-                            .forEach(chunk -> {
-                                if (chunk != null && !chunk.candidates().isEmpty()) {
-                                    String text = chunk.text();
-                                    if (text != null && !text.isEmpty()) {
-                                        sink.next(text);
-                                    }
-                                }
-                            });
-                    sink.complete();
-                } catch (Exception e) {
-                    sink.error(new AIServiceException("Google Gemini 스트리밍 중 오류 발생: " + e.getMessage(), e, PROVIDER_NAME));
-                }
-            });
+            List<Content> contents = buildContents(request);
+            GenerateContentConfig config = buildConfig(request);
+            int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : getDefaultMaxTokens();
+
+            return streamExecutor.execute(
+                            PROVIDER_NAME,
+                            modelId,
+                            maxTokens,
+                            () -> client.models.generateContentStream(modelId, contents, config),
+                            responseStream -> StreamSupport.stream(responseStream.spliterator(), false)
+                                    .filter(chunk -> chunk != null && !chunk.candidates().isEmpty())
+                                    .map(GenerateContentResponse::text)
+                                    .filter(text -> text != null && !text.isEmpty()))
+                    .onErrorMap(e -> !(e instanceof AIServiceException),
+                            e -> new AIServiceException("Google Gemini 스트리밍 중 오류 발생: " + e.getMessage(), e, PROVIDER_NAME));
 
         } catch (ModelNotSupportedException e) {
             return Flux.error(e);
@@ -178,15 +153,51 @@ public class GeminiAIService implements AIService {
         }
     }
 
+    GenerateContentConfig buildConfig(GenerateRequest request) {
+        GenerateContentConfig.Builder configBuilder = GenerateContentConfig.builder()
+                .systemInstruction(Content.builder()
+                        .role("user")
+                        .parts(List.of(Part.builder().text(getSystemInstruction()).build()))
+                        .build());
+            
+        if (request.getMaxTokens() != null) {
+            configBuilder.maxOutputTokens(request.getMaxTokens());
+        }
+            
+        if (request.getTemperature() != null) {
+            configBuilder.temperature(request.getTemperature().floatValue());
+        }
+        
+        return configBuilder.build();
+    }
+    
+    /**
+     * 이전 대화와 프롬프트. Gemini 는 응답 차례의 역할을 "model" 로 씁니다.
+     */
+    List<Content> buildContents(GenerateRequest request) {
+        List<Content> contents = new ArrayList<>(request.getHistory().size() + 1);
+        for (ConversationTurn turn : request.getHistory()) {
+            contents.add(content(turn.getRole() == ConversationTurn.Role.USER ? "user" : "model", turn.getText()));
+        }
+        contents.add(content("user", request.getPrompt()));
+        return contents;
+    }
+
+    private static Content content(String role, String text) {
+        return Content.builder()
+                .role(role)
+                .parts(List.of(Part.builder().text(text).build()))
+                .build();
+    }
+
     @Override
     public List<ModelInfo> getAvailableModels() {
-        return AVAILABLE_MODELS;
+        return catalogService.getCatalog().getModels(PROVIDER_NAME, AVAILABLE_MODELS);
     }
 
     @Override
     public boolean isModelSupported(String modelId) {
-        return AVAILABLE_MODELS.stream()
-                .anyMatch(model -> model.getId().equals(modelId));
+        return catalogService.getCatalog().isModelSupported(PROVIDER_NAME, modelId, MODEL_IDS);
     }
 
     @Override
@@ -1,17 +1,24 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.config.OpenAIConfig;
+import com.example.demo.config.properties.AIOpenAIProperties;
 import com.example.demo.exception.AIServiceException;
 import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.ConversationTurn;
 import com.example.demo.model.GenerateRequest;
 import com.example.demo.model.GenerateResponse;
 import com.example.demo.model.ModelInfo;
 import com.example.demo.service.AIService;
 import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.stream.ProviderStreamExecutor;
 import com.openai.client.OpenAIClient;
+import com.openai.core.RequestOptions;
 import reactor.core.publisher.Flux;
 
 import java.util.stream.Collectors;
 import com.openai.models.chat.completions.ChatCompletion;
+import com.openai.models.chat.completions.ChatCompletionAssistantMessageParam;
 import com.openai.models.chat.completions.ChatCompletionCreateParams;
 import com.openai.models.chat.completions.ChatCompletionUserMessageParam;
 import com.openai.models.models.ModelListPage;
@@ -21,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * OpenAI Service Implementation
@@ -38,32 +46,42 @@ public class OpenAIService implements AIService {
                     .id("gpt-5.2")
                     .name("GPT-5.2")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(400_000)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("gpt-5.1")
                     .name("GPT-5.1")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(400_000)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("gpt-5-mini")
                     .name("GPT-5 Mini")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(400_000)
                     .available(true)
                     .build(),
             ModelInfo.builder()
                     .id("gpt-3.5-turbo")
                     .name("GPT-3.5 Turbo")
                     .provider(PROVIDER_NAME)
+                    .contextWindow(16_385)
                     .available(true)
                     .build()
     );
+    private static final Set<String> MODEL_IDS = AVAILABLE_MODELS.stream()
+            .map(ModelInfo::getId)
+            .collect(Collectors.toUnmodifiableSet());
     
     private final OpenAIClient client;
     private final TokenPricingService pricingService;
+    private final ModelCatalogService catalogService;
+    private final ProviderStreamExecutor streamExecutor;
+    private final AIOpenAIProperties properties;
+    
     
-
     
     @Override
     public GenerateResponse generate(GenerateRequest request) {
@@ -76,22 +94,7 @@ public class OpenAIService implements AIService {
                 throw new ModelNotSupportedException(modelId, PROVIDER_NAME);
             }
             
-            ChatCompletionCreateParams.Builder paramsBuilder = ChatCompletionCreateParams.builder()
-                    .model(modelId)
-                    .addSystemMessage(getSystemInstruction())
-                    .addMessage(ChatCompletionUserMessageParam.builder()
-                            .content(ChatCompletionUserMessageParam.Content.ofText(request.getPrompt()))
-                            .build());
-            
-            if (request.getMaxTokens() != null) {
-                paramsBuilder.maxCompletionTokens(request.getMaxTokens().longValue());
-            }
-            
-            if (request.getTemperature() != null) {
-                paramsBuilder.temperature(request.getTemperature());
-            }
-            
-            ChatCompletion completion = client.chat().completions().create(paramsBuilder.build());
+            ChatCompletion completion = client.chat().completions().create(buildParams(modelId, request));
             
             long processingTime = System.currentTimeMillis() - startTime;
             
@@ -126,39 +129,21 @@ public class OpenAIService implements AIService {
                 throw new ModelNotSupportedException(modelId, PROVIDER_NAME);
             }
             
-            ChatCompletionCreateParams.Builder paramsBuilder = ChatCompletionCreateParams.builder()
-                    .model(modelId)
-                    .addSystemMessage(getSystemInstruction())
-                    .addMessage(ChatCompletionUserMessageParam.builder()
-                            .content(ChatCompletionUserMessageParam.Content.ofText(request.getPrompt()))
-                            .build());
-            
-            if (request.getMaxTokens() != null) {
-                paramsBuilder.maxCompletionTokens(request.getMaxTokens().longValue());
-            }
+            ChatCompletionCreateParams params = buildParams(modelId, request);
+            RequestOptions requestOptions = OpenAIConfig.streamRequestOptions(properties.getTransport());
+            int maxTokens = request.getMaxTokens() != null ? request.getMaxTokens() : getDefaultMaxTokens();
             
-            if (request.getTemperature() != null) {
-                paramsBuilder.temperature(request.getTemperature());
-            }
-            
-            return Flux.create(sink -> {
-                try (var streamResponse = client.chat().completions().createStreaming(paramsBuilder.build())) {
-                    streamResponse.stream().forEach(chunk -> {
-                        if (!chunk.choices().isEmpty()) {
-                            var delta = chunk.choices().get(0).delta();
-                            if (delta.content().isPresent()) {
-                                String text = delta.content().get();
-                                if (text != null && !text.isEmpty()) {
-                                    sink.next(text);
-                                }
-                            }
-                        }
-                    });
-                    sink.complete();
-                } catch (Exception e) {
-                    sink.error(new AIServiceException("OpenAI 스트리밍 중 오류 발생: " + e.getMessage(), e, PROVIDER_NAME));
-                }
-            });
+            return streamExecutor.execute(
+                            PROVIDER_NAME,
+                            modelId,
+                            maxTokens,
+                            () -> client.chat().completions().createStreaming(params, requestOptions),
+                            streamResponse -> streamResponse.stream()
+                                    .filter(chunk -> !chunk.choices().isEmpty())
+                                    .flatMap(chunk -> chunk.choices().get(0).delta().content().stream())
+                                    .filter(text -> text != null && !text.isEmpty()))
+                    .onErrorMap(e -> !(e instanceof AIServiceException),
+                            e -> new AIServiceException("OpenAI 스트리밍 중 오류 발생: " + e.getMessage(), e, PROVIDER_NAME));
             
         } catch (ModelNotSupportedException e) {
             return Flux.error(e);
@@ -170,15 +155,45 @@ public class OpenAIService implements AIService {
         }
     }
     
+    ChatCompletionCreateParams buildParams(String modelId, GenerateRequest request) {
+        ChatCompletionCreateParams.Builder paramsBuilder = ChatCompletionCreateParams.builder()
+                .model(modelId)
+                .addSystemMessage(getSystemInstruction());
+        
+        for (ConversationTurn turn : request.getHistory()) {
+            if (turn.getRole() == ConversationTurn.Role.USER) {
+                paramsBuilder.addMessage(ChatCompletionUserMessageParam.builder()
+                        .content(ChatCompletionUserMessageParam.Content.ofText(turn.getText()))
+                        .build());
+            } else {
+                paramsBuilder.addMessage(ChatCompletionAssistantMessageParam.builder()
+                        .content(ChatCompletionAssistantMessageParam.Content.ofText(turn.getText()))
+                        .build());
+            }
+        }
+        paramsBuilder.addMessage(ChatCompletionUserMessageParam.builder()
+                .content(ChatCompletionUserMessageParam.Content.ofText(request.getPrompt()))
+                .build());
+            
+        if (request.getMaxTokens() != null) {
+            paramsBuilder.maxCompletionTokens(request.getMaxTokens().longValue());
+        }
+            
+        if (request.getTemperature() != null) {
+            paramsBuilder.temperature(request.getTemperature());
+        }
+        
+        return paramsBuilder.build();
+    }
+    
     @Override
     public List<ModelInfo> getAvailableModels() {
-        return AVAILABLE_MODELS;
+        return catalogService.getCatalog().getModels(PROVIDER_NAME, AVAILABLE_MODELS);
     }
     
     @Override
     public boolean isModelSupported(String modelId) {
-        return AVAILABLE_MODELS.stream()
-                .anyMatch(model -> model.getId().equals(modelId));
+        return catalogService.getCatalog().isModelSupported(PROVIDER_NAME, modelId, MODEL_IDS);
     }
     
     @Override
@@ -0,0 +1,234 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import com.example.demo.service.stub.StubOutcome;
+import com.example.demo.service.stub.StubPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 호출 없이 지연 시간, TTFT, 토큰 생성 속도, 오류와 429 를 흉내 내는 스텁 프로바이더.
+ * 
+ * ai.stub.enabled=true 일 때 stub-model 하나로 등록되며 부하 테스트와 성능 측정에 사용합니다.
+ * 테스트와 벤치마크는 프로바이더 이름과 모델을 지정해 직접 만들어 씁니다.
+ * 
+ * 프롬프트에 {@link #ERROR_MARKER}, {@link #RATE_LIMIT_MARKER} 가 들어 있으면 ai.stub 의 비율과 관계없이 그 결과를 냅니다.
+ * {@link #EMPTY_MARKER} 가 들어 있으면 본문 없이(generatedText 가 null, 스트림은 청크 없이) 정상 종료합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+public class StubAIService implements AIService {
+    
+    public static final String PROVIDER_NAME = "Stub";
+    public static final String MODEL_ID = "stub-model";
+    public static final String ERROR_MARKER = "[stub:error]";
+    public static final String RATE_LIMIT_MARKER = "[stub:429]";
+    public static final String EMPTY_MARKER = "[stub:empty]";
+    
+    private final String providerName;
+    private final List<ModelInfo> availableModels;
+    private final Set<String> modelIds;
+    private final StubLatencyModel latencyModel;
+    private final Set<String> retiredModels = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    
+    private volatile BooleanSupplier healthCheck = () -> true;
+    private volatile Duration modelListDelay = Duration.ZERO;
+    
+    @Autowired
+    public StubAIService(StubLatencyModel latencyModel) {
+        this(PROVIDER_NAME, List.of(MODEL_ID), latencyModel);
+    }
+    
+    public StubAIService(String providerName, List<String> modelIds, StubLatencyModel latencyModel) {
+        this.providerName = providerName;
+        this.availableModels = modelIds.stream()
+                .map(id -> ModelInfo.builder()
+                        .id(id)
+                        .name(MODEL_ID.equals(id) ? "Stub Model" : id)
+                        .provider(providerName)
+                        .contextWindow(32_768)
+                        .available(true)
+                        .build())
+                .toList();
+        this.modelIds = Set.copyOf(modelIds);
+        this.latencyModel = latencyModel;
+    }
+    
+    @Override
+    public GenerateResponse generate(GenerateRequest request) {
+        checkRetired(request.getModel());
+        StubPlan plan = plan(request);
+        enter();
+        try {
+            if (plan.outcome() == StubOutcome.RATE_LIMITED) {
+                throw rateLimited();
+            }
+            Thread.sleep(plan.outcome() == StubOutcome.ERROR ? plan.timeToFirstToken().toMillis() : plan.totalLatency().toMillis());
+            if (plan.outcome() == StubOutcome.ERROR) {
+                throw failed();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIServiceException(providerName + " 호출이 중단되었습니다", e, providerName);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        
+        return GenerateResponse.builder()
+                .generatedText(plan.outcome() == StubOutcome.EMPTY ? null : latencyModel.text(plan.outputTokens()))
+                .model(modelId(request))
+                .tokensUsed(latencyModel.estimateTokens(request.getPrompt()) + plan.outputTokens())
+                .processingTimeMs(plan.totalLatency().toMillis())
+                .costUsd(0.0)
+                .build();
+    }
+    
+    @Override
+    public Flux<String> generateStream(GenerateRequest request) {
+        return Flux.defer(() -> {
+            checkRetired(request.getModel());
+            StubPlan plan = plan(request);
+            if (plan.outcome() == StubOutcome.RATE_LIMITED) {
+                return Flux.error(rateLimited());
+            }
+            if (plan.outcome() == StubOutcome.ERROR) {
+                return Flux.<String>error(failed()).delaySubscription(plan.timeToFirstToken());
+            }
+            if (plan.outcome() == StubOutcome.EMPTY) {
+                return Flux.<String>empty().delaySubscription(plan.timeToFirstToken());
+            }
+            return Flux.interval(plan.timeToFirstToken(), plan.tokenInterval())
+                    .take(plan.outputTokens())
+                    .map(index -> latencyModel.token(index.intValue()));
+        }).doOnSubscribe(subscription -> enter()).doFinally(signal -> inFlight.decrementAndGet());
+    }
+    
+    @Override
+    public List<ModelInfo> getAvailableModels() {
+        return availableModels;
+    }
+    
+    @Override
+    public boolean isModelSupported(String modelId) {
+        return modelIds.contains(modelId);
+    }
+    
+    @Override
+    public boolean isHealthy() {
+        return healthCheck.getAsBoolean();
+    }
+    
+    @Override
+    public List<String> getActualModelIds() {
+        try {
+            Thread.sleep(modelListDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return List.copyOf(modelIds);
+    }
+    
+    @Override
+    public String getProviderName() {
+        return providerName;
+    }
+    
+    /**
+     * 지금 처리 중인 호출 수. 스트림은 구독부터 종료까지 셉니다.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    /**
+     * 마지막 {@link #resetMaxInFlight()} 이후 동시에 처리 중이던 호출 수의 최댓값.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+    
+    public void resetMaxInFlight() {
+        maxInFlight.set(0);
+    }
+    
+    /**
+     * isHealthy() 의 결과를 바꿉니다. 예외를 던지면 헬스 체크 호출이 실패한 것처럼 동작합니다.
+     */
+    public void setHealthCheck(BooleanSupplier healthCheck) {
+        this.healthCheck = healthCheck;
+    }
+    
+    /**
+     * getActualModelIds() 가 응답하기까지 걸리는 시간.
+     */
+    public void setModelListDelay(Duration modelListDelay) {
+        this.modelListDelay = modelListDelay;
+    }
+    
+    /**
+     * 모델 목록에는 남기고 호출하면 ModelNotSupportedException 을 던집니다. 카탈로그에서 퇴역한 모델을 흉내 냅니다.
+     */
+    public void retire(String modelId) {
+        retiredModels.add(modelId);
+    }
+    
+    private void checkRetired(String modelId) {
+        if (modelId != null && retiredModels.contains(modelId)) {
+            throw new ModelNotSupportedException(modelId, providerName);
+        }
+    }
+    
+    private StubPlan plan(GenerateRequest request) {
+        StubPlan plan = latencyModel.nextPlan(request.getMaxTokens());
+        String prompt = request.getPrompt();
+        if (prompt == null) {
+            return plan;
+        }
+        if (prompt.contains(RATE_LIMIT_MARKER)) {
+            return plan.withOutcome(StubOutcome.RATE_LIMITED);
+        }
+        if (prompt.contains(ERROR_MARKER)) {
+            return plan.withOutcome(StubOutcome.ERROR);
+        }
+        if (prompt.contains(EMPTY_MARKER)) {
+            return plan.withOutcome(StubOutcome.EMPTY);
+        }
+        return plan;
+    }
+    
+    private void enter() {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+    
+    private String modelId(GenerateRequest request) {
+        return request.getModel() != null && modelIds.contains(request.getModel()) ? request.getModel() : availableModels.get(0).getId();
+    }
+    
+    private AIServiceException rateLimited() {
+        return new AIServiceException(providerName + " 요청 한도 초과 (429)", providerName, "RATE_LIMITED");
+    }
+    
+    private AIServiceException failed() {
+        return new AIServiceException(providerName + " 호출 실패 (시뮬레이션)", providerName);
+    }
+}
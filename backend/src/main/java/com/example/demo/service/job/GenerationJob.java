@@ -0,0 +1,56 @@
+package com.example.demo.service.job;
+
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * 비동기 생성 작업의 한 시점 상태. 상태가 바뀔 때마다 새 인스턴스로 교체하고 JobStore 에 그대로 저장합니다.
+ * 
+ * @param caller GenerateRequest.caller 는 직렬화되지 않으므로 따로 저장합니다
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GenerationJob(
+        String id,
+        JobState state,
+        String caller,
+        GenerateRequest request,
+        GenerateResponse response,
+        String error,
+        String errorCode,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt) {
+    
+    public static GenerationJob queued(String id, GenerateRequest request, Instant now) {
+        return new GenerationJob(id, JobState.QUEUED, request.getCaller(), request, null, null, null, now, null, null);
+    }
+    
+    public GenerationJob running(Instant now) {
+        return new GenerationJob(id, JobState.RUNNING, caller, request, null, null, null, createdAt, now, null);
+    }
+    
+    public GenerationJob succeeded(GenerateResponse result, Instant now) {
+        return new GenerationJob(id, JobState.SUCCEEDED, caller, request, result, null, null, createdAt, startedAt, now);
+    }
+    
+    public GenerationJob failed(Throwable cause, Instant now) {
+        String code = cause instanceof AIServiceException e ? e.getErrorCode() : "UNKNOWN";
+        return new GenerationJob(id, JobState.FAILED, caller, request, null, String.valueOf(cause.getMessage()), code,
+                createdAt, startedAt, now);
+    }
+    
+    /**
+     * 요청 본문의 caller 는 직렬화되지 않으므로 저장된 작업을 다시 실행할 때 복원합니다.
+     */
+    @JsonIgnore
+    public GenerateRequest callerRequest() {
+        return request.toBuilder()
+                .caller(caller)
+                .build();
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.demo.service.job;
+
+import com.example.demo.config.properties.AIJobProperties;
+import com.example.demo.exception.JobNotFoundException;
+import com.example.demo.exception.JobQueueFullException;
+import com.example.demo.exception.QuotaExceededException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.AIGenerationService;
+import com.example.demo.service.quota.CallerQuotaService;
+import com.example.demo.service.quota.QuotaReservation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오래 걸리는 생성 요청을 HTTP 연결과 분리해 고정 크기 워커 풀에서 실행합니다.
+ * 
+ * 작업은 상태가 바뀔 때마다 JobStore 에 저장되므로, 재시작하면 끝난 작업은 그대로 조회할 수 있고
+ * 대기 중이거나 실행 중이던 작업은 호출자 한도를 다시 차감한 뒤 대기열에 넣어 실행합니다. 한도를 넘으면 실패로 끝내고,
+ * 대기열이 가득 차면 대기 중 상태로 남겨 두었다가 다음 기동에 다시 시도합니다. 끝난 작업은 ai.jobs.retention-minutes 후 삭제합니다.
+ * 
+ * - ai.jobs.queue.depth: 실행을 기다리는 작업 수
+ * - ai.jobs.running: 실행 중인 작업 수
+ * - ai.jobs.wait: 접수부터 실행 시작까지 걸린 시간
+ * - ai.jobs.execution: 실행 시간 (outcome=success|failure)
+ */
+@Slf4j
+@Service
+public class GenerationJobService {
+    
+    private final AIJobProperties properties;
+    private final AIGenerationService aiGenerationService;
+    private final CallerQuotaService callerQuotaService;
+    private final JobStore jobStore;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Sinks.Many<GenerationJob>> watchers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService cleaner;
+    private final Timer waitTimer;
+    
+    private volatile boolean stopping;
+    
+    public GenerationJobService(AIJobProperties properties, AIGenerationService aiGenerationService,
+                                CallerQuotaService callerQuotaService, JobStore jobStore, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.aiGenerationService = aiGenerationService;
+        this.callerQuotaService = callerQuotaService;
+        this.jobStore = jobStore;
+        this.meterRegistry = meterRegistry;
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        int poolSize = Math.max(1, properties.getWorkers());
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, properties.getMaxQueued())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ai-job-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        Gauge.builder("ai.jobs.queue.depth", workers, executor -> executor.getQueue().size())
+                .description("실행을 기다리는 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.jobs.running", workers, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 작업 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("ai.jobs.wait")
+                .description("작업 접수부터 실행 시작까지 걸린 시간")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 저장된 작업을 불러와 끝나지 않은 작업을 다시 실행하고, 끝난 작업의 주기적 삭제를 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<GenerationJob> stored = jobStore.loadAll().stream()
+                .sorted(Comparator.comparing(GenerationJob::createdAt))
+                .toList();
+        int resumed = 0;
+        for (GenerationJob job : stored) {
+            if (job.state().isTerminal()) {
+                jobs.put(job.id(), job);
+                continue;
+            }
+            GenerationJob queued = GenerationJob.queued(job.id(), job.callerRequest(), job.createdAt());
+            QuotaReservation reservation;
+            try {
+                reservation = callerQuotaService.acquire(queued.callerRequest());
+            } catch (QuotaExceededException e) {
+                complete(queued.failed(e, Instant.now()));
+                log.warn("호출자 한도를 넘어 저장된 작업을 실패로 끝냅니다: jobId={}, caller={}", job.id(), e.getCaller());
+                continue;
+            }
+            if (enqueue(queued, reservation)) {
+                resumed++;
+            } else {
+                // 조회할 수 있도록 대기 중 상태로 남겨 둡니다
+                jobs.put(queued.id(), queued);
+                callerQuotaService.settle(reservation, 0);
+                log.warn("대기열이 가득 차 저장된 작업을 다음 기동으로 미룹니다: jobId={}", job.id());
+            }
+        }
+        if (!stored.isEmpty()) {
+            log.info("저장된 작업 로드: total={}, resumed={}, directory={}", stored.size(), resumed, jobStore.getDirectory());
+        }
+        
+        cleaner.scheduleAtFixedRate(this::purgeExpired, 1, 1, TimeUnit.MINUTES);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+        cleaner.shutdownNow();
+        workers.shutdownNow();
+        watchers.values().forEach(Sinks.Many::tryEmitComplete);
+    }
+    
+    /**
+     * @param reservation CallerQuotaService 에서 미리 차감한 한도. 작업이 끝나면 정산하고, 실패하거나 접수하지 못하면 모두 돌려줍니다
+     * @throws JobQueueFullException 대기열이 가득 찬 경우. 미리 차감한 한도는 돌려준 뒤 던집니다
+     */
+    public GenerationJob submit(GenerateRequest request, QuotaReservation reservation) {
+        GenerationJob job = GenerationJob.queued(UUID.randomUUID().toString(), request, Instant.now());
+        if (!enqueue(job, reservation)) {
+            jobs.remove(job.id());
+            jobStore.delete(job.id());
+            callerQuotaService.settle(reservation, 0);
+            throw new JobQueueFullException(properties.getMaxQueued());
+        }
+        log.info("작업 접수: jobId={}, model={}, queued={}", job.id(), request.getModel(), workers.getQueue().size());
+        return job;
+    }
+    
+    /**
+     * @throws JobNotFoundException 작업이 없거나 이미 삭제된 경우
+     */
+    public GenerationJob get(String jobId) {
+        GenerationJob job = jobId != null ? jobs.get(jobId) : null;
+        if (job == null) {
+            throw new JobNotFoundException(jobId);
+        }
+        return job;
+    }
+    
+    /**
+     * 현재 상태와 이후 상태 변화를 내보내고, 작업이 끝나면 완료합니다.
+     * 
+     * @throws JobNotFoundException 작업이 없거나 이미 삭제된 경우
+     */
+    public Flux<GenerationJob> watch(String jobId) {
+        GenerationJob job = get(jobId);
+        Sinks.Many<GenerationJob> sink = watchers.get(jobId);
+        // 완료 직후에 sink 가 지워졌어도 이미 끝난 작업이므로 저장된 최종 상태 하나만 내보내면 됩니다
+        return sink != null ? sink.asFlux() : Flux.just(jobs.getOrDefault(jobId, job));
+    }
+    
+    private boolean enqueue(GenerationJob job, QuotaReservation reservation) {
+        jobStore.save(job);
+        jobs.put(job.id(), job);
+        Sinks.Many<GenerationJob> sink = Sinks.many().replay().latest();
+        sink.tryEmitNext(job);
+        watchers.put(job.id(), sink);
+        
+        try {
+            workers.execute(() -> run(job, reservation));
+            return true;
+        } catch (RejectedExecutionException e) {
+            watchers.remove(job.id());
+            return false;
+        }
+    }
+    
+    private void run(GenerationJob queued, QuotaReservation reservation) {
+        Instant startedAt = Instant.now();
+        waitTimer.record(Duration.between(queued.createdAt(), startedAt));
+        update(queued.running(startedAt));
+        
+        GenerateRequest request = queued.callerRequest();
+        long startTime = System.nanoTime();
+        try {
+            GenerateResponse response = aiGenerationService.generate(request);
+            executionTimer("success").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            callerQuotaService.settle(reservation, response.getTokensUsed());
+            complete(queued.running(startedAt).succeeded(response, Instant.now()));
+            log.info("작업 완료: jobId={}, model={}, tokens={}", queued.id(), response.getModel(), response.getTokensUsed());
+        } catch (RuntimeException e) {
+            if (stopping) {
+                // 종료로 중단된 작업은 실행 중 상태로 남겨 두었다가 재시작하면 다시 실행합니다
+                return;
+            }
+            executionTimer("failure").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            callerQuotaService.settle(reservation, 0);
+            complete(queued.running(startedAt).failed(e, Instant.now()));
+            log.warn("작업 실패: jobId={}, model={}, error={}", queued.id(), request.getModel(), e.getMessage());
+        }
+    }
+    
+    private void update(GenerationJob job) {
+        jobStore.save(job);
+        jobs.put(job.id(), job);
+        Sinks.Many<GenerationJob> sink = watchers.get(job.id());
+        if (sink != null) {
+            sink.tryEmitNext(job);
+        }
+    }
+    
+    private void complete(GenerationJob job) {
+        update(job);
+        Sinks.Many<GenerationJob> sink = watchers.remove(job.id());
+        if (sink != null) {
+            sink.tryEmitComplete();
+        }
+    }
+    
+    void purgeExpired() {
+        Instant expiry = Instant.now().minus(Duration.ofMinutes(properties.getRetentionMinutes()));
+        jobs.values().removeIf(job -> {
+            if (job.state().isTerminal() && job.finishedAt() != null && job.finishedAt().isBefore(expiry)) {
+                jobStore.delete(job.id());
+                return true;
+            }
+            return false;
+        });
+    }
+    
+    private Timer executionTimer(String outcome) {
+        return Timer.builder("ai.jobs.execution")
+                .description("작업 실행 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
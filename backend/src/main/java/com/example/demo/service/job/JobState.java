@@ -0,0 +1,13 @@
+package com.example.demo.service.job;
+
+public enum JobState {
+    
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED;
+    
+    public boolean isTerminal() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
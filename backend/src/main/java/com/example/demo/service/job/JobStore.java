@@ -0,0 +1,93 @@
+package com.example.demo.service.job;
+
+import com.example.demo.config.properties.AIJobProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 작업을 ai.jobs.store-path 디렉터리에 작업마다 JSON 파일 하나로 저장하는 로컬 저장소.
+ * 
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로(atomic move) 쓰는 도중 종료돼도 파일에는 이전 상태나 새 상태 중 하나만 남습니다.
+ */
+@Slf4j
+@Component
+public class JobStore {
+    
+    static final String EXTENSION = ".json";
+    
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    
+    public JobStore(AIJobProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(properties.getStorePath() == null || properties.getStorePath().isBlank() ? "jobs" : properties.getStorePath())
+                .toAbsolutePath()
+                .normalize();
+    }
+    
+    public void save(GenerationJob job) {
+        Path file = file(job.id());
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, job.id(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), job);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업을 저장할 수 없습니다: " + file, e);
+        }
+    }
+    
+    public void delete(String jobId) {
+        try {
+            Files.deleteIfExists(file(jobId));
+        } catch (IOException e) {
+            log.warn("작업 파일 삭제 실패: jobId={}, error={}", jobId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 저장된 모든 작업. 읽을 수 없는 파일은 건너뜁니다.
+     */
+    public List<GenerationJob> loadAll() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        
+        List<GenerationJob> jobs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).toList()) {
+                try {
+                    jobs.add(objectMapper.readValue(file.toFile(), GenerationJob.class));
+                } catch (IOException e) {
+                    log.warn("작업 파일을 건너뜁니다: file={}, error={}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+        return jobs;
+    }
+    
+    public Path getDirectory() {
+        return directory;
+    }
+    
+    private Path file(String jobId) {
+        return directory.resolve(jobId + EXTENSION);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.service.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측된 지연 시간을 기반으로 동시 실행 한도를 조정하는 AIMD 리미터.
+ * 
+ * 응답 지연이 장기 평균(EWMA) × 허용 배수 이하이고 한도를 충분히 사용 중이면 한도를 1씩 늘리고,
+ * 지연이 허용 범위를 넘거나 과부하로 실패하면 backoffRatio를 곱해 줄입니다.
+ * 한도를 절반도 쓰지 않는 동안에는 정상 표본마다 한도를 initialLimit 쪽으로 조금씩 되돌립니다.
+ * 
+ * 전체 응답 시간은 출력 길이에 비례하므로 그대로 비교하지 않습니다. 스트리밍은 첫 청크까지의 시간을,
+ * 일반 호출은 출력 토큰당 시간을 표본으로 쓰고, 두 표본은 서로 다른 장기 평균과 비교합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+    
+    private static final double BASELINE_ALPHA = 0.05;
+    private static final double RECOVERY_ALPHA = 0.1;
+    
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double baselineFirstChunkNanos;
+    private double baselineTokenNanos;
+    
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double latencyTolerance) {
+        this.initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = this.initialLimit;
+    }
+    
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+    
+    /**
+     * 스트리밍 표본. 첫 청크까지의 시간입니다.
+     */
+    public synchronized void onSample(long firstChunkNanos, boolean dropped) {
+        baselineFirstChunkNanos = adjust(baselineFirstChunkNanos, firstChunkNanos, dropped);
+    }
+    
+    /**
+     * 일반 호출 표본. 전체 응답 시간을 출력 토큰 수로 나눠 비교합니다.
+     */
+    public synchronized void onSample(long latencyNanos, int outputTokens, boolean dropped) {
+        baselineTokenNanos = adjust(baselineTokenNanos, (double) latencyNanos / Math.max(1, outputTokens), dropped);
+    }
+    
+    /**
+     * 표본으로 한도를 조정하고 갱신된 장기 평균을 돌려줍니다.
+     */
+    private double adjust(double baseline, double sample, boolean dropped) {
+        boolean slow = baseline > 0 && sample > baseline * latencyTolerance;
+        
+        if (dropped || slow) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight.get() * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        } else if (limit < initialLimit) {
+            limit = Math.min(initialLimit, limit + Math.max(1, (initialLimit - limit) * RECOVERY_ALPHA));
+        } else if (limit > initialLimit) {
+            limit = Math.max(initialLimit, limit - Math.max(1, (limit - initialLimit) * RECOVERY_ALPHA));
+        }
+        
+        if (dropped) {
+            return baseline;
+        }
+        return baseline == 0 ? sample : baseline + BASELINE_ALPHA * (sample - baseline);
+    }
+    
+    public int getLimit() {
+        return (int) limit;
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.demo.service.limit;
+
+import com.anthropic.errors.AnthropicServiceException;
+import com.example.demo.config.properties.AILimiterProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.exception.ConcurrencyLimitExceededException;
+import com.google.genai.errors.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import com.openai.errors.OpenAIServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 프로바이더(AIService.getProviderName())별 적응형 동시 실행 한도를 적용합니다.
+ * 
+ * 한도를 넘는 요청은 프로바이더 타임아웃까지 기다리지 않고 즉시 ConcurrencyLimitExceededException으로 거절합니다.
+ * 스트리밍은 첫 청크까지의 시간을, 일반 호출은 출력 토큰당 시간을 지연 시간 표본으로 사용하고, 스트림은 끝날 때까지 슬롯을 점유합니다.
+ * 실패 중에는 타임아웃과 프로바이더의 429/5xx 응답만 과부하로 보고 한도를 줄입니다. 잘못된 요청이나 취소(인터럽트)는 표본에 넣지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProviderConcurrencyLimiter {
+    
+    private static final Set<String> OVERLOAD_ERROR_CODES = Set.of("RATE_LIMITED", "SERVICE_UNAVAILABLE", "TIMEOUT");
+    
+    private final AILimiterProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    
+    /**
+     * @param outputTokens 결과의 출력 토큰 수. 지연 시간 표본을 토큰당 시간으로 바꾸는 데 씁니다
+     */
+    public <T> T execute(String provider, Supplier<T> call, ToIntFunction<T> outputTokens) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        
+        AdaptiveConcurrencyLimiter limiter = acquire(provider);
+        long startTime = System.nanoTime();
+        try {
+            T result = call.get();
+            limiter.onSample(System.nanoTime() - startTime, outputTokens.applyAsInt(result), false);
+            return result;
+        } catch (RuntimeException e) {
+            if (!Thread.currentThread().isInterrupted() && isOverload(e)) {
+                limiter.onSample(System.nanoTime() - startTime, 1, true);
+            }
+            throw e;
+        } finally {
+            limiter.release();
+        }
+    }
+    
+    public Flux<String> executeStream(String provider, Supplier<Flux<String>> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        
+        return Flux.defer(() -> {
+            AdaptiveConcurrencyLimiter limiter = acquire(provider);
+            long startTime = System.nanoTime();
+            AtomicBoolean sampled = new AtomicBoolean();
+            
+            Flux<String> stream;
+            try {
+                stream = call.get();
+            } catch (RuntimeException e) {
+                // 스트림을 만들기 전에 실패하면 doFinally 가 걸리지 않으므로 여기서 슬롯을 돌려줍니다
+                limiter.release();
+                throw e;
+            }
+            return stream
+                    .doOnNext(chunk -> {
+                        if (sampled.compareAndSet(false, true)) {
+                            limiter.onSample(System.nanoTime() - startTime, false);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (isOverload(e) && sampled.compareAndSet(false, true)) {
+                            limiter.onSample(System.nanoTime() - startTime, true);
+                        }
+                    })
+                    .doFinally(signal -> limiter.release());
+        });
+    }
+    
+    public AdaptiveConcurrencyLimiter getLimiter(String provider) {
+        return limiters.computeIfAbsent(provider, this::createLimiter);
+    }
+    
+    /**
+     * 원인 사슬에 타임아웃이나 429/5xx 응답이 있으면 과부하로 봅니다. 취소된 호출(인터럽트)은 과부하가 아닙니다.
+     */
+    static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof ClosedByInterruptException) {
+                return false;
+            }
+            if (cause instanceof TimeoutException || cause instanceof SocketTimeoutException
+                    || (cause instanceof InterruptedIOException && "timeout".equals(cause.getMessage()))) {
+                return true;
+            }
+            if (cause instanceof AIServiceException e && OVERLOAD_ERROR_CODES.contains(e.getErrorCode())) {
+                return true;
+            }
+            if (cause instanceof AnthropicServiceException e && isOverloadStatus(e.statusCode())) {
+                return true;
+            }
+            if (cause instanceof OpenAIServiceException e && isOverloadStatus(e.statusCode())) {
+                return true;
+            }
+            if (cause instanceof ApiException e && isOverloadStatus(e.code())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean isOverloadStatus(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+    
+    private AdaptiveConcurrencyLimiter acquire(String provider) {
+        AdaptiveConcurrencyLimiter limiter = getLimiter(provider);
+        if (!limiter.tryAcquire()) {
+            rejections.computeIfAbsent(provider, this::rejectionCounter).increment();
+            log.warn("[{}] 동시 요청 한도 초과로 요청 거절: limit={}", provider, limiter.getLimit());
+            throw new ConcurrencyLimitExceededException(provider, limiter.getLimit());
+        }
+        return limiter;
+    }
+    
+    private AdaptiveConcurrencyLimiter createLimiter(String provider) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getBackoffRatio(),
+                properties.getLatencyTolerance());
+        
+        Gauge.builder("ai.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("프로바이더별 현재 동시 실행 한도")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("프로바이더별 실행 중인 요청 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        return limiter;
+    }
+    
+    private Counter rejectionCounter(String provider) {
+        return Counter.builder("ai.limiter.rejections")
+                .description("동시 실행 한도 초과로 거절된 요청 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.service.metrics;
+
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.token.TokenTally;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 프로바이더 호출 단위의 지연 시간과 토큰 생성 속도 메트릭.
+ * 
+ * - ai.generate.duration / ai.stream.duration: 전체 소요 시간 (outcome=success|error|cancelled)
+ * - ai.stream.ttft: 구독부터 첫 청크까지의 시간
+ * - ai.stream.chunk.gap: 청크 사이 간격
+ * - ai.generate.tokens.per.second / ai.stream.tokens.per.second: 출력 토큰 생성 속도 (프로바이더별 TokenizerProfile 로 추정)
+ * 
+ * 모든 메트릭은 provider, model 태그를 가지며 p50/p95/p99 와 히스토그램을 함께 내보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GenerationMetrics {
+    
+    private final MeterRegistry meterRegistry;
+    private final TokenEstimator tokenEstimator;
+    
+    public GenerateResponse recordGenerate(String provider, String modelId, Supplier<GenerateResponse> call) {
+        long startTime = System.nanoTime();
+        try {
+            GenerateResponse response = call.get();
+            long durationNanos = System.nanoTime() - startTime;
+            duration("ai.generate.duration", provider, modelId, "success").record(durationNanos, TimeUnit.NANOSECONDS);
+            if (response.getGeneratedText() != null) {
+                recordTokensPerSecond("ai.generate.tokens.per.second", provider, modelId,
+                        tokenEstimator.estimate(provider, response.getGeneratedText()), durationNanos);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            duration("ai.generate.duration", provider, modelId, "error").record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+    
+    public Flux<String> recordStream(String provider, String modelId, Flux<String> stream) {
+        return Flux.defer(() -> {
+            StreamTiming timing = new StreamTiming(provider, modelId);
+            return stream
+                    .doOnNext(timing::onChunk)
+                    .doOnComplete(() -> timing.finish("success"))
+                    .doOnError(e -> timing.finish("error"))
+                    .doOnCancel(() -> timing.finish("cancelled"));
+        });
+    }
+    
+    private Timer duration(String name, String provider, String modelId, String outcome) {
+        return Timer.builder(name)
+                .description("프로바이더 호출 전체 소요 시간")
+                .tag("provider", provider)
+                .tag("model", modelId)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+    
+    private void recordTokensPerSecond(String name, String provider, String modelId, long tokens, long generationNanos) {
+        if (tokens == 0 || generationNanos <= 0) {
+            return;
+        }
+        DistributionSummary.builder(name)
+                .description("출력 토큰 생성 속도 (추정)")
+                .baseUnit("tokens/s")
+                .tag("provider", provider)
+                .tag("model", modelId)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(tokens / (generationNanos / 1_000_000_000.0));
+    }
+    
+    /**
+     * 구독 하나의 청크 타이밍. 청크는 순차적으로 전달되므로 별도 동기화가 필요 없습니다.
+     */
+    private final class StreamTiming {
+        
+        private final String provider;
+        private final String modelId;
+        private final long startTime = System.nanoTime();
+        private final Timer ttft;
+        private final Timer chunkGap;
+        private long firstChunkTime;
+        private long lastChunkTime;
+        private final TokenTally output;
+        
+        StreamTiming(String provider, String modelId) {
+            this.provider = provider;
+            this.modelId = modelId;
+            this.output = tokenEstimator.tally(provider);
+            this.ttft = Timer.builder("ai.stream.ttft")
+                    .description("첫 청크까지의 시간 (time to first token)")
+                    .tag("provider", provider)
+                    .tag("model", modelId)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.chunkGap = Timer.builder("ai.stream.chunk.gap")
+                    .description("스트림 청크 사이 간격")
+                    .tag("provider", provider)
+                    .tag("model", modelId)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+        
+        void onChunk(String chunk) {
+            long now = System.nanoTime();
+            if (firstChunkTime == 0) {
+                firstChunkTime = now;
+                ttft.record(now - startTime, TimeUnit.NANOSECONDS);
+            } else {
+                chunkGap.record(now - lastChunkTime, TimeUnit.NANOSECONDS);
+            }
+            lastChunkTime = now;
+            output.add(chunk);
+        }
+        
+        void finish(String outcome) {
+            duration("ai.stream.duration", provider, modelId, outcome).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            if (firstChunkTime != 0 && lastChunkTime > firstChunkTime) {
+                recordTokensPerSecond("ai.stream.tokens.per.second", provider, modelId, output.tokens(), lastChunkTime - firstChunkTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service.quota;
+
+import com.example.demo.config.properties.AIQuotaProperties;
+import com.example.demo.service.usage.UsageTotals;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 호출자의 한도 상태. 모든 필드는 원자 변수라서 요청 경로와 상태 조회 모두 잠금 없이 접근합니다.
+ */
+@Getter
+final class CallerQuota {
+    
+    static final String REQUESTS = "requests";
+    static final String TOKENS = "tokens";
+    static final String BUDGET = "budget";
+    
+    private final String caller;
+    private final AIQuotaProperties.Limits limits;
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final AtomicReference<DailyBaseline> baseline;
+    private final AtomicLong reservedCostMicros = new AtomicLong();
+    private final LongAdder rejected = new LongAdder();
+    
+    CallerQuota(String caller, AIQuotaProperties.Limits limits, long nowNanos, long costMicros, LocalDate today) {
+        this.caller = caller;
+        this.limits = limits;
+        this.requestBucket = limits.getRequestsPerMinute() > 0 ? new TokenBucket(limits.getRequestsPerMinute(), nowNanos) : null;
+        this.tokenBucket = limits.getTokensPerMinute() > 0 ? new TokenBucket(limits.getTokensPerMinute(), nowNanos) : null;
+        this.baseline = new AtomicReference<>(new DailyBaseline(today, costMicros));
+    }
+    
+    /**
+     * @param costMicros 호출자의 기동 이후 누적 비용
+     */
+    long spentTodayMicros(long costMicros, LocalDate today) {
+        DailyBaseline current = baseline.get();
+        if (!current.day().equals(today)) {
+            // 날짜가 바뀐 뒤 처음 확인하는 시점의 누적 비용을 그날의 기준으로 삼습니다
+            baseline.compareAndSet(current, new DailyBaseline(today, costMicros));
+            current = baseline.get();
+        }
+        return Math.max(0, costMicros - current.costMicros());
+    }
+    
+    /**
+     * 오늘 쓴 비용과 진행 중인 요청에 잡아 둔 비용에 이번 예상 비용을 더해도 한도 안이면 예상 비용을 잡아 둡니다.
+     * 
+     * @return 한도를 넘어 잡지 못했으면 false
+     */
+    boolean tryReserveCost(long spentMicros, long costMicros, long budgetMicros) {
+        while (true) {
+            long reserved = reservedCostMicros.get();
+            if (spentMicros + reserved + costMicros > budgetMicros) {
+                return false;
+            }
+            if (reservedCostMicros.compareAndSet(reserved, reserved + costMicros)) {
+                return true;
+            }
+        }
+    }
+    
+    void releaseCost(long costMicros) {
+        reservedCostMicros.addAndGet(-costMicros);
+    }
+    
+    void onRejected() {
+        rejected.increment();
+    }
+    
+    QuotaStatus status(long nowNanos, long costMicros, LocalDate today) {
+        return new QuotaStatus(
+                caller,
+                limits.getRequestsPerMinute(),
+                requestBucket != null ? requestBucket.available(nowNanos) : null,
+                limits.getTokensPerMinute(),
+                tokenBucket != null ? tokenBucket.available(nowNanos) : null,
+                limits.getDailyBudgetUsd(),
+                new UsageTotals(0, 0, spentTodayMicros(costMicros, today)).costUsd(),
+                new UsageTotals(0, 0, reservedCostMicros.get()).costUsd(),
+                rejected.sum());
+    }
+    
+    private record DailyBaseline(LocalDate day, long costMicros) {
+    }
+}
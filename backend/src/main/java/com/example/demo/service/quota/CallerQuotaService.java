@@ -0,0 +1,291 @@
+package com.example.demo.service.quota;
+
+import com.example.demo.config.properties.AIQuotaProperties;
+import com.example.demo.exception.QuotaExceededException;
+import com.example.demo.model.BatchItemResult;
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.AIService;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.token.TokenTally;
+import com.example.demo.service.token.TokenizerProfile;
+import com.example.demo.service.usage.Callers;
+import com.example.demo.service.usage.UsageLedger;
+import com.example.demo.service.usage.UsageTotals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출자(X-Client-Id)별 분당 요청 수, 분당 토큰 수, 일일 비용 한도를 프로바이더 호출 전에 확인합니다.
+ * 
+ * 토큰은 요청 시점에 TokenEstimator 로 추정한 프롬프트 토큰과 maxTokens 를 더해 미리 차감하고, 응답을 받으면 실제 사용량과의 차이를 돌려줍니다.
+ * 호출이 실패하면 차감한 토큰을 모두 돌려주고, 스트림은 전송된 응답으로 추정한 사용량으로, 배치는 항목마다 정산합니다.
+ * 일일 비용은 UsageLedger 의 누적 비용에서 UTC 자정 시점의 값을 뺀 값입니다. 여기에 진행 중인 요청에 잡아 둔 비용과
+ * 이번 요청의 최대 예상 비용을 더해 한도를 넘으면 거절하고, 넘지 않으면 예상 비용을 정산할 때까지 잡아 둡니다.
+ * 그래서 동시에 들어온 요청이 함께 한도를 넘지 않습니다. 한도를 넘으면 QuotaExceededException(429, Retry-After)을 던집니다.
+ * 
+ * max-callers 를 넘은 새 호출자는 공용 한도("other")로 차감하며, 정산도 차감한 한도(QuotaReservation.quotaKey)에 합니다.
+ * 
+ * - ai.quota.rejected: 거절 수 (reason=requests|tokens|budget)
+ */
+@Service
+public class CallerQuotaService {
+    
+    static final String OVERFLOW_CALLER = "other";
+    
+    private final AIQuotaProperties properties;
+    private final TokenPricingService pricingService;
+    private final UsageLedger usageLedger;
+    private final TokenEstimator tokenEstimator;
+    private final Map<String, CallerQuota> quotas = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections;
+    
+    public CallerQuotaService(AIQuotaProperties properties, TokenPricingService pricingService, UsageLedger usageLedger,
+                              TokenEstimator tokenEstimator, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pricingService = pricingService;
+        this.usageLedger = usageLedger;
+        this.tokenEstimator = tokenEstimator;
+        this.rejections = Map.of(
+                CallerQuota.REQUESTS, rejectionCounter(meterRegistry, CallerQuota.REQUESTS),
+                CallerQuota.TOKENS, rejectionCounter(meterRegistry, CallerQuota.TOKENS),
+                CallerQuota.BUDGET, rejectionCounter(meterRegistry, CallerQuota.BUDGET));
+    }
+    
+    public QuotaReservation acquire(GenerateRequest request) {
+        return acquire(request.getCaller(), List.of(request));
+    }
+    
+    /**
+     * @return 미리 차감한 한도. 호출이 끝나면 settle 로 정산합니다
+     * @throws QuotaExceededException 한도를 넘은 경우
+     */
+    public QuotaReservation acquire(String caller, List<GenerateRequest> requests) {
+        if (!properties.isEnabled()) {
+            return QuotaReservation.NONE;
+        }
+        
+        CallerQuota quota = quota(caller);
+        long now = System.nanoTime();
+        
+        long costMicros = 0;
+        if (quota.getLimits().getDailyBudgetUsd() > 0) {
+            long budget = UsageTotals.toMicros(quota.getLimits().getDailyBudgetUsd());
+            long spent = quota.spentTodayMicros(usageLedger.getCostMicros(quota.getCaller()), today());
+            costMicros = estimateCostMicros(requests);
+            if (!quota.tryReserveCost(spent, costMicros, budget)) {
+                throw reject(quota, CallerQuota.BUDGET, secondsUntilTomorrow(),
+                        String.format("일일 비용 한도(%.2f USD)를 초과했습니다", quota.getLimits().getDailyBudgetUsd()));
+            }
+        }
+        
+        TokenBucket requestBucket = quota.getRequestBucket();
+        if (requestBucket != null) {
+            long wait = requestBucket.tryAcquire(requests.size(), now);
+            if (wait > 0) {
+                quota.releaseCost(costMicros);
+                throw reject(quota, CallerQuota.REQUESTS, toSeconds(wait),
+                        String.format("분당 요청 한도(%d)를 초과했습니다", quota.getLimits().getRequestsPerMinute()));
+            }
+        }
+        
+        long tokens = estimateTokens(requests);
+        TokenBucket tokenBucket = quota.getTokenBucket();
+        if (tokenBucket != null) {
+            long wait = tokenBucket.tryAcquire(tokens, now);
+            if (wait > 0) {
+                if (requestBucket != null) {
+                    requestBucket.refund(requests.size(), now);
+                }
+                quota.releaseCost(costMicros);
+                throw reject(quota, CallerQuota.TOKENS, toSeconds(wait),
+                        String.format("분당 토큰 한도(%d)를 초과했습니다", quota.getLimits().getTokensPerMinute()));
+            }
+        }
+        return new QuotaReservation(quota.getCaller(), tokens, costMicros);
+    }
+    
+    /**
+     * 미리 차감한 토큰 중 실제로 쓰지 않은 만큼 돌려주고, 잡아 둔 예상 비용을 풉니다.
+     * 실제 비용은 UsageLedger 에 기록되어 있으므로 이후 확인부터 반영됩니다.
+     */
+    public void settle(QuotaReservation reservation, Integer usedTokens) {
+        if (reservation.quotaKey() == null) {
+            return;
+        }
+        refundTokens(reservation.quotaKey(), reservation.tokens(), usedTokens);
+        releaseCost(reservation);
+    }
+    
+    /**
+     * 스트림이 끝나거나 실패하거나 취소되면 프롬프트와 전송된 응답으로 추정한 사용량으로 정산합니다.
+     * 한 번도 구독되지 않은 스트림은 정산하지 않으므로, 구독 전에 실패하면 호출하는 쪽에서 settle(.., 0) 합니다.
+     */
+    public Flux<String> settleStream(GenerateRequest request, QuotaReservation reservation, Flux<String> stream) {
+        if (reservation.quotaKey() == null) {
+            return stream;
+        }
+        return Flux.defer(() -> {
+            TokenTally output = new TokenTally(TokenizerProfile.DEFAULT);
+            return stream
+                    .doOnNext(output::add)
+                    .doFinally(signal -> settle(reservation, promptTokens(request) + output.tokens()));
+        });
+    }
+    
+    /**
+     * acquire(caller, requests) 로 한꺼번에 차감한 배치의 토큰을 항목 결과(BatchItemResult)마다 정산합니다.
+     * 실패한 항목은 모두 돌려주고, 배치가 취소되거나 실패해 결과가 오지 않은 항목도 끝날 때 모두 돌려줍니다.
+     * 잡아 둔 예상 비용은 배치가 끝날 때 한꺼번에 풉니다.
+     */
+    public Flux<Object> settleBatch(QuotaReservation reservation, List<GenerateRequest> requests, Flux<Object> results) {
+        if (reservation.quotaKey() == null) {
+            return results;
+        }
+        return Flux.defer(() -> {
+            BitSet settled = new BitSet(requests.size());
+            return results
+                    .doOnNext(item -> {
+                        if (item instanceof BatchItemResult result && result.getIndex() != null) {
+                            Integer usedTokens = Boolean.TRUE.equals(result.getSuccess()) && result.getResponse() != null
+                                    ? result.getResponse().getTokensUsed()
+                                    : Integer.valueOf(0);
+                            settleItem(reservation, requests, settled, result.getIndex(), usedTokens);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        for (int i = 0; i < requests.size(); i++) {
+                            settleItem(reservation, requests, settled, i, 0);
+                        }
+                        releaseCost(reservation);
+                    });
+        });
+    }
+    
+    /**
+     * 호출자별 현재 한도 상태. 요청 경로와 같은 원자 변수를 읽기만 합니다.
+     */
+    public List<QuotaStatus> getStatus() {
+        long now = System.nanoTime();
+        LocalDate today = today();
+        return quotas.values().stream()
+                .map(quota -> quota.status(now, usageLedger.getCostMicros(quota.getCaller()), today))
+                .sorted(Comparator.comparing(QuotaStatus::caller))
+                .toList();
+    }
+    
+    private CallerQuota quota(String caller) {
+        String key = caller != null ? caller : Callers.ANONYMOUS;
+        CallerQuota quota = quotas.get(key);
+        if (quota != null) {
+            return quota;
+        }
+        if (quotas.size() >= properties.getMaxCallers()) {
+            key = OVERFLOW_CALLER;
+        }
+        return quotas.computeIfAbsent(key, name -> new CallerQuota(name, properties.getLimits(name), System.nanoTime(),
+                usageLedger.getCostMicros(name), today()));
+    }
+    
+    private void settleItem(QuotaReservation reservation, List<GenerateRequest> requests, BitSet settled, int index, Integer usedTokens) {
+        synchronized (settled) {
+            if (settled.get(index)) {
+                return;
+            }
+            settled.set(index);
+        }
+        refundTokens(reservation.quotaKey(), reservedTokens(requests.get(index)), usedTokens);
+    }
+    
+    private void refundTokens(String quotaKey, long reservedTokens, Integer usedTokens) {
+        if (reservedTokens <= 0 || usedTokens == null) {
+            return;
+        }
+        CallerQuota quota = quotas.get(quotaKey);
+        if (quota != null && quota.getTokenBucket() != null) {
+            quota.getTokenBucket().refund(reservedTokens - usedTokens, System.nanoTime());
+        }
+    }
+    
+    private void releaseCost(QuotaReservation reservation) {
+        CallerQuota quota = quotas.get(reservation.quotaKey());
+        if (quota != null && reservation.costMicros() > 0) {
+            quota.releaseCost(reservation.costMicros());
+        }
+    }
+    
+    private long estimateTokens(List<GenerateRequest> requests) {
+        long tokens = 0;
+        for (GenerateRequest request : requests) {
+            tokens += reservedTokens(request);
+        }
+        return tokens;
+    }
+    
+    private long reservedTokens(GenerateRequest request) {
+        return promptTokens(request) + maxTokens(request);
+    }
+    
+    private long estimateCostMicros(List<GenerateRequest> requests) {
+        long micros = 0;
+        for (GenerateRequest request : requests) {
+            micros += UsageTotals.toMicros(pricingService.calculateCost(request.getModel(), promptTokens(request), maxTokens(request)));
+        }
+        return micros;
+    }
+    
+    /**
+     * 아직 프로바이더가 정해지지 않았으므로 가장 보수적인 기본 토크나이저로 추정합니다. 남는 만큼은 settle 에서 돌려줍니다.
+     */
+    private int promptTokens(GenerateRequest request) {
+        int tokens = tokenEstimator.estimate(TokenizerProfile.DEFAULT, request.getPrompt());
+        for (ConversationTurn turn : request.getHistory()) {
+            tokens += tokenEstimator.estimate(TokenizerProfile.DEFAULT, turn.getText());
+        }
+        return tokens;
+    }
+    
+    private static int maxTokens(GenerateRequest request) {
+        return request.getMaxTokens() != null ? request.getMaxTokens() : AIService.DEFAULT_MAX_TOKENS;
+    }
+    
+    private QuotaExceededException reject(CallerQuota quota, String reason, long retryAfterSeconds, String message) {
+        quota.onRejected();
+        rejections.get(reason).increment();
+        return new QuotaExceededException(message, quota.getCaller(), reason, retryAfterSeconds);
+    }
+    
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ai.quota.rejected")
+                .description("호출자 한도 초과로 거절한 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+    
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+    
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+    
+    private static long secondsUntilTomorrow() {
+        Instant midnight = today().plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return Math.max(1, Duration.between(Instant.now(), midnight).toSeconds());
+    }
+}
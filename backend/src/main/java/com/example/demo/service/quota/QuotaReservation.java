@@ -0,0 +1,16 @@
+package com.example.demo.service.quota;
+
+/**
+ * CallerQuotaService.acquire 가 미리 차감한 한도. 호출이 끝나면 CallerQuotaService.settle 로 정산합니다.
+ * 
+ * @param quotaKey 차감한 호출자 한도의 키. ai.quota.max-callers 를 넘어 공용 한도로 차감했으면 "other"
+ * @param tokens 미리 차감한 토큰 수
+ * @param costMicros 일일 비용 한도에서 잡아 둔 최대 예상 비용 (마이크로 달러)
+ */
+public record QuotaReservation(String quotaKey, long tokens, long costMicros) {
+    
+    /**
+     * 한도 확인이 꺼져 있어 아무것도 차감하지 않은 경우.
+     */
+    public static final QuotaReservation NONE = new QuotaReservation(null, 0, 0);
+}
@@ -0,0 +1,20 @@
+package com.example.demo.service.quota;
+
+/**
+ * 호출자별 한도 상태 (/actuator/quotas 응답).
+ * 
+ * @param availableRequests 한도가 없으면 null
+ * @param availableTokens 한도가 없으면 null
+ * @param reservedUsd 진행 중인 요청에 잡아 둔 최대 예상 비용
+ */
+public record QuotaStatus(
+        String caller,
+        int requestsPerMinute,
+        Long availableRequests,
+        long tokensPerMinute,
+        Long availableTokens,
+        double dailyBudgetUsd,
+        double spentTodayUsd,
+        double reservedUsd,
+        long rejected) {
+}
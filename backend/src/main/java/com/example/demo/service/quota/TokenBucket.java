@@ -0,0 +1,65 @@
+package com.example.demo.service.quota;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷.
+ * 
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각"(GCRA 의 theoretical arrival time) 하나만 AtomicLong 으로 보관하므로
+ * 토큰 보충과 차감을 CAS 한 번으로 처리합니다. 용량은 분당 허용량과 같아서 한 번에 최대 1분치까지 몰아 쓸 수 있습니다.
+ */
+final class TokenBucket {
+    
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+    
+    TokenBucket(long perMinute, long nowNanos) {
+        this.capacity = perMinute;
+        this.nanosPerToken = Math.max(1, TimeUnit.MINUTES.toNanos(1) / perMinute);
+        this.burstNanos = nanosPerToken * perMinute;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+    
+    /**
+     * 용량보다 많이 요청하면 버킷이 가득 찬 경우에만 허용합니다.
+     * 
+     * @return 차감했으면 0, 아니면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    long tryAcquire(long tokens, long nowNanos) {
+        long cost = Math.min(tokens, capacity) * nanosPerToken;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + cost;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * 미리 차감한 토큰 중 쓰지 않은 만큼 돌려줍니다. 버킷 용량을 넘겨 채우지는 않습니다.
+     */
+    void refund(long tokens, long nowNanos) {
+        if (tokens <= 0) {
+            return;
+        }
+        long credit = Math.min(tokens, capacity) * nanosPerToken;
+        fullAt.accumulateAndGet(credit, (current, amount) -> Math.max(current - amount, nowNanos));
+    }
+    
+    long available(long nowNanos) {
+        long debt = Math.max(fullAt.get(), nowNanos) - nowNanos;
+        return Math.max(0, (burstNanos - debt) / nanosPerToken);
+    }
+    
+    long capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.demo.service.routing;
+
+import com.example.demo.config.properties.AIRoutingProperties;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.health.ProviderHealthMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청을 처리할 모델 후보 목록을 우선순위 순으로 결정합니다.
+ * 
+ * model 에 모델 클래스(ai.routing.classes)를 지정하면 클래스에 속한 모델을 EWMA 지연 시간과 오류율로 정렬하고,
+ * 모델 ID와 fallbackModels 를 지정하면 지정한 순서를 유지합니다. 두 경우 모두 헬스체크에서 비정상으로
+ * 확인된 프로바이더의 모델은 뒤로 보냅니다. 레지스트리에 없는 모델 ID와 null 은 후보에서 빼고,
+ * 남는 후보가 없으면 요청한 모델만 돌려주어 ModelNotSupportedException 으로 끝나게 합니다.
+ * 
+ * 메트릭 태그에는 레지스트리에 있는 모델 ID와 설정된 모델 클래스만 쓰고 나머지는 "unknown" 으로 기록해
+ * 클라이언트 입력으로 태그 값이 늘어나지 않게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ModelRouter {
+    
+    static final String UNKNOWN = "unknown";
+    
+    private final AIRoutingProperties properties;
+    private final AIServiceFactory aiServiceFactory;
+    private final ProviderHealthMonitor healthMonitor;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, ModelStats> statsByModel = new ConcurrentHashMap<>();
+    
+    public List<String> route(GenerateRequest request) {
+        List<String> modelClass = request.getModel() != null ? properties.getClasses().get(request.getModel()) : null;
+        
+        List<String> candidates;
+        if (modelClass != null) {
+            candidates = new ArrayList<>(modelClass);
+            candidates.removeIf(modelId -> !isSupported(modelId));
+            candidates.sort(Comparator.comparingDouble(modelId -> stats(modelId).score(properties.getErrorPenalty())));
+        } else {
+            Set<String> ordered = new LinkedHashSet<>();
+            ordered.add(request.getModel());
+            if (request.getFallbackModels() != null) {
+                request.getFallbackModels().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(ordered::add);
+            }
+            candidates = new ArrayList<>(ordered);
+            candidates.removeIf(modelId -> !isSupported(modelId));
+        }
+        
+        if (candidates.isEmpty()) {
+            return Collections.singletonList(request.getModel());
+        }
+        if (candidates.size() > 1) {
+            candidates.sort(Comparator.comparing(modelId -> !isProviderHealthy(modelId)));
+        }
+        return candidates;
+    }
+    
+    public void recordDecision(GenerateRequest request, String modelId) {
+        if (modelId == null) {
+            return;
+        }
+        Counter.builder("ai.routing.decisions")
+                .description("라우팅으로 선택된 모델별 요청 수")
+                .tag("requested", requestedTag(request.getModel()))
+                .tag("model", modelTag(modelId))
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    public void recordFailover(String fromModel, String toModel) {
+        log.warn("모델 장애 조치: {} -> {}", fromModel, toModel);
+        Counter.builder("ai.routing.failovers")
+                .description("다음 후보 모델로 장애 조치된 횟수")
+                .tag("from", modelTag(fromModel))
+                .tag("to", modelTag(toModel))
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    public void recordResult(String modelId, long latencyMs, boolean success) {
+        if (!isSupported(modelId)) {
+            return;
+        }
+        stats(modelId).record(latencyMs, success);
+    }
+    
+    private boolean isSupported(String modelId) {
+        return aiServiceFactory.getRegistry().contains(modelId);
+    }
+    
+    private String modelTag(String modelId) {
+        return isSupported(modelId) ? modelId : UNKNOWN;
+    }
+    
+    private String requestedTag(String model) {
+        return model != null && properties.getClasses().containsKey(model) ? model : modelTag(model);
+    }
+    
+    private boolean isProviderHealthy(String modelId) {
+        try {
+            String provider = aiServiceFactory.getServiceByModel(modelId).getProviderName();
+            return healthMonitor.getHealth(provider).map(health -> health.isHealthy()).orElse(true);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+    
+    private ModelStats stats(String modelId) {
+        return statsByModel.computeIfAbsent(modelId, id -> {
+            ModelStats stats = new ModelStats(properties.getEwmaAlpha());
+            Gauge.builder("ai.routing.model.latency", stats, ModelStats::getLatencyMs)
+                    .description("모델별 EWMA 응답 지연 시간")
+                    .baseUnit("milliseconds")
+                    .tag("model", id)
+                    .register(meterRegistry);
+            Gauge.builder("ai.routing.model.error.rate", stats, ModelStats::getErrorRate)
+                    .description("모델별 EWMA 오류율")
+                    .tag("model", id)
+                    .register(meterRegistry);
+            return stats;
+        });
+    }
+}
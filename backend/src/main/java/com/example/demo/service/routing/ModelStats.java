@@ -0,0 +1,44 @@
+package com.example.demo.service.routing;
+
+/**
+ * 모델별 지연 시간과 오류율의 지수 이동 평균(EWMA).
+ */
+public class ModelStats {
+    
+    private final double alpha;
+    private volatile double latencyMs;
+    private volatile double errorRate;
+    private volatile boolean sampled;
+    
+    public ModelStats(double alpha) {
+        this.alpha = alpha;
+    }
+    
+    public synchronized void record(long latencyMs, boolean success) {
+        if (!sampled) {
+            this.latencyMs = latencyMs;
+            this.errorRate = success ? 0.0 : 1.0;
+            this.sampled = true;
+            return;
+        }
+        if (success) {
+            this.latencyMs += alpha * (latencyMs - this.latencyMs);
+        }
+        this.errorRate += alpha * ((success ? 0.0 : 1.0) - this.errorRate);
+    }
+    
+    /**
+     * 낮을수록 우선합니다. 표본이 없는 모델은 0으로 먼저 시도됩니다.
+     */
+    public double score(double errorPenalty) {
+        return latencyMs * (1 + errorPenalty * errorRate);
+    }
+    
+    public double getLatencyMs() {
+        return latencyMs;
+    }
+    
+    public double getErrorRate() {
+        return errorRate;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.demo.service.session;
+
+import com.example.demo.model.ConversationTurn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 세션의 대화 기록을 바이트 배열 하나에 담습니다.
+ * 
+ * 차례마다 [헤더 1바이트][추정 토큰 수 varint][본문 길이 varint][본문] 순서로 이어 붙입니다. 헤더는 역할과
+ * 본문 인코딩이며, 본문은 Latin-1, UTF-8, UTF-16 중 가장 짧은 것으로 저장합니다(한글 위주 본문은 UTF-16 이 UTF-8 보다 짧습니다).
+ * 배열은 항상 내용 길이에 맞춰 두므로 차례마다 객체와 String 을 두는 것보다 작고, 배열 길이가 곧 기록 크기입니다.
+ * 
+ * 스레드 안전하지 않습니다. ConversationStore 의 잠금 안에서만 사용합니다.
+ */
+final class ConversationHistory {
+    
+    private static final int ROLE_ASSISTANT = 0x01;
+    private static final int ENCODING_LATIN1 = 0x00;
+    private static final int ENCODING_UTF8 = 0x02;
+    private static final int ENCODING_UTF16 = 0x04;
+    private static final int ENCODING_MASK = 0x06;
+    
+    private byte[] data;
+    private int turnCount;
+    private long tokens;
+    
+    ConversationHistory() {
+        this.data = new byte[0];
+    }
+    
+    /**
+     * 파일에서 읽은 기록. 차례를 한 번 훑어 개수와 토큰 수를 다시 셉니다.
+     * 
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    ConversationHistory(byte[] data) {
+        this.data = data;
+        int offset = 0;
+        while (offset < data.length) {
+            Header header = readHeader(data, offset);
+            offset = header.bodyOffset() + header.bodyLength();
+            if (offset > data.length) {
+                throw new IllegalArgumentException("대화 기록이 잘렸습니다");
+            }
+            turnCount++;
+            tokens += header.tokens();
+        }
+    }
+    
+    /**
+     * 차례들을 배열 복사 한 번으로 덧붙입니다.
+     * 
+     * @param encoded encode 로 만든 차례들
+     */
+    void append(byte[]... encoded) {
+        int length = data.length;
+        for (byte[] turn : encoded) {
+            length += turn.length;
+        }
+        byte[] grown = Arrays.copyOf(data, length);
+        int offset = data.length;
+        for (byte[] turn : encoded) {
+            System.arraycopy(turn, 0, grown, offset, turn.length);
+            offset += turn.length;
+            Header header = readHeader(turn, 0);
+            turnCount++;
+            tokens += header.tokens();
+        }
+        data = grown;
+    }
+    
+    /**
+     * 추정 토큰 수가 budget 이하가 될 때까지 가장 오래된 차례를 둘씩(사용자 프롬프트와 응답) 지웁니다.
+     * 
+     * @return 지운 차례 수
+     */
+    int trimToTokens(long budget) {
+        int offset = 0;
+        int removed = 0;
+        long remaining = tokens;
+        while (remaining > budget && offset < data.length) {
+            for (int i = 0; i < 2 && offset < data.length; i++) {
+                Header header = readHeader(data, offset);
+                remaining -= header.tokens();
+                offset = header.bodyOffset() + header.bodyLength();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            data = Arrays.copyOfRange(data, offset, data.length);
+            turnCount -= removed;
+            tokens = remaining;
+        }
+        return removed;
+    }
+    
+    List<ConversationTurn> turns() {
+        List<ConversationTurn> turns = new ArrayList<>(turnCount);
+        int offset = 0;
+        while (offset < data.length) {
+            Header header = readHeader(data, offset);
+            turns.add(new ConversationTurn(header.role(), decode(header)));
+            offset = header.bodyOffset() + header.bodyLength();
+        }
+        return turns;
+    }
+    
+    int turnCount() {
+        return turnCount;
+    }
+    
+    long tokens() {
+        return tokens;
+    }
+    
+    int sizeBytes() {
+        return data.length;
+    }
+    
+    /**
+     * 내부 배열을 그대로 돌려줍니다. 파일에 쓸 때만 사용하고 수정하지 않습니다.
+     */
+    byte[] bytes() {
+        return data;
+    }
+    
+    static byte[] encode(ConversationTurn.Role role, String text, int tokens) {
+        int encoding;
+        byte[] body;
+        if (isLatin1(text)) {
+            encoding = ENCODING_LATIN1;
+            body = text.getBytes(StandardCharsets.ISO_8859_1);
+        } else {
+            body = text.getBytes(StandardCharsets.UTF_8);
+            encoding = ENCODING_UTF8;
+            if (body.length > text.length() * 2) {
+                body = text.getBytes(StandardCharsets.UTF_16LE);
+                encoding = ENCODING_UTF16;
+            }
+        }
+        
+        byte[] encoded = new byte[1 + varIntSize(tokens) + varIntSize(body.length) + body.length];
+        encoded[0] = (byte) (encoding | (role == ConversationTurn.Role.ASSISTANT ? ROLE_ASSISTANT : 0));
+        int offset = writeVarInt(encoded, 1, tokens);
+        offset = writeVarInt(encoded, offset, body.length);
+        System.arraycopy(body, 0, encoded, offset, body.length);
+        return encoded;
+    }
+    
+    private String decode(Header header) {
+        return switch (header.encoding()) {
+            case ENCODING_LATIN1 -> new String(data, header.bodyOffset(), header.bodyLength(), StandardCharsets.ISO_8859_1);
+            case ENCODING_UTF8 -> new String(data, header.bodyOffset(), header.bodyLength(), StandardCharsets.UTF_8);
+            default -> new String(data, header.bodyOffset(), header.bodyLength(), StandardCharsets.UTF_16LE);
+        };
+    }
+    
+    private static Header readHeader(byte[] bytes, int offset) {
+        int flags = bytes[offset] & 0xFF;
+        int encoding = flags & ENCODING_MASK;
+        if ((flags & ~(ENCODING_MASK | ROLE_ASSISTANT)) != 0 || encoding == ENCODING_MASK) {
+            throw new IllegalArgumentException("알 수 없는 대화 기록 헤더: " + flags);
+        }
+        int[] position = {offset + 1};
+        int tokens = readVarInt(bytes, position);
+        int length = readVarInt(bytes, position);
+        return new Header(
+                (flags & ROLE_ASSISTANT) != 0 ? ConversationTurn.Role.ASSISTANT : ConversationTurn.Role.USER,
+                encoding,
+                tokens,
+                position[0],
+                length);
+    }
+    
+    private static boolean isLatin1(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+    
+    private static int writeVarInt(byte[] bytes, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[offset++] = (byte) value;
+        return offset;
+    }
+    
+    /**
+     * position[0] 에서 varint 하나를 읽고 position[0] 을 그 다음으로 옮깁니다.
+     */
+    private static int readVarInt(byte[] bytes, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("대화 기록이 잘렸습니다");
+            }
+            byte b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
+    
+    private record Header(ConversationTurn.Role role, int encoding, int tokens, int bodyOffset, int bodyLength) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.service.session;
+
+import com.example.demo.exception.SessionNotFoundException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.AIGenerationService;
+import com.example.demo.service.quota.CallerQuotaService;
+import com.example.demo.service.quota.QuotaReservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * 세션 대화. 저장된 이전 대화를 요청에 붙여 AIGenerationService 로 보내고, 성공하면 프롬프트와 응답을 세션에 덧붙입니다.
+ * 
+ * 이전 대화가 입력 토큰에 포함되므로 호출자 한도 차감도 이전 대화를 붙인 요청으로 합니다.
+ * 스트리밍은 끝까지 받은 경우에만 응답을 저장하고, 취소되거나 실패하면 그 차례는 저장하지 않습니다.
+ * 응답이 없거나(null) 비어 있어도 저장하지 않습니다. 빈 응답 차례가 기록에 남으면 Anthropic 이 이후 요청을 400 으로 거부합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConversationService {
+    
+    private final ConversationStore conversationStore;
+    private final AIGenerationService aiGenerationService;
+    private final CallerQuotaService callerQuotaService;
+    
+    /**
+     * @throws SessionNotFoundException 세션이 없거나 이미 삭제된 경우
+     */
+    public GenerateResponse send(String sessionId, GenerateRequest request) {
+        GenerateRequest sessionRequest = withHistory(sessionId, request);
+        QuotaReservation reservation = callerQuotaService.acquire(sessionRequest);
+        GenerateResponse response;
+        Integer usedTokens = 0;
+        try {
+            response = aiGenerationService.generate(sessionRequest);
+            usedTokens = response.getTokensUsed();
+        } finally {
+            callerQuotaService.settle(reservation, usedTokens);
+        }
+        
+        append(sessionId, request.getPrompt(), response.getGeneratedText());
+        return response;
+    }
+    
+    /**
+     * @throws SessionNotFoundException 세션이 없거나 이미 삭제된 경우. 스트림을 만들기 전에 던집니다
+     */
+    public Flux<String> sendStream(String sessionId, GenerateRequest request) {
+        GenerateRequest sessionRequest = withHistory(sessionId, request);
+        QuotaReservation reservation = callerQuotaService.acquire(sessionRequest);
+        Flux<String> stream;
+        try {
+            stream = callerQuotaService.settleStream(sessionRequest, reservation, aiGenerationService.generateStream(sessionRequest));
+        } catch (RuntimeException e) {
+            callerQuotaService.settle(reservation, 0);
+            throw e;
+        }
+        
+        return Flux.defer(() -> {
+            StringBuilder reply = new StringBuilder();
+            return stream
+                    .doOnNext(reply::append)
+                    .doOnComplete(() -> append(sessionId, request.getPrompt(), reply.toString()));
+        });
+    }
+    
+    private void append(String sessionId, String prompt, String reply) {
+        if (reply == null || reply.isBlank()) {
+            log.warn("빈 응답은 세션에 저장하지 않습니다: sessionId={}", sessionId);
+            return;
+        }
+        conversationStore.append(sessionId, prompt, reply);
+    }
+    
+    private GenerateRequest withHistory(String sessionId, GenerateRequest request) {
+        return request.toBuilder()
+                .history(conversationStore.history(sessionId))
+                .build();
+    }
+}
@@ -0,0 +1,443 @@
+package com.example.demo.service.session;
+
+import com.example.demo.config.properties.AISessionProperties;
+import com.example.demo.exception.SessionNotFoundException;
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.token.TokenizerProfile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 세션별 대화 기록을 메모리에 압축해 보관합니다.
+ * 
+ * 기록은 세션마다 ConversationHistory 바이트 배열 하나이며, 덧붙일 때마다 ai.sessions.history-token-budget 을
+ * 넘지 않도록 오래된 대화부터 지웁니다. 전체 크기가 ai.sessions.max-memory-bytes 를 넘으면 가장 오래 쓰지 않은 세션부터
+ * 메모리에서 내보내고, ai.sessions.spill-path 가 있으면 내보낸 세션을 파일로 옮겼다가 다시 쓸 때 읽어 옵니다.
+ * ai.sessions.idle-timeout-minutes 동안 쓰지 않은 세션은 메모리와 파일 모두에서 삭제합니다.
+ * 
+ * 모든 상태는 잠금 하나로 보호합니다. 세션 파일은 토큰 예산으로 크기가 제한되므로 잠금 안에서 읽고 씁니다.
+ * 
+ * - ai.sessions.active: 메모리에 있는 세션 수
+ * - ai.sessions.memory: 메모리에 있는 세션의 대략적인 크기 (bytes)
+ * - ai.sessions.evictions: 메모리에서 내보낸 세션 수 (cause=memory|idle)
+ * - ai.sessions.spill: 세션 파일을 쓰거나 읽은 횟수 (operation=write|read)
+ */
+@Slf4j
+@Component
+public class ConversationStore {
+    
+    static final String EXTENSION = ".bin";
+    
+    /**
+     * 세션 객체, 맵 항목, 아이디 문자열처럼 대화 기록 밖에서 세션마다 드는 대략적인 힙 크기
+     */
+    static final int SESSION_OVERHEAD_BYTES = 256;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private final AISessionProperties properties;
+    private final TokenEstimator tokenEstimator;
+    private final Clock clock;
+    private final Path spillDirectory;
+    private final LinkedHashMap<String, Session> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private final ScheduledExecutorService sweeper;
+    private final Counter memoryEvictions;
+    private final Counter idleEvictions;
+    private final Counter spillWrites;
+    private final Counter spillReads;
+    
+    private long memoryBytes;
+    
+    @Autowired
+    public ConversationStore(AISessionProperties properties, TokenEstimator tokenEstimator, MeterRegistry meterRegistry) {
+        this(properties, tokenEstimator, meterRegistry, Clock.systemUTC());
+    }
+    
+    ConversationStore(AISessionProperties properties, TokenEstimator tokenEstimator, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.tokenEstimator = tokenEstimator;
+        this.clock = clock;
+        this.spillDirectory = properties.getSpillPath() == null || properties.getSpillPath().isBlank()
+                ? null
+                : Path.of(properties.getSpillPath()).toAbsolutePath().normalize();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ai-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        Gauge.builder("ai.sessions.active", this, ConversationStore::size)
+                .description("메모리에 있는 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("ai.sessions.memory", this, ConversationStore::getMemoryBytes)
+                .description("메모리에 있는 세션의 대략적인 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.memoryEvictions = evictionCounter(meterRegistry, "memory");
+        this.idleEvictions = evictionCounter(meterRegistry, "idle");
+        this.spillWrites = spillCounter(meterRegistry, "write");
+        this.spillReads = spillCounter(meterRegistry, "read");
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        sweeper.scheduleAtFixedRate(this::evictIdle, 1, 1, TimeUnit.MINUTES);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        sweeper.shutdownNow();
+    }
+    
+    public SessionSummary create() {
+        Session session = new Session(UUID.randomUUID().toString(), clock.instant(), new ConversationHistory());
+        synchronized (sessions) {
+            session.lastAccessedMillis = clock.millis();
+            sessions.put(session.id, session);
+            memoryBytes += session.memoryBytes();
+            evictOverMemory(session.id);
+            return session.summary();
+        }
+    }
+    
+    /**
+     * @throws SessionNotFoundException 세션이 없거나 이미 삭제된 경우
+     */
+    public SessionSummary get(String sessionId) {
+        synchronized (sessions) {
+            return find(sessionId).summary();
+        }
+    }
+    
+    /**
+     * @throws SessionNotFoundException 세션이 없거나 이미 삭제된 경우
+     */
+    public List<ConversationTurn> history(String sessionId) {
+        synchronized (sessions) {
+            return find(sessionId).history.turns();
+        }
+    }
+    
+    /**
+     * 사용자 프롬프트와 모델 응답을 함께 덧붙이고 기록을 토큰 예산에 맞춥니다.
+     * 가장 보수적인 기본 토크나이저로 세므로 어느 프로바이더로 보내도 예산을 넘지 않습니다.
+     * 그 사이에 세션이 삭제됐으면 저장하지 않습니다.
+     */
+    public void append(String sessionId, String prompt, String reply) {
+        byte[] user = ConversationHistory.encode(ConversationTurn.Role.USER, prompt, estimate(prompt));
+        byte[] assistant = ConversationHistory.encode(ConversationTurn.Role.ASSISTANT, reply, estimate(reply));
+        
+        synchronized (sessions) {
+            Session session = lookup(sessionId);
+            if (session == null) {
+                log.debug("삭제된 세션의 대화는 저장하지 않습니다: sessionId={}", sessionId);
+                return;
+            }
+            long before = session.memoryBytes();
+            session.history.append(user, assistant);
+            int trimmed = session.history.trimToTokens(properties.getHistoryTokenBudget());
+            memoryBytes += session.memoryBytes() - before;
+            if (trimmed > 0) {
+                log.debug("토큰 예산을 넘은 대화 삭제: sessionId={}, turns={}", sessionId, trimmed);
+            }
+            evictOverMemory(sessionId);
+        }
+    }
+    
+    /**
+     * @throws SessionNotFoundException 세션이 없거나 이미 삭제된 경우
+     */
+    public void delete(String sessionId) {
+        if (!isValidId(sessionId)) {
+            throw new SessionNotFoundException(sessionId);
+        }
+        synchronized (sessions) {
+            Session session = sessions.remove(sessionId);
+            if (session != null) {
+                memoryBytes -= session.memoryBytes();
+            }
+            if (!deleteSpillFile(sessionId) && session == null) {
+                throw new SessionNotFoundException(sessionId);
+            }
+        }
+    }
+    
+    /**
+     * 메모리에 있는 세션. 조회가 사용 시각을 바꾸지 않습니다.
+     */
+    public List<SessionSummary> list() {
+        synchronized (sessions) {
+            return sessions.values().stream()
+                    .map(Session::summary)
+                    .toList();
+        }
+    }
+    
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+    
+    public long getMemoryBytes() {
+        synchronized (sessions) {
+            return memoryBytes;
+        }
+    }
+    
+    /**
+     * @return 파일로 옮겨진 세션 수. 파일로 옮기지 않으면 0
+     */
+    public long getSpilledCount() {
+        if (spillDirectory == null || !Files.isDirectory(spillDirectory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).count();
+        } catch (IOException e) {
+            log.warn("세션 디렉터리를 읽을 수 없습니다: directory={}, error={}", spillDirectory, e.getMessage());
+            return 0;
+        }
+    }
+    
+    /**
+     * idle-timeout-minutes 동안 쓰지 않은 세션을 메모리와 파일에서 삭제합니다.
+     */
+    void evictIdle() {
+        long expiry = clock.millis() - TimeUnit.MINUTES.toMillis(properties.getIdleTimeoutMinutes());
+        int evicted = 0;
+        synchronized (sessions) {
+            // 접근 순서로 정렬돼 있으므로 만료되지 않은 세션을 만나면 멈춥니다
+            Iterator<Session> iterator = sessions.values().iterator();
+            while (iterator.hasNext()) {
+                Session session = iterator.next();
+                if (session.lastAccessedMillis > expiry) {
+                    break;
+                }
+                iterator.remove();
+                memoryBytes -= session.memoryBytes();
+                idleEvictions.increment();
+                evicted++;
+            }
+        }
+        
+        if (spillDirectory != null && Files.isDirectory(spillDirectory)) {
+            try (Stream<Path> files = Files.list(spillDirectory)) {
+                for (Path file : files.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).toList()) {
+                    if (Files.getLastModifiedTime(file).toMillis() <= expiry && Files.deleteIfExists(file)) {
+                        evicted++;
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("만료된 세션 파일 삭제 실패: directory={}, error={}", spillDirectory, e.getMessage());
+            }
+        }
+        if (evicted > 0) {
+            log.info("유휴 세션 삭제: sessions={}", evicted);
+        }
+    }
+    
+    private Session find(String sessionId) {
+        Session session = lookup(sessionId);
+        if (session == null) {
+            throw new SessionNotFoundException(sessionId);
+        }
+        return session;
+    }
+    
+    /**
+     * 메모리에 없으면 세션 파일에서 읽어 옵니다. 찾은 세션은 사용한 것으로 기록합니다.
+     */
+    private Session lookup(String sessionId) {
+        if (!isValidId(sessionId)) {
+            return null;
+        }
+        Session session = sessions.get(sessionId);
+        if (session == null && spillDirectory != null) {
+            session = load(sessionId);
+            if (session != null) {
+                sessions.put(sessionId, session);
+                memoryBytes += session.memoryBytes();
+            }
+        }
+        if (session != null) {
+            session.lastAccessedMillis = clock.millis();
+            evictOverMemory(sessionId);
+        }
+        return session;
+    }
+    
+    /**
+     * 전체 크기가 한도 안으로 들어올 때까지 가장 오래 쓰지 않은 세션부터 내보냅니다. 방금 쓴 세션은 남깁니다.
+     */
+    private void evictOverMemory(String keepId) {
+        long maxMemoryBytes = properties.getMaxMemoryBytes();
+        if (maxMemoryBytes <= 0) {
+            return;
+        }
+        Iterator<Session> iterator = sessions.values().iterator();
+        while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+            Session session = iterator.next();
+            if (session.id.equals(keepId)) {
+                continue;
+            }
+            iterator.remove();
+            memoryBytes -= session.memoryBytes();
+            memoryEvictions.increment();
+            if (spillDirectory != null) {
+                spill(session);
+            }
+        }
+    }
+    
+    private void spill(Session session) {
+        Path file = spillFile(session.id);
+        try {
+            Files.createDirectories(spillDirectory);
+            Path temp = Files.createTempFile(spillDirectory, session.id, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp); DataOutputStream data = new DataOutputStream(out)) {
+                byte[] history = session.history.bytes();
+                data.writeByte(FORMAT_VERSION);
+                data.writeLong(session.createdAt.toEpochMilli());
+                data.writeInt(history.length);
+                data.write(history);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            spillWrites.increment();
+        } catch (IOException e) {
+            log.warn("세션 파일 저장 실패, 세션을 버립니다: sessionId={}, error={}", session.id, e.getMessage());
+        }
+    }
+    
+    /**
+     * 다시 메모리로 올린 세션의 파일은 지웁니다. 읽을 수 없는 파일도 지웁니다.
+     */
+    private Session load(String sessionId) {
+        Path file = spillFile(sessionId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            Session session;
+            try (DataInputStream data = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+                int version = data.readUnsignedByte();
+                if (version != FORMAT_VERSION) {
+                    throw new IllegalArgumentException("알 수 없는 세션 파일 버전: " + version);
+                }
+                Instant createdAt = Instant.ofEpochMilli(data.readLong());
+                byte[] history = new byte[data.readInt()];
+                data.readFully(history);
+                session = new Session(sessionId, createdAt, new ConversationHistory(history));
+            }
+            spillReads.increment();
+            return session;
+        } catch (IOException | RuntimeException e) {
+            log.warn("세션 파일을 읽을 수 없습니다: file={}, error={}", file, e.getMessage());
+            return null;
+        } finally {
+            deleteSpillFile(sessionId);
+        }
+    }
+    
+    private boolean deleteSpillFile(String sessionId) {
+        if (spillDirectory == null) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(spillFile(sessionId));
+        } catch (IOException e) {
+            log.warn("세션 파일 삭제 실패: sessionId={}, error={}", sessionId, e.getMessage());
+            return false;
+        }
+    }
+    
+    private Path spillFile(String sessionId) {
+        return spillDirectory.resolve(sessionId + EXTENSION);
+    }
+    
+    private int estimate(String text) {
+        return tokenEstimator.estimate(TokenizerProfile.DEFAULT, text);
+    }
+    
+    /**
+     * 세션 아이디는 파일 이름으로도 쓰므로 create 가 만드는 UUID 형식만 받습니다.
+     */
+    private static boolean isValidId(String sessionId) {
+        if (sessionId == null || sessionId.length() != 36) {
+            return false;
+        }
+        try {
+            return UUID.fromString(sessionId).toString().equals(sessionId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("ai.sessions.evictions")
+                .description("메모리에서 내보낸 세션 수")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+    
+    private static Counter spillCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("ai.sessions.spill")
+                .description("세션 파일을 쓰거나 읽은 횟수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+    
+    private static final class Session {
+        final String id;
+        final Instant createdAt;
+        final ConversationHistory history;
+        long lastAccessedMillis;
+        
+        Session(String id, Instant createdAt, ConversationHistory history) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.history = history;
+        }
+        
+        long memoryBytes() {
+            return SESSION_OVERHEAD_BYTES + history.sizeBytes();
+        }
+        
+        SessionSummary summary() {
+            return new SessionSummary(id, createdAt, Instant.ofEpochMilli(lastAccessedMillis), history.turnCount(),
+                    history.tokens(), memoryBytes());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.service.session;
+
+import java.time.Instant;
+
+/**
+ * 세션 상태 요약. 대화 본문은 디코딩하지 않습니다.
+ * 
+ * @param tokens 저장된 대화의 추정 토큰 수 (기본 토크나이저 기준)
+ * @param memoryBytes 세션이 차지하는 대략적인 힙 크기 (대화 기록 바이트와 세션마다 드는 고정 크기의 합)
+ */
+public record SessionSummary(String id, Instant createdAt, Instant lastAccessedAt, int turns, long tokens, long memoryBytes) {
+}
@@ -0,0 +1,139 @@
+package com.example.demo.service.stream;
+
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.token.TokenTally;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 프로바이더 SDK의 블로킹 스트리밍 응답을 Flux로 변환합니다.
+ * 
+ * 스트림 생성과 청크 읽기는 모두 전용 스케줄러에서 수행되며, 다운스트림이 요청한 만큼만
+ * SDK 이터레이터를 당겨옵니다. 구독한 스레드는 즉시 반환됩니다.
+ * 다운스트림이 취소하면(클라이언트 연결 종료 등) SDK 응답을 즉시 닫아 프로바이더 측 생성도 중단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProviderStreamExecutor {
+    
+    private final Scheduler aiStreamingScheduler;
+    private final StreamMetrics streamMetrics;
+    private final TokenEstimator tokenEstimator;
+    
+    public <R extends AutoCloseable> Flux<String> execute(
+            String provider,
+            String modelId,
+            int maxTokens,
+            Callable<R> opener,
+            Function<R, Stream<String>> extractor) {
+        return Flux.defer(() -> {
+                    ProviderStream<R> stream = new ProviderStream<>(provider, modelId, maxTokens, opener, extractor);
+                    return Flux.generate(stream::open, stream::next, stream::close)
+                            .doOnCancel(stream::cancel);
+                })
+                .subscribeOn(aiStreamingScheduler);
+    }
+    
+    private void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.debug("스트림 리소스 해제 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 구독 하나에 대응하는 SDK 스트림 상태.
+     */
+    private final class ProviderStream<R extends AutoCloseable> {
+        
+        private final String provider;
+        private final String modelId;
+        private final int maxTokens;
+        private final Callable<R> opener;
+        private final Function<R, Stream<String>> extractor;
+        
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile R resource;
+        private volatile boolean cancelled;
+        private final TokenTally emitted;
+        
+        ProviderStream(String provider, String modelId, int maxTokens,
+                       Callable<R> opener, Function<R, Stream<String>> extractor) {
+            this.provider = provider;
+            this.modelId = modelId;
+            this.maxTokens = maxTokens;
+            this.opener = opener;
+            this.extractor = extractor;
+            this.emitted = tokenEstimator.tally(provider);
+        }
+        
+        Iterator<String> open() throws Exception {
+            resource = opener.call();
+            if (cancelled) {
+                closeResource();
+                return Collections.emptyIterator();
+            }
+            return extractor.apply(resource).iterator();
+        }
+        
+        Iterator<String> next(Iterator<String> chunks, SynchronousSink<String> sink) {
+            try {
+                if (chunks.hasNext()) {
+                    String chunk = chunks.next();
+                    // 취소 스레드가 읽으므로 잠급니다
+                    synchronized (emitted) {
+                        emitted.add(chunk);
+                    }
+                    sink.next(chunk);
+                } else {
+                    // 완료 신호 전에 닫아 다운스트림이 완료를 받을 때 연결이 이미 반환되도록 한다
+                    closeResource();
+                    sink.complete();
+                }
+            } catch (Exception e) {
+                // 취소로 인해 리소스가 닫히면서 발생한 예외는 다운스트림에 전달하지 않는다
+                if (!cancelled) {
+                    closeResource();
+                    sink.error(e);
+                }
+            }
+            return chunks;
+        }
+        
+        void close(Iterator<String> chunks) {
+            closeResource();
+        }
+        
+        private void closeResource() {
+            R current = resource;
+            if (current != null && closed.compareAndSet(false, true)) {
+                closeQuietly(current);
+            }
+        }
+        
+        void cancel() {
+            cancelled = true;
+            // 블로킹 읽기 중인 스케줄러 스레드를 깨우기 위해 취소 스레드에서 바로 닫는다
+            closeResource();
+            int emittedTokens;
+            synchronized (emitted) {
+                emittedTokens = emitted.tokens();
+            }
+            streamMetrics.recordCancellation(provider, modelId, maxTokens, emittedTokens);
+            log.debug("[{}] 스트림 취소됨: model={}, emittedTokens={}", provider, modelId, emittedTokens);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.service.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트리밍 취소 관련 메트릭.
+ * 
+ * 절약된 토큰은 요청한 최대 토큰에서 이미 전송된 텍스트의 추정 토큰 수(프로바이더별 TokenizerProfile 기준)를 뺀 값으로 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamMetrics {
+    
+    private final MeterRegistry meterRegistry;
+    
+    public void recordCancellation(String provider, String modelId, int maxTokens, long emittedTokens) {
+        long savedTokens = Math.max(0, maxTokens - emittedTokens);
+        
+        Counter.builder("ai.stream.cancellations")
+                .description("클라이언트 연결 종료로 취소된 스트림 수")
+                .tag("provider", provider)
+                .tag("model", modelId)
+                .register(meterRegistry)
+                .increment();
+        
+        DistributionSummary.builder("ai.stream.cancelled.tokens.saved")
+                .description("조기 취소로 생성되지 않은 출력 토큰 수 (추정)")
+                .baseUnit("tokens")
+                .tag("provider", provider)
+                .tag("model", modelId)
+                .register(meterRegistry)
+                .record(savedTokens);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.service.stub;
+
+import com.example.demo.config.properties.AIStubProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ai.stub 설정에 따라 스텁 호출의 결과(정상/오류/429)와 타이밍을 정합니다.
+ * 
+ * 첫 토큰까지의 시간(TTFT)은 중앙값 ttft-median-ms, 표준편차 ttft-sigma 의 로그 정규 분포를 따르고,
+ * 이후 토큰은 tokens-per-second 속도로 생성됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+public class StubLatencyModel {
+    
+    private static final String[] WORDS = {
+            "스프링", "부트는", "자동", "설정과", "내장", "서버를", "제공하며", "운영", "환경에서도", "간단하게", "배포할", "수", "있습니다."
+    };
+    
+    private final AIStubProperties properties;
+    
+    /**
+     * 매번 같은 TTFT 와 출력 토큰 수(토큰 간격 1ms)로 정상 응답하는 모델. 테스트와 벤치마크에서 씁니다.
+     */
+    public static StubLatencyModel fixed(Duration timeToFirstToken, int outputTokens) {
+        return new StubLatencyModel(new AIStubProperties(true, timeToFirstToken.toMillis(), 0, 1_000, outputTokens, 0, 0, 1));
+    }
+    
+    /**
+     * @param maxTokens 요청의 최대 출력 토큰 수 (없으면 null)
+     */
+    public StubPlan nextPlan(Integer maxTokens) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        double roll = random.nextDouble();
+        StubOutcome outcome;
+        if (roll < properties.getRateLimitRate()) {
+            outcome = StubOutcome.RATE_LIMITED;
+        } else if (roll < properties.getRateLimitRate() + properties.getErrorRate()) {
+            outcome = StubOutcome.ERROR;
+        } else {
+            outcome = StubOutcome.OK;
+        }
+        
+        long ttftMs = Math.round(properties.getTtftMedianMs() * Math.exp(properties.getTtftSigma() * random.nextGaussian()));
+        Duration tokenInterval = Duration.ofNanos(Math.round(1_000_000_000L / properties.getTokensPerSecond()));
+        int outputTokens = maxTokens != null ? Math.min(maxTokens, properties.getOutputTokens()) : properties.getOutputTokens();
+        return new StubPlan(outcome, Duration.ofMillis(ttftMs), tokenInterval, outputTokens);
+    }
+    
+    public String token(int index) {
+        return WORDS[index % WORDS.length] + " ";
+    }
+    
+    public String text(int tokens) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            text.append(token(i));
+        }
+        return text.toString().trim();
+    }
+    
+    public int getRetryAfterSeconds() {
+        return properties.getRetryAfterSeconds();
+    }
+    
+    /**
+     * 입력 토큰 수 근사치 (4자당 1토큰).
+     */
+    public int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + 3) / 4;
+    }
+}
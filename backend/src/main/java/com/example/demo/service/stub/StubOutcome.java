@@ -0,0 +1,11 @@
+package com.example.demo.service.stub;
+
+public enum StubOutcome {
+    OK,
+    ERROR,
+    RATE_LIMITED,
+    /**
+     * 본문 없이 정상 종료 (안전 필터 차단 등). ai.stub 비율로는 뽑히지 않고 StubAIService.EMPTY_MARKER 로만 정합니다.
+     */
+    EMPTY
+}
@@ -0,0 +1,17 @@
+package com.example.demo.service.stub;
+
+import java.time.Duration;
+
+/**
+ * 스텁 호출 한 건의 결과와 타이밍.
+ */
+public record StubPlan(StubOutcome outcome, Duration timeToFirstToken, Duration tokenInterval, int outputTokens) {
+    
+    public StubPlan withOutcome(StubOutcome outcome) {
+        return new StubPlan(outcome, timeToFirstToken, tokenInterval, outputTokens);
+    }
+    
+    public Duration totalLatency() {
+        return timeToFirstToken.plus(tokenInterval.multipliedBy(Math.max(0, outputTokens - 1)));
+    }
+}
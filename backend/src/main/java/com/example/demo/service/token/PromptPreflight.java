@@ -0,0 +1,115 @@
+package com.example.demo.service.token;
+
+import com.example.demo.config.properties.AITokenProperties;
+import com.example.demo.exception.ContextWindowExceededException;
+import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.TokenCountResponse;
+import com.example.demo.service.AIService;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.ModelRegistry;
+import com.example.demo.service.TokenPricingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * 프로바이더를 호출하기 전에 시스템 지시문과 프롬프트(세션 요청은 이전 대화 포함)의 토큰 수를 로컬에서 추정해
+ * 응답 최대 토큰까지 더한 값이 모델의 컨텍스트 크기를 넘으면 요청을 거절합니다.
+ * 
+ * 컨텍스트 크기를 모르는 모델(카탈로그에 context-window 가 없는 모델)은 확인하지 않습니다.
+ * 거절은 ContextWindowExceededException 으로, 대체 모델이 있으면 다음 후보로 넘어갑니다.
+ * 
+ * - ai.tokens.preflight.rejected: 컨텍스트 크기 초과로 거절한 요청 수 (provider)
+ */
+@Service
+public class PromptPreflight {
+    
+    private final AITokenProperties properties;
+    private final TokenEstimator tokenEstimator;
+    private final TokenPricingService pricingService;
+    private final AIServiceFactory aiServiceFactory;
+    private final MeterRegistry meterRegistry;
+    
+    public PromptPreflight(AITokenProperties properties, TokenEstimator tokenEstimator, TokenPricingService pricingService,
+                           AIServiceFactory aiServiceFactory, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokenEstimator = tokenEstimator;
+        this.pricingService = pricingService;
+        this.aiServiceFactory = aiServiceFactory;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * @throws ContextWindowExceededException 예상 토큰 수가 모델의 컨텍스트 크기를 넘는 경우
+     */
+    public void check(AIService service, GenerateRequest request) {
+        if (!properties.isPreflightEnabled()) {
+            return;
+        }
+        
+        Integer contextWindow = contextWindow(request.getModel());
+        if (contextWindow == null) {
+            return;
+        }
+        
+        int required = promptTokens(service, request) + maxTokens(service, request);
+        if (required > contextWindow) {
+            Counter.builder("ai.tokens.preflight.rejected")
+                    .description("컨텍스트 크기 초과로 거절한 요청 수")
+                    .tag("provider", service.getProviderName())
+                    .register(meterRegistry)
+                    .increment();
+            throw new ContextWindowExceededException(request.getModel(), service.getProviderName(), required, contextWindow);
+        }
+    }
+    
+    /**
+     * 요청을 보내지 않고 예상 토큰 수와 비용을 계산합니다.
+     */
+    public TokenCountResponse count(GenerateRequest request) {
+        ModelRegistry.Entry entry = aiServiceFactory.getRegistry().find(request.getModel());
+        if (entry == null) {
+            throw new ModelNotSupportedException(request.getModel(), "Unknown");
+        }
+        
+        AIService service = entry.service();
+        int promptTokens = promptTokens(service, request);
+        int maxTokens = maxTokens(service, request);
+        int totalTokens = promptTokens + maxTokens;
+        Integer contextWindow = entry.model().getContextWindow();
+        
+        return TokenCountResponse.builder()
+                .model(request.getModel())
+                .provider(service.getProviderName())
+                .tokenizer(TokenizerProfile.of(service.getProviderName()).family())
+                .promptTokens(promptTokens)
+                .maxTokens(maxTokens)
+                .totalTokens(totalTokens)
+                .contextWindow(contextWindow)
+                .fitsContextWindow(contextWindow == null || totalTokens <= contextWindow)
+                .estimatedInputCostUsd(pricingService.calculateCost(request.getModel(), promptTokens, 0))
+                .estimatedMaxCostUsd(pricingService.calculateCost(request.getModel(), promptTokens, maxTokens))
+                .build();
+    }
+    
+    private int promptTokens(AIService service, GenerateRequest request) {
+        TokenizerProfile profile = TokenizerProfile.of(service.getProviderName());
+        int tokens = tokenEstimator.estimate(profile, service.getSystemInstruction())
+                + tokenEstimator.estimate(profile, request.getPrompt());
+        for (ConversationTurn turn : request.getHistory()) {
+            tokens += tokenEstimator.estimate(profile, turn.getText());
+        }
+        return tokens;
+    }
+    
+    private Integer contextWindow(String modelId) {
+        ModelRegistry.Entry entry = aiServiceFactory.getRegistry().find(modelId);
+        return entry != null ? entry.model().getContextWindow() : null;
+    }
+    
+    private static int maxTokens(AIService service, GenerateRequest request) {
+        return request.getMaxTokens() != null ? request.getMaxTokens() : service.getDefaultMaxTokens();
+    }
+}
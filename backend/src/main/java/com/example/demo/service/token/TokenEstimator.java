@@ -0,0 +1,32 @@
+package com.example.demo.service.token;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 네트워크 호출 없이 프롬프트의 토큰 수를 추정합니다.
+ * 
+ * 문자열을 한 번만 훑으면서 문자를 ASCII 영문/숫자, 공백, 구두점, 한글/한자/가나, 그 밖의 문자로 나눠 세고
+ * TokenizerProfile 의 비율로 토큰 수를 계산합니다(계산은 TokenTally). 문자열을 복사하지 않으므로 모든 요청에서 실행해도 됩니다.
+ * 실제 토크나이저와는 몇 % 차이가 날 수 있으므로 컨텍스트 크기 확인과 비용 예상에만 사용합니다.
+ */
+@Component
+public class TokenEstimator {
+    
+    public int estimate(String provider, CharSequence text) {
+        return estimate(TokenizerProfile.of(provider), text);
+    }
+    
+    public int estimate(TokenizerProfile profile, CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        return new TokenTally(profile).add(text).tokens();
+    }
+    
+    /**
+     * 스트림처럼 텍스트가 조각으로 나뉘어 올 때 쓰는 누적기.
+     */
+    public TokenTally tally(String provider) {
+        return new TokenTally(TokenizerProfile.of(provider));
+    }
+}
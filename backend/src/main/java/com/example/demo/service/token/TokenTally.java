@@ -0,0 +1,81 @@
+package com.example.demo.service.token;
+
+/**
+ * 문자 종류별 개수를 누적해 토큰 수를 추정합니다. TokenEstimator 의 계산을 여러 조각에 걸쳐 이어서 합니다.
+ * 
+ * 스트림 청크를 하나씩 add 해도 청크 경계에서 단어가 나뉘거나 반올림이 쌓이지 않으므로, 응답 전체를 이어 붙여
+ * 한 번에 추정한 것과 같은 값을 냅니다. 응답 텍스트를 보관하지 않습니다.
+ * 
+ * 스레드 안전하지 않습니다. 한 스트림 구독 안에서만 사용합니다.
+ */
+public final class TokenTally {
+    
+    private static final int MILLI = 1000;
+    
+    private final TokenizerProfile profile;
+    private long alnum;
+    private long words;
+    private long punctuation;
+    private long cjk;
+    private long other;
+    private boolean inWord;
+    
+    public TokenTally(TokenizerProfile profile) {
+        this.profile = profile;
+    }
+    
+    public TokenTally add(CharSequence text) {
+        if (text == null) {
+            return this;
+        }
+        
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                    alnum++;
+                    if (!inWord) {
+                        words++;
+                        inWord = true;
+                    }
+                    continue;
+                }
+                inWord = false;
+                if (c > ' ' && c != 0x7F) {
+                    punctuation++;
+                }
+            } else {
+                inWord = false;
+                if (isCjk(c)) {
+                    cjk++;
+                } else if (!Character.isLowSurrogate(c) && !Character.isWhitespace(c)) {
+                    other++;
+                }
+            }
+        }
+        return this;
+    }
+    
+    public int tokens() {
+        // 짧은 단어도 최소 한 토큰이므로 글자 수 비율과 단어 수 중 큰 값을 씁니다
+        long latinTokens = Math.max(words, divideCeil(alnum * MILLI, profile.latinCharsPerTokenMilli()));
+        long tokens = latinTokens
+                + punctuation
+                + divideCeil(cjk * profile.cjkTokensPerCharMilli(), MILLI)
+                + divideCeil(other * profile.otherTokensPerCharMilli(), MILLI);
+        return (int) Math.min(Integer.MAX_VALUE, tokens);
+    }
+    
+    private static boolean isCjk(char c) {
+        return (c >= 0xAC00 && c <= 0xD7A3)     // 한글 음절
+                || (c >= 0x1100 && c <= 0x11FF) // 한글 자모
+                || (c >= 0x3130 && c <= 0x318F) // 한글 호환 자모
+                || (c >= 0x4E00 && c <= 0x9FFF) // CJK 통합 한자
+                || (c >= 0x3040 && c <= 0x30FF) // 히라가나, 가타카나
+                || (c >= 0x3400 && c <= 0x4DBF); // CJK 확장 A
+    }
+    
+    private static long divideCeil(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.service.token;
+
+/**
+ * 프로바이더 계열별 토크나이저 특성. 실제 토크나이저 대신 문자 종류별 평균 토큰 비율로 근사합니다.
+ * 
+ * 비율은 천분율(per-mille) 정수로 두어 추정 중에 부동소수점 연산을 하지 않습니다.
+ * 
+ * @param latinCharsPerTokenMilli ASCII 영문/숫자 몇 글자가 토큰 하나가 되는지 (x1000)
+ * @param cjkTokensPerCharMilli 한글/한자/가나 한 글자당 토큰 수 (x1000)
+ * @param otherTokensPerCharMilli 그 밖의 비 ASCII 문자 한 글자당 토큰 수 (x1000)
+ */
+public record TokenizerProfile(String family, int latinCharsPerTokenMilli, int cjkTokensPerCharMilli,
+                               int otherTokensPerCharMilli) {
+    
+    public static final TokenizerProfile OPENAI = new TokenizerProfile("OpenAI", 4000, 900, 500);
+    public static final TokenizerProfile ANTHROPIC = new TokenizerProfile("Anthropic", 3500, 1200, 600);
+    public static final TokenizerProfile GOOGLE = new TokenizerProfile("Google", 4000, 700, 500);
+    public static final TokenizerProfile DEFAULT = new TokenizerProfile("default", 3500, 1200, 600);
+    
+    /**
+     * @param provider AIService.getProviderName()
+     */
+    public static TokenizerProfile of(String provider) {
+        if (provider == null) {
+            return DEFAULT;
+        }
+        return switch (provider) {
+            case "OpenAI" -> OPENAI;
+            case "Anthropic" -> ANTHROPIC;
+            case "Google" -> GOOGLE;
+            default -> DEFAULT;
+        };
+    }
+}
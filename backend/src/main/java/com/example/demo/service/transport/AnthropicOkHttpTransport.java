@@ -0,0 +1,208 @@
+package com.example.demo.service.transport;
+
+import com.anthropic.backends.Backend;
+import com.anthropic.core.RequestOptions;
+import com.anthropic.core.Timeout;
+import com.anthropic.core.http.Headers;
+import com.anthropic.core.http.HttpClient;
+import com.anthropic.core.http.HttpMethod;
+import com.anthropic.core.http.HttpRequest;
+import com.anthropic.core.http.HttpRequestBody;
+import com.anthropic.core.http.HttpResponse;
+import com.anthropic.errors.AnthropicIoException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Anthropic SDK 의 HTTP 전송 계층을 ProviderConnectionPools 가 만든 OkHttpClient 로 바꿉니다.
+ * 
+ * SDK 기본 전송(AnthropicOkHttpClient)은 커넥션 풀과 프로토콜을 설정할 수 없어 같은 순서
+ * (Backend.prepareRequest, URL 조립, Backend.authorizeRequest)로 요청을 만들되 풀은 공유합니다.
+ * 요청 옵션의 타임아웃별로 파생 클라이언트를 한 번만 만들어 재사용합니다.
+ */
+public class AnthropicOkHttpTransport implements HttpClient {
+    
+    private final OkHttpClient okHttpClient;
+    private final Backend backend;
+    private final Map<Timeout, OkHttpClient> clientsByTimeout = new ConcurrentHashMap<>();
+    
+    public AnthropicOkHttpTransport(OkHttpClient okHttpClient, Backend backend) {
+        this.okHttpClient = okHttpClient;
+        this.backend = backend;
+    }
+    
+    @Override
+    public HttpResponse execute(HttpRequest request, RequestOptions requestOptions) {
+        HttpRequest prepared = prepare(request);
+        try {
+            Response response = newCall(prepared, requestOptions).execute();
+            return backend.prepareResponse(new OkHttpResponse(response));
+        } catch (IOException e) {
+            throw new AnthropicIoException("Request failed", e);
+        } finally {
+            closeBody(prepared);
+        }
+    }
+    
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request, RequestOptions requestOptions) {
+        HttpRequest prepared = prepare(request);
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        future.whenComplete((response, e) -> closeBody(prepared));
+        
+        newCall(prepared, requestOptions).enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                try {
+                    future.complete(backend.prepareResponse(new OkHttpResponse(response)));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+            
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(new AnthropicIoException("Request failed", e));
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * 커넥션 풀은 ProviderConnectionPools 가 닫습니다.
+     */
+    @Override
+    public void close() {
+        backend.close();
+    }
+    
+    private HttpRequest prepare(HttpRequest request) {
+        HttpRequest prepared = backend.prepareRequest(request);
+        prepared = prepared.toBuilder().baseUrl(toUrl(prepared)).build();
+        return backend.authorizeRequest(prepared);
+    }
+    
+    private String toUrl(HttpRequest request) {
+        HttpUrl.Builder url = HttpUrl.get(request.baseUrl() != null ? request.baseUrl() : backend.baseUrl()).newBuilder();
+        for (String segment : request.pathSegments()) {
+            url.addPathSegment(segment);
+        }
+        for (String key : request.queryParams().keys()) {
+            for (String value : request.queryParams().values(key)) {
+                url.addQueryParameter(key, value);
+            }
+        }
+        return url.toString();
+    }
+    
+    private Call newCall(HttpRequest request, RequestOptions requestOptions) {
+        Request.Builder builder = new Request.Builder()
+                .url(request.baseUrl())
+                .method(request.method().name(), toRequestBody(request));
+        Headers headers = request.headers();
+        for (String name : headers.names()) {
+            for (String value : headers.values(name)) {
+                builder.addHeader(name, value);
+            }
+        }
+        return client(requestOptions.getTimeout()).newCall(builder.build());
+    }
+    
+    private OkHttpClient client(Timeout timeout) {
+        if (timeout == null) {
+            return okHttpClient;
+        }
+        return clientsByTimeout.computeIfAbsent(timeout, key -> okHttpClient.newBuilder()
+                .connectTimeout(key.connect())
+                .readTimeout(key.read())
+                .writeTimeout(key.write())
+                .callTimeout(key.request())
+                .build());
+    }
+    
+    private static RequestBody toRequestBody(HttpRequest request) {
+        HttpRequestBody body = request.body();
+        if (body == null) {
+            return requiresBody(request.method()) ? RequestBody.create(new byte[0]) : null;
+        }
+        MediaType contentType = body.contentType() != null ? MediaType.parse(body.contentType()) : null;
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return contentType;
+            }
+            
+            @Override
+            public long contentLength() {
+                return body.contentLength();
+            }
+            
+            @Override
+            public boolean isOneShot() {
+                return !body.repeatable();
+            }
+            
+            @Override
+            public void writeTo(BufferedSink sink) {
+                body.writeTo(sink.outputStream());
+            }
+        };
+    }
+    
+    private static boolean requiresBody(HttpMethod method) {
+        return method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH;
+    }
+    
+    private static void closeBody(HttpRequest request) {
+        if (request.body() != null) {
+            request.body().close();
+        }
+    }
+    
+    private static class OkHttpResponse implements HttpResponse {
+        private final Response response;
+        private final Headers headers;
+        
+        OkHttpResponse(Response response) {
+            this.response = response;
+            Headers.Builder builder = Headers.builder();
+            for (String name : response.headers().names()) {
+                builder.put(name, response.headers(name));
+            }
+            this.headers = builder.build();
+        }
+        
+        @Override
+        public int statusCode() {
+            return response.code();
+        }
+        
+        @Override
+        public Headers headers() {
+            return headers;
+        }
+        
+        @Override
+        public InputStream body() {
+            return response.body() != null ? response.body().byteStream() : InputStream.nullInputStream();
+        }
+        
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
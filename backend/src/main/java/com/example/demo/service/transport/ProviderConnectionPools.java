@@ -0,0 +1,211 @@
+package com.example.demo.service.transport;
+
+import com.example.demo.config.properties.ProviderTransportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로바이더별 OkHttp 커넥션 풀을 만들고 사용률 지표를 등록합니다.
+ * 
+ * 풀은 프로바이더마다 하나이며, 같은 프로바이더의 동기 호출과 스트리밍 호출이 커넥션을 함께 씁니다.
+ * transport.prewarm-connections 가 0보다 크면 기동이 끝난 뒤 기본 URL 로 HEAD 요청을 비동기로 보내
+ * TCP/TLS 연결을 미리 열어 둡니다. HTTP/2 로 연결되면 요청이 한 커넥션에 다중화되므로 커넥션은 하나만 열립니다.
+ * 
+ * - ai.http.pool.connections: 풀의 커넥션 수 (provider, state=idle|active)
+ * - ai.http.connections.acquired: 요청이 커넥션을 얻은 횟수 (provider, reused=true|false)
+ * - ai.http.connect: 새 커넥션을 여는 데 걸린 시간 (provider, outcome=success|failure)
+ */
+@Slf4j
+@Component
+public class ProviderConnectionPools {
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ProviderPool> pools = new ConcurrentHashMap<>();
+    
+    public ProviderConnectionPools(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * provider 의 커넥션 풀을 쓰는 OkHttpClient 를 만듭니다. 타임아웃은 SDK 가 요청마다 덮어쓸 수 있습니다.
+     */
+    public OkHttpClient create(String provider, String baseUrl, ProviderTransportProperties transport) {
+        ConnectionPool connectionPool = new ConnectionPool(
+                Math.max(0, transport.getMaxIdleConnections()), Math.max(1, transport.getKeepAliveMs()), TimeUnit.MILLISECONDS);
+        ConnectionMeters meters = new ConnectionMeters(meterRegistry, provider);
+        
+        OkHttpClient client = new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .protocols(transport.isHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .connectTimeout(Duration.ofMillis(transport.getConnectTimeoutMs()))
+                .readTimeout(Duration.ofMillis(transport.getReadTimeoutMs()))
+                .writeTimeout(Duration.ofMillis(transport.getReadTimeoutMs()))
+                .eventListenerFactory(call -> new ConnectionMetricsListener(meters))
+                .build();
+        
+        Gauge.builder("ai.http.pool.connections", connectionPool, ConnectionPool::idleConnectionCount)
+                .description("프로바이더 커넥션 풀의 커넥션 수")
+                .tag("provider", provider)
+                .tag("state", "idle")
+                .register(meterRegistry);
+        Gauge.builder("ai.http.pool.connections", connectionPool, pool -> pool.connectionCount() - pool.idleConnectionCount())
+                .description("프로바이더 커넥션 풀의 커넥션 수")
+                .tag("provider", provider)
+                .tag("state", "active")
+                .register(meterRegistry);
+        
+        pools.put(provider, new ProviderPool(provider, baseUrl, transport, client));
+        log.debug("{} 커넥션 풀 생성: maxIdle={}, keepAliveMs={}, http2={}", provider,
+                transport.getMaxIdleConnections(), transport.getKeepAliveMs(), transport.isHttp2());
+        return client;
+    }
+    
+    /**
+     * @return 풀이 없으면 null
+     */
+    public ConnectionPool getConnectionPool(String provider) {
+        ProviderPool pool = pools.get(provider);
+        return pool != null ? pool.client().connectionPool() : null;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        for (ProviderPool pool : pools.values()) {
+            int connections = pool.transport().getPrewarmConnections();
+            if (connections > 0) {
+                prewarm(pool, connections);
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void close() {
+        for (ProviderPool pool : pools.values()) {
+            pool.client().dispatcher().executorService().shutdown();
+            pool.client().connectionPool().evictAll();
+        }
+    }
+    
+    private void prewarm(ProviderPool pool, int connections) {
+        Request request = new Request.Builder()
+                .url(pool.baseUrl())
+                .head()
+                .build();
+        pool.client().dispatcher().setMaxRequestsPerHost(Math.max(pool.client().dispatcher().getMaxRequestsPerHost(), connections));
+        
+        AtomicInteger remaining = new AtomicInteger(connections);
+        Callback callback = new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+                finish();
+            }
+            
+            @Override
+            public void onFailure(Call call, IOException e) {
+                log.warn("{} 커넥션 미리 연결 실패: {}", pool.provider(), e.getMessage());
+                finish();
+            }
+            
+            private void finish() {
+                if (remaining.decrementAndGet() == 0) {
+                    log.info("{} 커넥션 미리 연결 완료: requested={}, pooled={}", pool.provider(), connections,
+                            pool.client().connectionPool().connectionCount());
+                }
+            }
+        };
+        for (int i = 0; i < connections; i++) {
+            pool.client().newCall(request).enqueue(callback);
+        }
+    }
+    
+    private record ProviderPool(String provider, String baseUrl, ProviderTransportProperties transport, OkHttpClient client) {
+    }
+    
+    private static class ConnectionMeters {
+        private final Counter opened;
+        private final Counter reused;
+        private final Timer connectSuccess;
+        private final Timer connectFailure;
+        
+        ConnectionMeters(MeterRegistry meterRegistry, String provider) {
+            this.opened = acquiredCounter(meterRegistry, provider, false);
+            this.reused = acquiredCounter(meterRegistry, provider, true);
+            this.connectSuccess = connectTimer(meterRegistry, provider, "success");
+            this.connectFailure = connectTimer(meterRegistry, provider, "failure");
+        }
+        
+        private static Counter acquiredCounter(MeterRegistry meterRegistry, String provider, boolean reused) {
+            return Counter.builder("ai.http.connections.acquired")
+                    .description("요청이 커넥션을 얻은 횟수")
+                    .tag("provider", provider)
+                    .tag("reused", String.valueOf(reused))
+                    .register(meterRegistry);
+        }
+        
+        private static Timer connectTimer(MeterRegistry meterRegistry, String provider, String outcome) {
+            return Timer.builder("ai.http.connect")
+                    .description("새 커넥션을 여는 데 걸린 시간")
+                    .tag("provider", provider)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * 호출마다 하나씩 만들어지며, 호출 안에서 새 커넥션을 열었는지로 재사용 여부를 판단합니다.
+     */
+    private static class ConnectionMetricsListener extends okhttp3.EventListener {
+        private final ConnectionMeters meters;
+        private long connectStartNanos;
+        
+        ConnectionMetricsListener(ConnectionMeters meters) {
+            this.meters = meters;
+        }
+        
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectStartNanos = System.nanoTime();
+        }
+        
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            meters.connectSuccess.record(System.nanoTime() - connectStartNanos, TimeUnit.NANOSECONDS);
+        }
+        
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol, IOException ioe) {
+            meters.connectFailure.record(System.nanoTime() - connectStartNanos, TimeUnit.NANOSECONDS);
+        }
+        
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            (connectStartNanos != 0 ? meters.opened : meters.reused).increment();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.service.usage;
+
+/**
+ * 호출자 식별자. 클라이언트가 X-Client-Id 헤더로 보내며 없으면 anonymous 로 집계합니다.
+ */
+public final class Callers {
+    
+    public static final String HEADER = "X-Client-Id";
+    public static final String ANONYMOUS = "anonymous";
+    
+    static final int MAX_LENGTH = 64;
+    
+    private Callers() {
+    }
+    
+    public static String of(String clientId) {
+        if (clientId == null || clientId.isBlank()) {
+            return ANONYMOUS;
+        }
+        String trimmed = clientId.strip();
+        return trimmed.length() > MAX_LENGTH ? trimmed.substring(0, MAX_LENGTH) : trimmed;
+    }
+}
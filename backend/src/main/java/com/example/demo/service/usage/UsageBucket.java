@@ -0,0 +1,10 @@
+package com.example.demo.service.usage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 1분 동안의 사용량. minute 는 구간 시작 시각입니다.
+ */
+public record UsageBucket(Instant minute, Map<UsageKey, UsageTotals> usage) {
+}
@@ -0,0 +1,40 @@
+package com.example.demo.service.usage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 집계 단위별 누적 카운터. LongAdder 는 스레드별 셀에 나눠 더하므로 같은 키로 동시에 기록해도 경합이 적습니다.
+ */
+final class UsageCounters {
+    
+    private final UsageKey key;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder tokens = new LongAdder();
+    private final LongAdder costMicros = new LongAdder();
+    
+    UsageCounters(UsageKey key) {
+        this.key = key;
+    }
+    
+    void add(long tokenCount, long micros) {
+        requests.increment();
+        if (tokenCount != 0) {
+            tokens.add(tokenCount);
+        }
+        if (micros != 0) {
+            costMicros.add(micros);
+        }
+    }
+    
+    UsageKey key() {
+        return key;
+    }
+    
+    long costMicros() {
+        return costMicros.sum();
+    }
+    
+    UsageTotals snapshot() {
+        return new UsageTotals(requests.sum(), tokens.sum(), costMicros.sum());
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.service.usage;
+
+/**
+ * 사용량 집계 단위.
+ */
+public record UsageKey(String caller, String provider, String model) {
+}
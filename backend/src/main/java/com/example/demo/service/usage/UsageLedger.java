@@ -0,0 +1,293 @@
+package com.example.demo.service.usage;
+
+import com.example.demo.config.properties.AIUsageProperties;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.token.TokenTally;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로바이더, 모델, 호출자별 요청 수와 토큰, 비용을 누적하는 인프로세스 사용량 원장.
+ * 
+ * 요청 경로에서는 이미 만들어진 카운터를 찾아 LongAdder 에 더하기만 하고, 1분마다 백그라운드 스레드가
+ * 직전 집계 이후의 증가분을 분 단위 구간으로 묶어 링 버퍼(ai.usage.retention-minutes)에 넣고
+ * ai.usage.flush-path 파일 끝에 NDJSON 으로 덧붙입니다.
+ * 
+ * 비용은 실제로 프로바이더를 호출한 경우에만 더해지며, 캐시 응답은 비용 0 인 요청으로 기록됩니다.
+ * 스트리밍은 프로바이더 토크나이저 특성(TokenizerProfile)으로 프롬프트와 응답의 토큰을 추정해 비용을 계산합니다.
+ */
+@Slf4j
+@Component
+public class UsageLedger {
+    
+    static final String OVERFLOW_CALLER = "other";
+    
+    private final AIUsageProperties properties;
+    private final TokenPricingService pricingService;
+    private final TokenEstimator tokenEstimator;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Map<String, UsageCounters>> countersByCaller = new ConcurrentHashMap<>();
+    private final UsageBucket[] buckets;
+    private final Path flushPath;
+    private final Instant startedAt = Instant.now();
+    private final ScheduledExecutorService scheduler;
+    
+    private int nextBucket;
+    private Map<UsageKey, UsageTotals> rolledUp = Map.of();
+    
+    public UsageLedger(AIUsageProperties properties, TokenPricingService pricingService, TokenEstimator tokenEstimator,
+                       ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.pricingService = pricingService;
+        this.tokenEstimator = tokenEstimator;
+        this.objectMapper = objectMapper;
+        this.buckets = new UsageBucket[Math.max(1, properties.getRetentionMinutes())];
+        this.flushPath = properties.getFlushPath() == null || properties.getFlushPath().isBlank()
+                ? null
+                : Path.of(properties.getFlushPath());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ai-usage-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        long initialDelay = Duration.between(now, now.truncatedTo(ChronoUnit.MINUTES).plus(1, ChronoUnit.MINUTES)).toMillis();
+        scheduler.scheduleAtFixedRate(this::rollupPreviousMinute, initialDelay, TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        if (properties.isEnabled()) {
+            rollup(Instant.now().truncatedTo(ChronoUnit.MINUTES));
+        }
+    }
+    
+    /**
+     * @param model null 이면 provider 로 집계합니다
+     */
+    public void record(String caller, String provider, String model, long tokens, double costUsd) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        counters(caller, provider, model).add(tokens, UsageTotals.toMicros(costUsd));
+    }
+    
+    /**
+     * 스트림이 끝나거나 취소되면 프롬프트와 응답으로 추정한 토큰과 비용을 기록합니다.
+     * 응답은 청크마다 TokenTally 에 누적하므로 텍스트를 보관하지 않습니다.
+     */
+    public Flux<String> recordStream(String caller, String provider, String model, String prompt, Flux<String> stream) {
+        if (!properties.isEnabled()) {
+            return stream;
+        }
+        return Flux.defer(() -> {
+            TokenTally output = tokenEstimator.tally(provider);
+            Runnable finish = () -> recordEstimated(caller, provider, model, prompt, output.tokens());
+            return stream
+                    .doOnNext(output::add)
+                    .doOnComplete(finish)
+                    .doOnError(e -> finish.run())
+                    .doOnCancel(finish);
+        });
+    }
+    
+    /**
+     * 호출자의 기동 이후 누적 비용 (마이크로달러). 잠금 없이 카운터 합만 읽습니다.
+     */
+    public long getCostMicros(String caller) {
+        Map<String, UsageCounters> byModel = countersByCaller.get(caller != null ? caller : Callers.ANONYMOUS);
+        if (byModel == null) {
+            return 0;
+        }
+        long total = 0;
+        for (UsageCounters counters : byModel.values()) {
+            total += counters.costMicros();
+        }
+        return total;
+    }
+    
+    /**
+     * 기동 이후 전체 누적 사용량.
+     */
+    public UsageReport totals() {
+        return report(startedAt, Instant.now(), snapshot());
+    }
+    
+    /**
+     * 최근 minutes 개의 분 단위 구간과 아직 집계되지 않은 현재 구간의 사용량.
+     */
+    public UsageReport window(int minutes) {
+        return window(minutes, Instant.now());
+    }
+    
+    synchronized UsageReport window(int minutes, Instant now) {
+        Instant from = now.truncatedTo(ChronoUnit.MINUTES).minus(Math.max(0, minutes), ChronoUnit.MINUTES);
+        Map<UsageKey, UsageTotals> usage = new HashMap<>();
+        
+        for (UsageBucket bucket : buckets) {
+            if (bucket != null && !bucket.minute().isBefore(from)) {
+                bucket.usage().forEach((key, totals) -> usage.merge(key, totals, UsageTotals::plus));
+            }
+        }
+        pending().forEach((key, totals) -> usage.merge(key, totals, UsageTotals::plus));
+        
+        return report(from, now, usage);
+    }
+    
+    /**
+     * 보관 중인 분 단위 구간 (오래된 순).
+     */
+    public synchronized List<UsageBucket> getBuckets() {
+        List<UsageBucket> result = new ArrayList<>(buckets.length);
+        for (int i = 0; i < buckets.length; i++) {
+            UsageBucket bucket = buckets[(nextBucket + i) % buckets.length];
+            if (bucket != null) {
+                result.add(bucket);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 직전 집계 이후의 증가분을 minute 구간으로 묶어 보관하고 파일에 덧붙입니다.
+     * 
+     * @return 증가분이 없으면 null
+     */
+    synchronized UsageBucket rollup(Instant minute) {
+        Map<UsageKey, UsageTotals> current = snapshot();
+        Map<UsageKey, UsageTotals> delta = new LinkedHashMap<>();
+        current.forEach((key, totals) -> {
+            UsageTotals increase = totals.minus(rolledUp.getOrDefault(key, UsageTotals.ZERO));
+            if (!increase.isZero()) {
+                delta.put(key, increase);
+            }
+        });
+        rolledUp = current;
+        
+        if (delta.isEmpty()) {
+            return null;
+        }
+        UsageBucket bucket = new UsageBucket(minute, Map.copyOf(delta));
+        buckets[nextBucket] = bucket;
+        nextBucket = (nextBucket + 1) % buckets.length;
+        flush(bucket);
+        return bucket;
+    }
+    
+    private void rollupPreviousMinute() {
+        try {
+            rollup(Instant.now().truncatedTo(ChronoUnit.MINUTES).minus(1, ChronoUnit.MINUTES));
+        } catch (RuntimeException e) {
+            log.warn("사용량 집계 실패: {}", e.getMessage());
+        }
+    }
+    
+    private UsageCounters counters(String caller, String provider, String model) {
+        String callerKey = caller != null ? caller : Callers.ANONYMOUS;
+        String modelKey = model != null ? model : provider;
+        
+        Map<String, UsageCounters> byModel = countersByCaller.get(callerKey);
+        if (byModel == null) {
+            if (countersByCaller.size() >= properties.getMaxCallers()) {
+                callerKey = OVERFLOW_CALLER;
+            }
+            byModel = countersByCaller.computeIfAbsent(callerKey, key -> new ConcurrentHashMap<>());
+        }
+        
+        UsageCounters counters = byModel.get(modelKey);
+        if (counters == null) {
+            String owner = callerKey;
+            counters = byModel.computeIfAbsent(modelKey, key -> new UsageCounters(new UsageKey(owner, provider, key)));
+        }
+        return counters;
+    }
+    
+    private void recordEstimated(String caller, String provider, String model, String prompt, int outputTokens) {
+        int inputTokens = tokenEstimator.estimate(provider, prompt);
+        record(caller, provider, model, inputTokens + outputTokens, pricingService.calculateCost(model, inputTokens, outputTokens));
+    }
+    
+    private Map<UsageKey, UsageTotals> snapshot() {
+        Map<UsageKey, UsageTotals> snapshot = new HashMap<>();
+        countersByCaller.values().forEach(byModel -> byModel.values()
+                .forEach(counters -> snapshot.put(counters.key(), counters.snapshot())));
+        return snapshot;
+    }
+    
+    private Map<UsageKey, UsageTotals> pending() {
+        Map<UsageKey, UsageTotals> pending = new HashMap<>();
+        snapshot().forEach((key, totals) -> {
+            UsageTotals increase = totals.minus(rolledUp.getOrDefault(key, UsageTotals.ZERO));
+            if (!increase.isZero()) {
+                pending.put(key, increase);
+            }
+        });
+        return pending;
+    }
+    
+    private void flush(UsageBucket bucket) {
+        if (flushPath == null) {
+            return;
+        }
+        try {
+            List<String> lines = new ArrayList<>(bucket.usage().size());
+            for (Map.Entry<UsageKey, UsageTotals> entry : bucket.usage().entrySet()) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("minute", bucket.minute().toString());
+                line.put("caller", entry.getKey().caller());
+                line.put("provider", entry.getKey().provider());
+                line.put("model", entry.getKey().model());
+                line.put("requests", entry.getValue().requests());
+                line.put("tokens", entry.getValue().tokens());
+                line.put("costMicros", entry.getValue().costMicros());
+                lines.add(objectMapper.writeValueAsString(line));
+            }
+            Files.write(flushPath, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("사용량 파일 기록 실패: path={}, error={}", flushPath, e.getMessage());
+        }
+    }
+    
+    private static UsageReport report(Instant from, Instant to, Map<UsageKey, UsageTotals> usage) {
+        List<UsageReport.Entry> entries = usage.entrySet().stream()
+                .map(entry -> UsageReport.Entry.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(UsageReport.Entry::costMicros).reversed()
+                        .thenComparing(UsageReport.Entry::caller)
+                        .thenComparing(UsageReport.Entry::model))
+                .toList();
+        UsageTotals total = usage.values().stream().reduce(UsageTotals.ZERO, UsageTotals::plus);
+        return UsageReport.of(from, to, total, entries);
+    }
+}
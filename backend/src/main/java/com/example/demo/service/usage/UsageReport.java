@@ -0,0 +1,36 @@
+package com.example.demo.service.usage;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 기간별 사용량 보고서 (/actuator/usage 응답).
+ */
+public record UsageReport(
+        Instant from,
+        Instant to,
+        long requests,
+        long tokens,
+        long costMicros,
+        double costUsd,
+        List<Entry> entries) {
+    
+    static UsageReport of(Instant from, Instant to, UsageTotals total, List<Entry> entries) {
+        return new UsageReport(from, to, total.requests(), total.tokens(), total.costMicros(), total.costUsd(), entries);
+    }
+    
+    public record Entry(
+            String caller,
+            String provider,
+            String model,
+            long requests,
+            long tokens,
+            long costMicros,
+            double costUsd) {
+        
+        static Entry of(UsageKey key, UsageTotals totals) {
+            return new Entry(key.caller(), key.provider(), key.model(),
+                    totals.requests(), totals.tokens(), totals.costMicros(), totals.costUsd());
+        }
+    }
+}
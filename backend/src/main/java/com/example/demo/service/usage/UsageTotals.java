@@ -0,0 +1,31 @@
+package com.example.demo.service.usage;
+
+/**
+ * 요청 수, 토큰 수, 비용 합계. 비용은 부동소수점 오차가 쌓이지 않도록 마이크로달러(1e-6 USD) 정수로 보관합니다.
+ */
+public record UsageTotals(long requests, long tokens, long costMicros) {
+    
+    public static final UsageTotals ZERO = new UsageTotals(0, 0, 0);
+    
+    private static final double MICROS_PER_USD = 1_000_000.0;
+    
+    public static long toMicros(double costUsd) {
+        return Math.round(costUsd * MICROS_PER_USD);
+    }
+    
+    public double costUsd() {
+        return costMicros / MICROS_PER_USD;
+    }
+    
+    public UsageTotals plus(UsageTotals other) {
+        return new UsageTotals(requests + other.requests, tokens + other.tokens, costMicros + other.costMicros);
+    }
+    
+    public UsageTotals minus(UsageTotals other) {
+        return new UsageTotals(requests - other.requests, tokens - other.tokens, costMicros - other.costMicros);
+    }
+    
+    public boolean isZero() {
+        return requests == 0 && tokens == 0 && costMicros == 0;
+    }
+}
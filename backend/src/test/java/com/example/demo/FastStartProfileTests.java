@@ -0,0 +1,70 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fast-start 프로파일에서 부가 빈이 지연 초기화로 바뀌고, 기동이 끝난 뒤 deferred-init 스레드에서 만들어지는지 확인합니다.
+ */
+@SpringBootTest(properties = "ai.model.validation.enabled=false")
+@ActiveProfiles("fast-start")
+class FastStartProfileTests {
+    
+    private static final List<String> DEFERRED = List.of("lokiConnectionLogger", "sentryConfig", "modelValidationService");
+    
+    @Autowired
+    private ConfigurableApplicationContext context;
+    
+    @Test
+    void defersNonCriticalBeansUntilReady() throws InterruptedException {
+        DEFERRED.forEach(name -> assertThat(context.getBeanFactory().getBeanDefinition(name).isLazyInit()).as(name).isTrue());
+        assertThat(context.getBeanFactory().getBeanDefinition("AIController").isLazyInit()).isFalse();
+        
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (!DEFERRED.stream().allMatch(context.getBeanFactory()::containsSingleton) && Instant.now().isBefore(deadline)) {
+            Thread.sleep(20);
+        }
+        DEFERRED.forEach(name -> assertThat(context.getBeanFactory().containsSingleton(name)).as(name).isTrue());
+        assertThat(CreationThreadRecorder.THREADS).containsAllEntriesOf(Map.of(
+                "lokiConnectionLogger", "deferred-init",
+                "sentryConfig", "deferred-init",
+                "modelValidationService", "deferred-init"));
+    }
+    
+    @TestConfiguration
+    static class CreationThreadConfig {
+        
+        @Bean
+        static CreationThreadRecorder creationThreadRecorder() {
+            return new CreationThreadRecorder();
+        }
+    }
+    
+    /**
+     * 빈을 만든 스레드 이름을 기록합니다.
+     */
+    static class CreationThreadRecorder implements BeanPostProcessor {
+        
+        static final Map<String, String> THREADS = new ConcurrentHashMap<>();
+        
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            THREADS.put(beanName, Thread.currentThread().getName());
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=false",
+                "server.tomcat.threads.max=" + ThreadingBenchmark.TOMCAT_THREADS,
+                "server.tomcat.accept-count=" + ThreadingBenchmark.CONCURRENT_REQUESTS,
+                "ai.model.validation.enabled=false",
+                "ai.limiter.enabled=false",
+                "logging.level.com.example.demo=WARN",
+                "logging.level.org.springframework.web=WARN"
+        })
+@Import(ThreadingBenchmark.StubProviderConfig.class)
+class PlatformThreadBenchmarkTests extends ThreadingBenchmark {
+    
+    @Override
+    String mode() {
+        return "platform";
+    }
+    
+    @Override
+    void verify(int maxInFlight) {
+        assertThat(maxInFlight).isLessThanOrEqualTo(TOMCAT_THREADS);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 추출한 애플리케이션을 별도 프로세스로 실행해 스텁 모델로의 첫 /generate 요청이 성공할 때까지 걸린 시간을 모드별로 출력합니다.
+ * 
+ * - baseline: 아무 옵션 없이 실행
+ * - cds: fastStartArchive 로 만든 AppCDS 아카이브 사용
+ * - fast-start: 아카이브 + fast-start 프로파일 (부가 빈 지연 초기화)
+ * 
+ * ./gradlew startupBenchmark 로 실행하며, 아카이브가 없으면 건너뜁니다.
+ */
+@Tag("benchmark")
+class StartupBenchmarkTests {
+    
+    static final int RUNS = 5;
+    static final Duration TIMEOUT = Duration.ofSeconds(60);
+    
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+    
+    @Test
+    void timeToFirstSuccessfulRequest() throws Exception {
+        String directory = System.getProperty("startup.dir");
+        assumeTrue(directory != null && Files.exists(Path.of(directory, "application.jsa")),
+                "./gradlew startupBenchmark 로 아카이브를 만든 뒤 실행하세요");
+        Path dir = Path.of(directory);
+        
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("baseline", List.of());
+        modes.put("cds", List.of("-XX:SharedArchiveFile=application.jsa"));
+        modes.put("fast-start", List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.profiles.active=fast-start"));
+        
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            List<Long> times = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                times.add(timeToFirstRequest(dir, mode.getKey(), mode.getValue(), run));
+            }
+            times.sort(null);
+            medians.put(mode.getKey(), times.get(times.size() / 2));
+            System.out.printf("%-10s 첫 요청 성공까지 median=%dms min=%dms max=%dms runs=%s%n",
+                    mode.getKey(), times.get(times.size() / 2), times.get(0), times.get(times.size() - 1), times);
+        }
+        
+        long baseline = medians.get("baseline");
+        medians.forEach((mode, median) -> System.out.printf("%-10s baseline 대비 %+.1f%%%n", mode, (median - baseline) * 100.0 / baseline));
+        assertThat(medians.values()).allMatch(median -> median > 0 && median < TIMEOUT.toMillis());
+    }
+    
+    private long timeToFirstRequest(Path dir, String mode, List<String> jvmArgs, int run) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("startup.java", "java"));
+        command.addAll(jvmArgs);
+        command.addAll(List.of(
+                "-jar", "application.jar",
+                "--server.port=" + port,
+                "--ai.stub.enabled=true",
+                "--ai.stub.ttft-median-ms=1",
+                "--ai.stub.output-tokens=1",
+                "--ai.stub.tokens-per-second=1000"));
+        
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/ai/generate"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(5))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"model\":\"stub-model\",\"prompt\":\"startup\"}"))
+                .build();
+        Path logFile = dir.resolve("startup-" + mode + "-" + run + ".log");
+        
+        long startTime = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            while (System.nanoTime() - startTime < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 종료되었습니다: " + logFile);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("첫 요청이 " + TIMEOUT + " 안에 성공하지 못했습니다: " + logFile);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+    
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.support.LoadGenerator;
+import com.example.demo.support.LoadReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스텁 프로바이더를 대상으로 /generate, /generate/stream 부하 테스트를 수행하고
+ * 처리량, p50/p95/p99, 오류율을 출력합니다.
+ * 
+ * stub-model 은 인프로세스 StubAIService 를, 나머지 모델은 실제 SDK 가 HTTP 대역(/stub/**)을 호출하는 경로를 측정합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT,
+        properties = {
+                "server.port=" + StubProviderLoadTests.PORT,
+                "ai.stub.enabled=true",
+                "ai.stub.ttft-median-ms=100",
+                "ai.stub.ttft-sigma=0.5",
+                "ai.stub.tokens-per-second=200",
+                "ai.stub.output-tokens=40",
+                "ai.stub.error-rate=0.02",
+                "ai.stub.rate-limit-rate=0.02",
+                "ai.claude.base-url=http://localhost:" + StubProviderLoadTests.PORT + "/stub/anthropic",
+                "ai.openai.base-url=http://localhost:" + StubProviderLoadTests.PORT + "/stub/openai/v1",
+                "ai.google.base-url=http://localhost:" + StubProviderLoadTests.PORT + "/stub/google/",
+                "ai.claude.max-retries=0",
+                "ai.openai.max-retries=0",
+                "ai.google.max-retries=0",
+                "ai.model.validation.enabled=false",
+                "ai.limiter.enabled=false",
+                "logging.level.com.example.demo=WARN",
+                "logging.level.org.springframework.web=WARN"
+        })
+class StubProviderLoadTests {
+    
+    static final int PORT = 18090;
+    static final int REQUESTS = 500;
+    static final int CONCURRENCY = 50;
+    
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"stub-model", "claude-haiku-4-5-20251001", "gemini-2.5-flash-lite", "gpt-5-mini"})
+    void generate(String model) {
+        LoadReport report = loadGenerator.run(REQUESTS, CONCURRENCY, index -> request("/api/v1/ai/generate", model, index));
+        
+        System.out.println(report.summary("generate " + model));
+        verify(report);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"stub-model", "claude-haiku-4-5-20251001", "gemini-2.5-flash-lite", "gpt-5-mini"})
+    void generateStream(String model) {
+        LoadReport report = loadGenerator.run(REQUESTS, CONCURRENCY, index -> request("/api/v1/ai/generate/stream", model, index));
+        
+        System.out.println(report.summary("stream " + model));
+        verify(report);
+    }
+    
+    private void verify(LoadReport report) {
+        assertThat(report.total()).isEqualTo(REQUESTS);
+        assertThat(report.errorRate()).isBetween(0.0, 0.15);
+    }
+    
+    private static HttpRequest request(String path, String model, int index) {
+        // 동일 요청 병합(coalescing)을 피하도록 요청마다 프롬프트를 다르게 한다
+        String body = "{\"model\":\"" + model + "\",\"prompt\":\"load-test-" + index + "\"}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + PORT + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
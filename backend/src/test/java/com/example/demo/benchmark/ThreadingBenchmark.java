@@ -0,0 +1,116 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 실행 모드에서 /generate 동시 처리량과 지연 시간을 비교합니다.
+ * 
+ * 스텁 프로바이더는 SDK 호출처럼 요청 스레드를 블로킹하며, Tomcat 스레드 수(TOMCAT_THREADS)보다
+ * 훨씬 많은 요청(CONCURRENT_REQUESTS)을 동시에 보냅니다.
+ */
+@Tag("benchmark")
+abstract class ThreadingBenchmark {
+    
+    static final int TOMCAT_THREADS = 50;
+    static final int CONCURRENT_REQUESTS = 1000;
+    static final int WARMUP_ROUNDS = 5;
+    static final Duration PROVIDER_LATENCY = Duration.ofMillis(200);
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private StubAIService stubService;
+    
+    abstract String mode();
+    
+    @Test
+    void generateUnderConcurrentLoad() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        
+        // JIT 워밍업 - 측정 구간이 CPU(컴파일)에 묶이지 않도록 같은 부하를 먼저 보낸다
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runConcurrently(httpClient);
+        }
+        stubService.resetMaxInFlight();
+        
+        long startTime = System.nanoTime();
+        List<Long> latencies = runConcurrently(httpClient);
+        long totalMillis = (System.nanoTime() - startTime) / 1_000_000;
+        
+        System.out.printf("[%s] requests=%d, tomcatThreads=%d, maxInFlight=%d, p50=%dms, p99=%dms, max=%dms, total=%dms%n",
+                mode(),
+                CONCURRENT_REQUESTS,
+                TOMCAT_THREADS,
+                stubService.getMaxInFlight(),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                latencies.get(latencies.size() - 1),
+                totalMillis);
+        
+        verify(stubService.getMaxInFlight());
+    }
+    
+    abstract void verify(int maxInFlight);
+    
+    private List<Long> runConcurrently(HttpClient httpClient) {
+        List<CompletableFuture<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            requests.add(send(httpClient, i));
+        }
+        List<Long> latencies = new ArrayList<>(requests.stream().map(CompletableFuture::join).toList());
+        Collections.sort(latencies);
+        return latencies;
+    }
+    
+    private CompletableFuture<Long> send(HttpClient httpClient, int index) {
+        String body = "{\"model\":\"" + StubAIService.MODEL_ID + "\",\"prompt\":\"benchmark-" + index + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/ai/generate"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        
+        long startTime = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> {
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    return (System.nanoTime() - startTime) / 1_000_000;
+                });
+    }
+    
+    private static long percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+    
+    @TestConfiguration
+    static class StubProviderConfig {
+        
+        @Bean
+        StubAIService latencyStubAIService() {
+            return new StubAIService(StubLatencyModel.fixed(PROVIDER_LATENCY, 1));
+        }
+    }
+}
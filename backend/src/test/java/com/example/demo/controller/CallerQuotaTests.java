@@ -0,0 +1,87 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.usage.Callers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 호출자 한도를 넘은 요청이 프로바이더 호출 전에 429 와 Retry-After 로 거절되는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "ai.stub.enabled=true",
+                "ai.stub.ttft-median-ms=5",
+                "ai.stub.ttft-sigma=0",
+                "ai.stub.tokens-per-second=1000",
+                "ai.stub.output-tokens=5",
+                "ai.model.validation.enabled=false",
+                "ai.cache.enabled=false",
+                "ai.quota.enabled=true",
+                "ai.quota.defaults.requests-per-minute=2",
+                "ai.quota.defaults.tokens-per-minute=0",
+                "ai.quota.defaults.daily-budget-usd=0"
+        })
+class CallerQuotaTests {
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        // Apache HttpClient 는 Retry-After 를 보고 429 를 자동으로 재시도하므로 재시도하지 않는 클라이언트를 사용합니다
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+    }
+    
+    @Test
+    void rejectsGenerateBeyondRequestLimitWithRetryAfter() {
+        assertThat(generate("team-a").getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(generate("team-a").getStatusCode().is2xxSuccessful()).isTrue();
+        
+        ResponseEntity<String> rejected = generate("team-a");
+        
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        assertThat(generate("team-b").getStatusCode().is2xxSuccessful()).isTrue();
+    }
+    
+    @Test
+    void rejectsStreamBeforeOpeningIt() {
+        HttpHeaders headers = headers("team-c");
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON));
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(Map.of("prompt", "안녕하세요", "model", "stub-model"), headers);
+        
+        restTemplate.postForEntity("/api/v1/ai/generate/stream", request, String.class);
+        restTemplate.postForEntity("/api/v1/ai/generate/stream", request, String.class);
+        ResponseEntity<String> rejected = restTemplate.postForEntity("/api/v1/ai/generate/stream", request, String.class);
+        
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+    }
+    
+    private ResponseEntity<String> generate(String caller) {
+        return restTemplate.postForEntity("/api/v1/ai/generate",
+                new HttpEntity<>(Map.of("prompt", "안녕하세요", "model", "stub-model"), headers(caller)), String.class);
+    }
+    
+    private static HttpHeaders headers(String caller) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(Callers.HEADER, caller);
+        return headers;
+    }
+}
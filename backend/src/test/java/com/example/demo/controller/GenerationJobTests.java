@@ -0,0 +1,170 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.job.GenerationJob;
+import com.example.demo.service.usage.Callers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기 작업이 즉시 접수되고, 워커 풀에서 실행된 결과를 조회와 SSE 로 받을 수 있으며,
+ * 재시작 전에 저장된 미완료 작업이 기동 후 호출자 한도를 다시 차감해 실행되는지, 실패한 작업이 미리 차감한 토큰을 돌려주는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "ai.stub.enabled=true",
+                "ai.stub.ttft-median-ms=5",
+                "ai.stub.ttft-sigma=0",
+                "ai.stub.tokens-per-second=1000",
+                "ai.stub.output-tokens=5",
+                "ai.stub.error-rate=0",
+                "ai.stub.rate-limit-rate=0",
+                "ai.model.validation.enabled=false",
+                "ai.cache.enabled=false",
+                "ai.jobs.workers=2",
+                "ai.quota.enabled=true",
+                "ai.quota.callers.job-failer.tokens-per-minute=1000",
+                "ai.quota.callers.job-resumer.requests-per-minute=1"
+        })
+class GenerationJobTests {
+    
+    private static final String STORED_JOB_ID = "stored-before-restart";
+    private static final String WITHIN_QUOTA_JOB_ID = "stored-within-quota";
+    private static final String OVER_QUOTA_JOB_ID = "stored-over-quota";
+    private static final Path STORE = createStore();
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @DynamicPropertySource
+    static void jobStore(DynamicPropertyRegistry registry) {
+        registry.add("ai.jobs.store-path", STORE::toString);
+    }
+    
+    @BeforeEach
+    void setUp() {
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+    }
+    
+    @Test
+    void acceptsJobImmediatelyAndServesResult() throws Exception {
+        ResponseEntity<String> accepted = restTemplate.postForEntity("/api/v1/ai/jobs",
+                Map.of("model", "stub-model", "prompt", "작업 테스트", "maxTokens", 100), String.class);
+        
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        String jobId = objectMapper.readTree(accepted.getBody()).get("id").asText();
+        assertThat(accepted.getHeaders().getLocation()).hasToString("/api/v1/ai/jobs/" + jobId);
+        
+        JsonNode job = awaitTerminal(jobId);
+        assertThat(job.get("state").asText()).isEqualTo("SUCCEEDED");
+        assertThat(job.get("response").get("generatedText").asText()).isNotBlank();
+        assertThat(STORE.resolve(jobId + ".json")).exists();
+        
+        String events = restTemplate.getForObject("/api/v1/ai/jobs/" + jobId + "/events", String.class);
+        assertThat(events).startsWith("data:").contains("\"SUCCEEDED\"");
+    }
+    
+    @Test
+    void resumesJobsStoredBeforeRestart() throws Exception {
+        JsonNode job = awaitTerminal(STORED_JOB_ID);
+        
+        assertThat(job.get("state").asText()).isEqualTo("SUCCEEDED");
+        assertThat(job.get("startedAt").asText()).isNotBlank();
+    }
+    
+    @Test
+    void failsStoredJobsThatExceedCallerQuotaOnResume() throws Exception {
+        assertThat(awaitTerminal(WITHIN_QUOTA_JOB_ID).get("state").asText()).isEqualTo("SUCCEEDED");
+        
+        JsonNode job = awaitTerminal(OVER_QUOTA_JOB_ID);
+        assertThat(job.get("state").asText()).isEqualTo("FAILED");
+        assertThat(job.get("error").asText()).contains("요청 한도");
+    }
+    
+    @Test
+    void refundsReservedTokensWhenJobFails() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(Callers.HEADER, "job-failer");
+        HttpEntity<Map<String, Object>> request = new HttpEntity<>(
+                Map.of("model", "unknown-model", "prompt", "실패할 작업", "maxTokens", 600), headers);
+        
+        for (int i = 0; i < 2; i++) {
+            ResponseEntity<String> accepted = restTemplate.postForEntity("/api/v1/ai/jobs", request, String.class);
+            
+            assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            JsonNode job = awaitTerminal(objectMapper.readTree(accepted.getBody()).get("id").asText());
+            assertThat(job.get("state").asText()).isEqualTo("FAILED");
+        }
+    }
+    
+    @Test
+    void returnsNotFoundForUnknownJob() {
+        assertThat(restTemplate.getForEntity("/api/v1/ai/jobs/unknown", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+    
+    private JsonNode awaitTerminal(String jobId) throws Exception {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (true) {
+            JsonNode job = objectMapper.readTree(restTemplate.getForObject("/api/v1/ai/jobs/" + jobId, String.class));
+            String state = job.get("state").asText();
+            if (state.equals("SUCCEEDED") || state.equals("FAILED") || Instant.now().isAfter(deadline)) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+    }
+    
+    private static Path createStore() {
+        try {
+            Path store = Files.createTempDirectory("ai-jobs");
+            store.toFile().deleteOnExit();
+            GenerationJob stored = GenerationJob.queued(STORED_JOB_ID, GenerateRequest.builder()
+                    .model("stub-model")
+                    .prompt("재시작 전에 접수된 작업")
+                    .caller("team-a")
+                    .build(), Instant.now());
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            objectMapper.writeValue(store.resolve(STORED_JOB_ID + ".json").toFile(), stored.running(Instant.now()));
+            // 분당 요청 한도가 1인 호출자의 작업 두 개 중 나중에 접수된 것은 기동할 때 한도를 넘습니다
+            Instant createdAt = Instant.now();
+            for (String jobId : new String[] {WITHIN_QUOTA_JOB_ID, OVER_QUOTA_JOB_ID}) {
+                createdAt = createdAt.plusMillis(1);
+                objectMapper.writeValue(store.resolve(jobId + ".json").toFile(), GenerationJob.queued(jobId, GenerateRequest.builder()
+                        .model("stub-model")
+                        .prompt("재시작 전에 접수된 작업")
+                        .caller("job-resumer")
+                        .build(), createdAt));
+            }
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
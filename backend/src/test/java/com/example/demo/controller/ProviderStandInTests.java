@@ -0,0 +1,70 @@
+package com.example.demo.controller;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로바이더 SDK 가 HTTP 대역(/stub/**)과 호환되는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT,
+        properties = {
+                "server.port=" + ProviderStandInTests.PORT,
+                "ai.stub.enabled=true",
+                "ai.stub.ttft-median-ms=10",
+                "ai.stub.ttft-sigma=0",
+                "ai.stub.tokens-per-second=1000",
+                "ai.stub.output-tokens=5",
+                "ai.claude.base-url=http://localhost:" + ProviderStandInTests.PORT + "/stub/anthropic",
+                "ai.openai.base-url=http://localhost:" + ProviderStandInTests.PORT + "/stub/openai/v1",
+                "ai.google.base-url=http://localhost:" + ProviderStandInTests.PORT + "/stub/google/",
+                "ai.model.validation.enabled=false",
+                "ai.limiter.enabled=false"
+        })
+class ProviderStandInTests {
+    
+    static final int PORT = 18091;
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"stub-model", "claude-haiku-4-5-20251001", "gemini-2.5-flash-lite", "gpt-5-mini"})
+    void generateThroughStandIn(String model) {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange("/api/v1/ai/generate", HttpMethod.POST, request(model),
+                new ParameterizedTypeReference<>() {
+                });
+        
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody()).containsEntry("model", model);
+        assertThat((String) response.getBody().get("generatedText")).startsWith("스프링 부트는");
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"stub-model", "claude-haiku-4-5-20251001", "gemini-2.5-flash-lite", "gpt-5-mini"})
+    void streamThroughStandIn(String model) {
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/v1/ai/generate/stream", request(model), String.class);
+        
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody()).contains("스프링").contains("내장");
+    }
+    
+    private static HttpEntity<String> request(String model) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>("{\"model\":\"" + model + "\",\"prompt\":\"" + model + " 호환성 확인\"}", headers);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시에 열린 스트림 수가 Tomcat 스레드 풀 크기에 묶이지 않는지 확인하는 부하 테스트.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=" + StreamingLoadTests.TOMCAT_THREADS,
+                "server.tomcat.threads.min-spare=1",
+                "ai.model.validation.enabled=false",
+                "ai.limiter.enabled=false",
+                "ai.stub.enabled=true",
+                "ai.stub.ttft-median-ms=0",
+                "ai.stub.ttft-sigma=0",
+                // 두 번째 토큰은 10초 뒤에 오므로 그동안 모든 스트림이 열려 있습니다
+                "ai.stub.tokens-per-second=0.1",
+                "ai.stub.output-tokens=2"
+        })
+class StreamingLoadTests {
+    
+    static final int TOMCAT_THREADS = 4;
+    static final int CONCURRENT_STREAMS = TOMCAT_THREADS * 16;
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private StubAIService stubService;
+    
+    @Autowired
+    private StubLatencyModel latencyModel;
+    
+    @Test
+    void concurrentStreamsScaleBeyondTomcatThreadPool() throws InterruptedException {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(
+                        HttpClient.create(ConnectionProvider.create("streaming-load-test", CONCURRENT_STREAMS))))
+                .build();
+        
+        CountDownLatch firstChunks = new CountDownLatch(CONCURRENT_STREAMS);
+        Flux<List<String>> streams = Flux.range(0, CONCURRENT_STREAMS)
+                .flatMap(i -> webClient.post()
+                        .uri("/api/v1/ai/generate/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Map.of("prompt", "load-test-" + i, "model", StubAIService.MODEL_ID))
+                        .retrieve()
+                        .bodyToFlux(String.class)
+                        .doOnNext(chunk -> {
+                            if (latencyModel.token(0).equals(chunk)) {
+                                firstChunks.countDown();
+                            }
+                        })
+                        .collectList(), CONCURRENT_STREAMS)
+                .cache();
+        streams.subscribe();
+        
+        assertThat(firstChunks.await(30, TimeUnit.SECONDS))
+                .as("모든 스트림이 첫 청크를 받아야 합니다")
+                .isTrue();
+        assertThat(stubService.getInFlight())
+                .isEqualTo(CONCURRENT_STREAMS)
+                .isGreaterThan(TOMCAT_THREADS);
+        
+        List<List<String>> results = streams.collectList().block(Duration.ofSeconds(30));
+        assertThat(results).hasSize(CONCURRENT_STREAMS)
+                .allSatisfy(chunks -> assertThat(chunks)
+                        .containsExactly(latencyModel.token(0), latencyModel.token(1)));
+        assertThat(stubService.getInFlight()).isZero();
+    }
+}
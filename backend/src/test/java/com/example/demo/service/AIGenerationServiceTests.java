@@ -0,0 +1,111 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.ModelNotSupportedException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 후보 모델을 지원하지 않는 프로바이더가 있어도 다음 후보로 넘어가고, 스트리밍 결과도 라우터 통계에 기록되는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "ai.model.validation.enabled=false",
+                "ai.cache.enabled=false",
+                "ai.coalescing.enabled=false",
+                "ai.limiter.enabled=false"
+        })
+class AIGenerationServiceTests {
+    
+    private static final String RETIRED_MODEL = "retired-model";
+    private static final String STABLE_MODEL = "stable-model";
+    private static final StubLatencyModel LATENCY_MODEL = StubLatencyModel.fixed(Duration.ofMillis(50), 2);
+    
+    @Autowired
+    private AIGenerationService aiGenerationService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Test
+    void skipsUnsupportedCandidateAndFailsOnlyWhenAllCandidatesFail() {
+        GenerateResponse response = aiGenerationService.generate(request(STABLE_MODEL));
+        
+        assertThat(response.getModel()).isEqualTo(STABLE_MODEL);
+        assertThat(meterRegistry.get("ai.routing.failovers").tag("from", RETIRED_MODEL).tag("to", STABLE_MODEL).counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+        
+        assertThatThrownBy(() -> aiGenerationService.generate(request(null)))
+                .isInstanceOf(ModelNotSupportedException.class);
+    }
+    
+    @Test
+    void dropsMissingAndUnknownCandidatesAndTagsOnlyRegisteredModels() {
+        GenerateResponse withoutModel = aiGenerationService.generate(GenerateRequest.builder()
+                .fallbackModels(List.of(STABLE_MODEL))
+                .prompt("안녕하세요")
+                .build());
+        GenerateResponse unknownModel = aiGenerationService.generate(GenerateRequest.builder()
+                .model("client-typo-model")
+                .fallbackModels(List.of(STABLE_MODEL))
+                .prompt("안녕하세요")
+                .build());
+        
+        assertThat(withoutModel.getModel()).isEqualTo(STABLE_MODEL);
+        assertThat(unknownModel.getModel()).isEqualTo(STABLE_MODEL);
+        assertThat(meterRegistry.get("ai.routing.decisions").tag("requested", "unknown").tag("model", STABLE_MODEL).counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.find("ai.routing.decisions").tag("requested", "client-typo-model").counter()).isNull();
+        assertThat(meterRegistry.find("ai.routing.failovers").tag("from", "client-typo-model").counter()).isNull();
+    }
+    
+    @Test
+    void streamsFromNextCandidateAndRecordsStreamResultForRouting() {
+        List<String> chunks = aiGenerationService.generateStream(request(STABLE_MODEL))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        
+        assertThat(chunks).containsExactly(LATENCY_MODEL.token(0), LATENCY_MODEL.token(1));
+        assertThat(meterRegistry.get("ai.routing.model.latency").tag("model", STABLE_MODEL).gauge().value())
+                .isGreaterThanOrEqualTo(50.0);
+        assertThat(meterRegistry.find("ai.routing.model.latency").tag("model", RETIRED_MODEL).gauge()).isNull();
+    }
+    
+    private static GenerateRequest request(String fallbackModel) {
+        return GenerateRequest.builder()
+                .model(RETIRED_MODEL)
+                .fallbackModels(fallbackModel != null ? List.of(fallbackModel) : null)
+                .prompt("안녕하세요")
+                .build();
+    }
+    
+    @TestConfiguration
+    static class CandidateProviderConfig {
+        
+        @Bean
+        AIService retiredAIService() {
+            StubAIService retired = new StubAIService("Retired", List.of(RETIRED_MODEL), LATENCY_MODEL);
+            retired.retire(RETIRED_MODEL);
+            return retired;
+        }
+        
+        @Bean
+        AIService stableAIService() {
+            return new StubAIService("Stable", List.of(STABLE_MODEL), LATENCY_MODEL);
+        }
+    }
+}
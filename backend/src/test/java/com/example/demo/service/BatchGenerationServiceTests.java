@@ -0,0 +1,107 @@
+package com.example.demo.service;
+
+import com.example.demo.model.BatchItemResult;
+import com.example.demo.model.BatchSummary;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 배치 요청이 프로바이더별로 묶여 그룹마다 ai.batch.provider-concurrency 한도 안에서 실행되고,
+ * 항목 하나의 실패가 배치를 멈추지 않으며, 마지막 요약의 합계가 항목 결과와 맞는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "ai.model.validation.enabled=false",
+                "ai.cache.enabled=false",
+                "ai.coalescing.enabled=false",
+                "ai.limiter.enabled=false",
+                "ai.batch.default-concurrency=8",
+                "ai.batch.provider-concurrency.Serial=1",
+                "ai.batch.provider-concurrency.Parallel=3"
+        })
+class BatchGenerationServiceTests {
+    
+    private static final String FAIL_PROMPT = "batch-5 " + StubAIService.ERROR_MARKER;
+    
+    @Autowired
+    private BatchGenerationService batchGenerationService;
+    
+    @Autowired
+    private BatchProviderConfig providers;
+    
+    @Test
+    void runsEachProviderGroupWithinItsConcurrencyAndSummarizesResults() {
+        List<GenerateRequest> requests = IntStream.range(0, 12)
+                .mapToObj(i -> GenerateRequest.builder()
+                        .model(i % 2 == 0 ? BatchProviderConfig.SERIAL_MODEL : BatchProviderConfig.PARALLEL_MODEL)
+                        .prompt(i == 5 ? FAIL_PROMPT : "batch-" + i)
+                        .build())
+                .toList();
+        
+        List<Object> output = batchGenerationService.generateBatch(requests)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+        
+        assertThat(output).hasSize(13);
+        List<BatchItemResult> results = output.subList(0, 12).stream()
+                .map(BatchItemResult.class::cast)
+                .toList();
+        assertThat(results).extracting(BatchItemResult::getIndex).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 12).boxed().toList());
+        
+        BatchItemResult failed = results.stream().filter(result -> result.getIndex() == 5).findFirst().orElseThrow();
+        assertThat(failed.getSuccess()).isFalse();
+        assertThat(failed.getError()).contains("시뮬레이션");
+        assertThat(results).filteredOn(result -> result.getIndex() != 5).allMatch(BatchItemResult::getSuccess);
+        
+        assertThat(providers.serial.getMaxInFlight()).isEqualTo(1);
+        assertThat(providers.parallel.getMaxInFlight()).isBetween(2, 3);
+        
+        BatchSummary summary = (BatchSummary) output.get(12);
+        assertThat(summary.getType()).isEqualTo("summary");
+        assertThat(summary.getTotal()).isEqualTo(12);
+        assertThat(summary.getSucceeded()).isEqualTo(11);
+        assertThat(summary.getFailed()).isEqualTo(1);
+        assertThat(summary.getTotalTokens()).isPositive().isEqualTo(results.stream()
+                .filter(BatchItemResult::getSuccess)
+                .mapToLong(result -> result.getResponse().getTokensUsed())
+                .sum());
+        assertThat(summary.getTotalCostUsd()).isCloseTo(results.stream()
+                .filter(BatchItemResult::getSuccess)
+                .mapToDouble(result -> result.getResponse().getCostUsd())
+                .sum(), within(1e-9));
+    }
+    
+    @TestConfiguration
+    static class BatchProviderConfig {
+        
+        static final String SERIAL_MODEL = "serial-model";
+        static final String PARALLEL_MODEL = "parallel-model";
+        
+        final StubAIService serial = new StubAIService("Serial", List.of(SERIAL_MODEL), StubLatencyModel.fixed(Duration.ofMillis(100), 1));
+        final StubAIService parallel = new StubAIService("Parallel", List.of(PARALLEL_MODEL), StubLatencyModel.fixed(Duration.ofMillis(100), 1));
+        
+        @Bean
+        AIService serialAIService() {
+            return serial;
+        }
+        
+        @Bean
+        AIService parallelAIService() {
+            return parallel;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.service;
+
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelRegistryTests {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void findsModelsAndServices() {
+        AIService alpha = service("Alpha", "alpha-1", "alpha-2");
+        AIService beta = service("Beta", "beta-1");
+        
+        ModelRegistry registry = ModelRegistry.of(List.of(alpha, beta), objectMapper);
+        
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.find("alpha-2").service()).isSameAs(alpha);
+        assertThat(registry.find("beta-1").model().getProvider()).isEqualTo("Beta");
+        assertThat(registry.find("unknown")).isNull();
+        assertThat(registry.find(null)).isNull();
+        assertThat(registry.findService("Beta")).isSameAs(beta);
+        assertThat(registry.getModels("Alpha")).extracting(ModelInfo::getId).containsExactly("alpha-1", "alpha-2");
+        assertThat(registry.getModels("unknown")).isEmpty();
+        assertThat(registry.getAllModels()).extracting(ModelInfo::getId).containsExactly("alpha-1", "alpha-2", "beta-1");
+    }
+    
+    @Test
+    void precomputesListingJson() throws Exception {
+        ModelRegistry registry = ModelRegistry.of(List.of(service("Alpha", "alpha-1"), service("Beta", "beta-1")), objectMapper);
+        
+        assertThat(new String(registry.getAllModelsJson(), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(registry.getAllModels()));
+        assertThat(new String(registry.getModelsJson("Beta"), StandardCharsets.UTF_8)).contains("\"beta-1\"").doesNotContain("alpha-1");
+        assertThat(registry.getAllModelsJson()).isSameAs(registry.getAllModelsJson());
+        assertThat(registry.getModelsJson("unknown")).isNull();
+    }
+    
+    @Test
+    void rejectsDuplicateModelIds() {
+        List<AIService> services = List.of(service("Alpha", "shared"), service("Beta", "shared"));
+        
+        assertThatThrownBy(() -> ModelRegistry.of(services, objectMapper))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shared");
+    }
+    
+    private static AIService service(String provider, String... modelIds) {
+        return new StubAIService(provider, List.of(modelIds), StubLatencyModel.fixed(Duration.ZERO, 1));
+    }
+}
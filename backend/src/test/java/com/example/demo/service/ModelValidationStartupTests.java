@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import com.example.demo.Application;
+import com.example.demo.model.ModelValidationStatus;
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모델 검증이 기동 시간에 포함되지 않고, 응답하지 않는 프로바이더는 기한이 지나면 TIMED_OUT 으로 레지스트리에 반영되는지 확인합니다.
+ * 측정한 기동 시간을 출력합니다. 실제 프로바이더의 모델 목록 호출은 같은 앱의 HTTP 대역(/stub/**)으로 보내 외부 네트워크를 쓰지 않습니다.
+ */
+class ModelValidationStartupTests {
+    
+    private static final long SLOW_PROVIDER_MS = 10_000;
+    private static final long DEADLINE_MS = 500;
+    private static final int PORT = 18092;
+    
+    @Test
+    void validatesModelsAfterStartupWithinDeadline() throws Exception {
+        long startTime = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class, SlowProviderConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--server.port=" + PORT,
+                        "--ai.claude.base-url=http://localhost:" + PORT + "/stub/anthropic",
+                        "--ai.openai.base-url=http://localhost:" + PORT + "/stub/openai/v1",
+                        "--ai.google.base-url=http://localhost:" + PORT + "/stub/google/",
+                        "--ai.stub.enabled=true",
+                        "--ai.model.validation.enabled=true",
+                        "--ai.model.validation.deadline-ms=" + DEADLINE_MS,
+                        "--ai.model.validation.gate-readiness=true",
+                        "--ai.health.interval-ms=3600000")) {
+            long startupMs = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+            System.out.printf("기동 시간: %dms (모델 검증 제외, 느린 프로바이더 %dms)%n", startupMs, SLOW_PROVIDER_MS);
+            
+            ModelValidationService validation = context.getBean(ModelValidationService.class);
+            HealthIndicator readiness = context.getBean("modelValidationHealthIndicator", HealthIndicator.class);
+            
+            assertThat(startupMs).isLessThan(SLOW_PROVIDER_MS);
+            assertThat(validation.getState()).isIn(ModelValidationService.State.PENDING, ModelValidationService.State.RUNNING);
+            assertThat(readiness.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+            
+            Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+            while (validation.getState() != ModelValidationService.State.COMPLETED && Instant.now().isBefore(deadline)) {
+                Thread.sleep(20);
+            }
+            
+            AIServiceFactory factory = context.getBean(AIServiceFactory.class);
+            assertThat(validation.getState()).isEqualTo(ModelValidationService.State.COMPLETED);
+            assertThat(factory.getRegistry().find(SlowProviderConfig.MODEL_ID).model().getValidationStatus())
+                    .isEqualTo(ModelValidationStatus.TIMED_OUT);
+            assertThat(readiness.health().getStatus()).isEqualTo(Status.UP);
+        }
+    }
+    
+    @Configuration(proxyBeanMethods = false)
+    static class SlowProviderConfig {
+        
+        static final String MODEL_ID = "slow-model";
+        
+        @Bean
+        AIService slowAIService() {
+            StubAIService slow = new StubAIService("Slow", List.of(MODEL_ID), StubLatencyModel.fixed(Duration.ZERO, 1));
+            slow.setModelListDelay(Duration.ofMillis(SLOW_PROVIDER_MS));
+            return slow;
+        }
+    }
+}
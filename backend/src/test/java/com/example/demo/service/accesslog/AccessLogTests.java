@@ -0,0 +1,168 @@
+package com.example.demo.service.accesslog;
+
+import com.example.demo.config.properties.AIAccessLogProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogTests {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+    private final GenerateRequest request = GenerateRequest.builder()
+            .model("gemini-2.5-flash")
+            .prompt("안녕 \"세계\"")
+            .caller("team-a")
+            .build();
+    
+    private AccessLog accessLog;
+    
+    @AfterEach
+    void tearDown() {
+        if (accessLog != null) {
+            accessLog.stop();
+        }
+    }
+    
+    @Test
+    void writesFixedSchemaJsonLines() throws InterruptedException {
+        accessLog = new AccessLog(new AIAccessLogProperties(true, 16, 4, 1.0, 5), meterRegistry, lines::add);
+        accessLog.start();
+        
+        accessLog.success(AccessLog.GENERATE, request, "gemini-2.5-flash", 42, System.nanoTime());
+        accessLog.failure(AccessLog.STREAM, request, new AIServiceException("실패", "Google", "RATE_LIMITED"), System.nanoTime());
+        awaitWritten(2);
+        
+        assertThat(lines.get(0))
+                .startsWith("{\"ts\":")
+                .contains("\"endpoint\":\"generate\",\"caller\":\"team-a\",\"model\":\"gemini-2.5-flash\"")
+                .contains("\"outcome\":\"ok\"", "\"promptChars\":7", "\"tokens\":42", "\"durationMs\":")
+                .doesNotContain("errorCode");
+        assertThat(lines.get(1)).contains("\"endpoint\":\"stream\"", "\"outcome\":\"error\"", "\"errorCode\":\"RATE_LIMITED\"");
+        assertThat(meterRegistry.counter("ai.access-log.written").count()).isEqualTo(2);
+    }
+    
+    @Test
+    void keepsErrorReserveWhenSuccessesOverflow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        accessLog = new AccessLog(new AIAccessLogProperties(true, 8, 3, 1.0, 5), meterRegistry, line -> {
+            await(release);
+            lines.add(line);
+        });
+        accessLog.start();
+        
+        // 작성 스레드가 첫 이벤트를 꺼내 sink 에서 멈출 때까지 기다립니다
+        accessLog.success(AccessLog.GENERATE, request, null, null, System.nanoTime());
+        awaitBacklog(0);
+        for (int i = 0; i < 20; i++) {
+            accessLog.success(AccessLog.GENERATE, request, null, null, System.nanoTime());
+        }
+        for (int i = 0; i < 3; i++) {
+            accessLog.failure(AccessLog.GENERATE, request, new IllegalStateException(), System.nanoTime());
+        }
+        release.countDown();
+        
+        awaitWritten(1 + 5 + 3);
+        assertThat(lines).filteredOn(line -> line.contains("\"outcome\":\"error\"")).hasSize(3)
+                .allMatch(line -> line.contains("\"errorCode\":\"IllegalStateException\""));
+        assertThat(meterRegistry.counter("ai.access-log.dropped", "reason", "overflow").count()).isEqualTo(15);
+    }
+    
+    @Test
+    void errorsWaitForFreeSlotInsteadOfBeingDropped() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        accessLog = new AccessLog(new AIAccessLogProperties(true, 4, 4, 1.0, 5_000), meterRegistry, line -> {
+            await(release);
+            lines.add(line);
+        });
+        accessLog.start();
+        
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                accessLog.failure(AccessLog.GENERATE, request, new IllegalStateException(), System.nanoTime());
+            }
+        });
+        producer.start();
+        Thread.sleep(100);
+        
+        assertThat(producer.isAlive()).isTrue();
+        release.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        
+        awaitWritten(10);
+        assertThat(meterRegistry.counter("ai.access-log.dropped", "reason", "overflow").count()).isZero();
+        assertThat(meterRegistry.counter("ai.access-log.error.waits").count()).isPositive();
+    }
+    
+    @Test
+    void dropsErrorsWhenNoSlotFreesUpWithinWaitLimit() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        accessLog = new AccessLog(new AIAccessLogProperties(true, 4, 4, 1.0, 5), meterRegistry, line -> {
+            await(release);
+            lines.add(line);
+        });
+        accessLog.start();
+        
+        // 작성 스레드가 첫 이벤트를 꺼내 sink 에서 멈출 때까지 기다립니다
+        accessLog.failure(AccessLog.GENERATE, request, new IllegalStateException(), System.nanoTime());
+        awaitBacklog(0);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            accessLog.failure(AccessLog.GENERATE, request, new IllegalStateException(), System.nanoTime());
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        release.countDown();
+        
+        awaitWritten(1 + 4);
+        assertThat(elapsedMs).isLessThan(1_000);
+        assertThat(meterRegistry.counter("ai.access-log.dropped", "reason", "overflow").count()).isEqualTo(6);
+    }
+    
+    @Test
+    void samplesSuccessfulCalls() throws InterruptedException {
+        accessLog = new AccessLog(new AIAccessLogProperties(true, 4096, 0, 0.1, 5), meterRegistry, lines::add);
+        accessLog.start();
+        
+        for (int i = 0; i < 2000; i++) {
+            accessLog.success(AccessLog.GENERATE, request, null, null, System.nanoTime());
+        }
+        accessLog.failure(AccessLog.GENERATE, request, new IllegalStateException(), System.nanoTime());
+        
+        double dropped = meterRegistry.counter("ai.access-log.dropped", "reason", "sampled").count();
+        awaitWritten((int) (2001 - dropped));
+        assertThat(dropped).isBetween(1600.0, 1950.0);
+        assertThat(lines).anyMatch(line -> line.contains("\"outcome\":\"error\""));
+    }
+    
+    private void awaitWritten(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lines.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(lines).hasSize(count);
+    }
+    
+    private void awaitBacklog(double backlog) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("ai.access-log.backlog").gauge().value() != backlog && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.service.cache;
+
+import com.example.demo.model.GenerateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryResponseCacheTests {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(2, Duration.ofMinutes(1), meterRegistry, clock);
+        cache.put("a", response("a"));
+        cache.put("b", response("b"));
+        cache.get("a");
+        cache.put("c", response("c"));
+        
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+        assertThat(meterRegistry.get("ai.cache.evictions").tag("cause", "size").counter().count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void expiresEntriesAfterTtl() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(10, Duration.ofSeconds(30), meterRegistry, clock);
+        cache.put("a", response("a"));
+        
+        assertThat(cache.get("a")).isPresent();
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(cache.get("a")).isEmpty();
+        
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.get("ai.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.cache.evictions").tag("cause", "expired").counter().count()).isEqualTo(1.0);
+    }
+    
+    private static GenerateResponse response(String text) {
+        return GenerateResponse.builder()
+                .generatedText(text)
+                .model("stub-model")
+                .tokensUsed(10)
+                .processingTimeMs(1000L)
+                .costUsd(0.01)
+                .build();
+    }
+    
+    private static final class MutableClock extends Clock {
+        
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.service.cassette;
+
+import com.example.demo.config.properties.AICassetteProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.AIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CassetteRecordReplayTests {
+    
+    @TempDir
+    Path directory;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecordedProvider provider = new RecordedProvider();
+    
+    @Test
+    void replaysRecordedResponsesWithoutCallingProvider() {
+        AIService recording = new RecordingAIService(provider, store(CassetteMode.RECORD));
+        GenerateResponse recorded = recording.generate(request("안녕하세요"));
+        
+        AIService replaying = new ReplayingAIService(provider, store(CassetteMode.REPLAY), 0);
+        GenerateResponse replayed = replaying.generate(request("  안녕하세요  "));
+        
+        assertThat(provider.calls).hasValue(1);
+        assertThat(replayed.getGeneratedText()).isEqualTo(recorded.getGeneratedText());
+        assertThat(replayed.getTokensUsed()).isEqualTo(recorded.getTokensUsed());
+        assertThat(replayed.getCostUsd()).isEqualTo(recorded.getCostUsd());
+        assertThat(directory.resolve("recorded.ndjson")).exists();
+    }
+    
+    @Test
+    void replaysStreamChunksWithRecordedTiming() {
+        AIService recording = new RecordingAIService(provider, store(CassetteMode.RECORD));
+        List<String> recorded = recording.generateStream(request("스트림")).collectList().block();
+        
+        AIService original = new ReplayingAIService(provider, store(CassetteMode.REPLAY), 1);
+        long startTime = System.nanoTime();
+        List<String> replayed = original.generateStream(request("스트림")).collectList().block();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+        
+        AIService accelerated = new ReplayingAIService(provider, store(CassetteMode.REPLAY), 0);
+        
+        assertThat(replayed).isEqualTo(recorded).containsExactly("하나", "둘", "셋");
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(120);
+        assertThat(accelerated.generateStream(request("스트림")).collectList().block()).isEqualTo(recorded);
+        assertThat(provider.calls).hasValue(1);
+    }
+    
+    @Test
+    void replaysRecordedErrorsAndFailsOnUnknownRequests() throws Exception {
+        AIService recording = new RecordingAIService(provider, store(CassetteMode.RECORD));
+        assertThatThrownBy(() -> recording.generate(request("fail"))).isInstanceOf(AIServiceException.class);
+        Files.writeString(directory.resolve("recorded.ndjson"), "not json\n", StandardOpenOption.APPEND);
+        
+        AIService replaying = new ReplayingAIService(provider, store(CassetteMode.REPLAY), 0);
+        
+        assertThatThrownBy(() -> replaying.generate(request("fail")))
+                .isInstanceOfSatisfying(AIServiceException.class, e -> assertThat(e.getErrorCode()).isEqualTo("RATE_LIMITED"));
+        assertThatThrownBy(() -> replaying.generate(request("처음 보는 요청")))
+                .isInstanceOfSatisfying(AIServiceException.class, e -> assertThat(e.getErrorCode()).isEqualTo("CASSETTE_MISS"));
+        assertThat(replaying.isHealthy()).isTrue();
+    }
+    
+    private CassetteStore store(CassetteMode mode) {
+        return new CassetteStore(new AICassetteProperties(mode, directory.toString(), 1), objectMapper);
+    }
+    
+    private static GenerateRequest request(String prompt) {
+        return GenerateRequest.builder()
+                .model("recorded-model")
+                .prompt(prompt)
+                .build();
+    }
+    
+    private static class RecordedProvider implements AIService {
+        
+        private final AtomicInteger calls = new AtomicInteger();
+        
+        @Override
+        public GenerateResponse generate(GenerateRequest request) {
+            calls.incrementAndGet();
+            if (request.getPrompt().equals("fail")) {
+                throw new AIServiceException("요청 한도 초과 (429)", getProviderName(), "RATE_LIMITED");
+            }
+            return GenerateResponse.builder()
+                    .generatedText("응답: " + request.getPrompt())
+                    .model(request.getModel())
+                    .tokensUsed(42)
+                    .processingTimeMs(5L)
+                    .costUsd(0.0001)
+                    .build();
+        }
+        
+        @Override
+        public Flux<String> generateStream(GenerateRequest request) {
+            calls.incrementAndGet();
+            return Flux.just("하나", "둘", "셋").delayElements(Duration.ofMillis(50));
+        }
+        
+        @Override
+        public List<ModelInfo> getAvailableModels() {
+            return List.of(ModelInfo.builder().id("recorded-model").name("Recorded").provider(getProviderName()).available(true).build());
+        }
+        
+        @Override
+        public boolean isModelSupported(String modelId) {
+            return "recorded-model".equals(modelId);
+        }
+        
+        @Override
+        public boolean isHealthy() {
+            return false;
+        }
+        
+        @Override
+        public String getProviderName() {
+            return "Recorded";
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.service.catalog;
+
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.model.ModelInfo;
+import com.example.demo.service.TokenPricingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ModelCatalogServiceTests {
+    
+    private static final List<ModelInfo> BUILT_IN = List.of(
+            ModelInfo.builder().id("built-in").name("Built In").provider("Other").available(true).build());
+    
+    @TempDir
+    Path directory;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ModelCatalogService catalogService;
+    
+    @AfterEach
+    void tearDown() {
+        if (catalogService != null) {
+            catalogService.stop();
+        }
+    }
+    
+    @Test
+    void loadsYamlCatalogOverBuiltInModels() throws Exception {
+        Path file = write("catalog.yml", """
+                models:
+                  - id: alpha-1
+                    name: Alpha One
+                    provider: Alpha
+                    input-price: 2.0
+                    output-price: 8.0
+                  - id: alpha-2
+                    provider: Alpha
+                    available: false
+                """);
+        catalogService = service(file, false);
+        
+        catalogService.start();
+        ModelCatalog catalog = catalogService.getCatalog();
+        
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(catalog.getModels("Alpha", BUILT_IN)).extracting(ModelInfo::getId).containsExactly("alpha-1", "alpha-2");
+        assertThat(catalog.getModels("Alpha", BUILT_IN).get(1).getName()).isEqualTo("alpha-2");
+        assertThat(catalog.getModels("Alpha", BUILT_IN).get(1).getAvailable()).isFalse();
+        assertThat(catalog.getModels("Other", BUILT_IN)).isSameAs(BUILT_IN);
+        assertThat(catalog.isModelSupported("Other", "built-in", Set.of("built-in"))).isTrue();
+        assertThat(catalog.isModelSupported("Alpha", "built-in", Set.of("built-in"))).isFalse();
+        assertThat(catalog.getPrice("alpha-1").inputPricePerToken()).isCloseTo(0.000002, within(1e-12));
+        assertThat(catalog.getPrice("alpha-2")).isNull();
+        assertThat(meterRegistry.get("ai.catalog.models").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("ai.catalog.reload").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void keepsPreviousCatalogWhenReloadFails() throws Exception {
+        Path file = write("catalog.json", """
+                {"models": [{"id": "alpha-1", "provider": "Alpha"}]}
+                """);
+        catalogService = service(file, false);
+        catalogService.start();
+        
+        write("catalog.json", """
+                {"models": [{"id": "alpha-1", "provider": "Alpha"}, {"id": "alpha-1", "provider": "Alpha"}]}
+                """);
+        
+        assertThat(catalogService.reload()).isFalse();
+        assertThat(catalogService.getCatalog().size()).isEqualTo(1);
+        assertThat(catalogService.getLastReload().success()).isFalse();
+        assertThat(catalogService.getLastReload().error()).contains("alpha-1");
+        assertThat(meterRegistry.get("ai.catalog.reload").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void pricingFollowsCatalogChanges() throws Exception {
+        Path file = write("catalog.yml", """
+                models:
+                  - id: gemini-2.5-flash
+                    provider: Google
+                    input-price: 1.0
+                    output-price: 1.0
+                """);
+        catalogService = service(file, false);
+        catalogService.start();
+        TokenPricingService pricingService = new TokenPricingService(catalogService);
+        
+        assertThat(pricingService.calculateCost("gemini-2.5-flash", 1_000_000, 0)).isCloseTo(1.0, within(1e-9));
+        assertThat(pricingService.calculateCost("claude-3-haiku-20240307", 1_000_000, 0)).isCloseTo(0.25, within(1e-9));
+        
+        write("catalog.yml", """
+                models:
+                  - id: gemini-2.5-flash
+                    provider: Google
+                    input-price: 3.0
+                    output-price: 3.0
+                """);
+        catalogService.reload();
+        
+        assertThat(pricingService.calculateCost("gemini-2.5-flash", 1_000_000, 0)).isCloseTo(3.0, within(1e-9));
+    }
+    
+    @Test
+    void reloadsWhenFileChanges() throws Exception {
+        Path file = write("catalog.yml", """
+                models:
+                  - id: alpha-1
+                    provider: Alpha
+                """);
+        catalogService = service(file, true);
+        catalogService.start();
+        
+        write("catalog.yml", """
+                models:
+                  - id: alpha-1
+                    provider: Alpha
+                  - id: alpha-2
+                    provider: Alpha
+                """);
+        
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (catalogService.getCatalog().size() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(catalogService.getCatalog().size()).isEqualTo(2);
+    }
+    
+    private ModelCatalogService service(Path file, boolean watch) {
+        return new ModelCatalogService(new AICatalogProperties(file.toString(), watch, 50), new ObjectMapper(), meterRegistry);
+    }
+    
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(directory.resolve(name), content);
+    }
+}
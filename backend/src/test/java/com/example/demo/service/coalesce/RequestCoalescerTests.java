@@ -0,0 +1,87 @@
+package com.example.demo.service.coalesce;
+
+import com.example.demo.config.properties.AICoalescingProperties;
+import com.example.demo.model.GenerateResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTests {
+    
+    private final RequestCoalescer coalescer =
+            new RequestCoalescer(new AICoalescingProperties(true), new SimpleMeterRegistry());
+    
+    @Test
+    void concurrentIdenticalCallsShareOneProviderCall() throws Exception {
+        int callers = 16;
+        AtomicInteger providerCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        
+        try {
+            List<CompletableFuture<GenerateResponse>> results = IntStream.range(0, callers)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> coalescer.execute("same-key", () -> {
+                        providerCalls.incrementAndGet();
+                        await(release);
+                        return GenerateResponse.builder().generatedText("shared").build();
+                    }), executor))
+                    .toList();
+            
+            Thread.sleep(200);
+            release.countDown();
+            
+            for (CompletableFuture<GenerateResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getGeneratedText()).isEqualTo("shared");
+            }
+            assertThat(providerCalls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void lateJoinerReceivesReplayOfEmittedChunks() {
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        AtomicInteger providerCalls = new AtomicInteger();
+        
+        Flux<String> first = coalescer.executeStream("stream-key", () -> {
+            providerCalls.incrementAndGet();
+            return upstream.asFlux();
+        });
+        CompletableFuture<List<String>> firstResult = first.collectList().toFuture();
+        upstream.tryEmitNext("a");
+        upstream.tryEmitNext("b");
+        
+        Flux<String> second = coalescer.executeStream("stream-key", () -> {
+            providerCalls.incrementAndGet();
+            return Flux.just("other");
+        });
+        CompletableFuture<List<String>> secondResult = second.collectList().toFuture();
+        upstream.tryEmitNext("c");
+        upstream.tryEmitComplete();
+        
+        assertThat(firstResult.join()).containsExactly("a", "b", "c");
+        assertThat(secondResult.join()).containsExactly("a", "b", "c");
+        assertThat(providerCalls).hasValue(1);
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
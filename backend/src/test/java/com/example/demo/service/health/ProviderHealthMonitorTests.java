@@ -0,0 +1,134 @@
+package com.example.demo.service.health;
+
+import com.example.demo.config.AIProvidersHealthIndicator;
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.config.properties.AIHealthProperties;
+import com.example.demo.config.properties.AIModelProperties;
+import com.example.demo.model.ProviderHealth;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.impl.StubAIService;
+import com.example.demo.service.stub.StubLatencyModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderHealthMonitorTests {
+    
+    private final RecordingScheduler scheduler = new RecordingScheduler();
+    private final StubAIService alpha = new StubAIService("Alpha", List.of(), StubLatencyModel.fixed(Duration.ZERO, 1));
+    private final StubAIService beta = new StubAIService("Beta", List.of(), StubLatencyModel.fixed(Duration.ZERO, 1));
+    private final ProviderHealthMonitor monitor = new ProviderHealthMonitor(List.of(alpha, beta),
+            new AIHealthProperties(1_000, 200), scheduler);
+    
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+    
+    @Test
+    void schedulesFirstProbeWithinJitterAndReschedulesAroundInterval() {
+        monitor.start();
+        
+        assertThat(scheduler.delays).hasSize(2).allSatisfy(delay -> assertThat(delay).isBetween(0L, 200L));
+        
+        scheduler.delays.clear();
+        for (int i = 0; i < 50; i++) {
+            monitor.probe(alpha);
+        }
+        
+        assertThat(scheduler.delays).hasSize(50).allSatisfy(delay -> assertThat(delay).isBetween(800L, 1_200L));
+        assertThat(scheduler.delays.stream().distinct().count()).isGreaterThan(1);
+    }
+    
+    @Test
+    void tracksTransitionsBetweenHealthyAndUnhealthy() {
+        monitor.probe(alpha);
+        ProviderHealth up = monitor.getHealth("Alpha").orElseThrow();
+        assertThat(up.isHealthy()).isTrue();
+        assertThat(up.getConsecutiveFailures()).isZero();
+        assertThat(up.getLastSuccessAt()).isEqualTo(up.getLastCheckedAt());
+        
+        alpha.setHealthCheck(() -> false);
+        monitor.probe(alpha);
+        alpha.setHealthCheck(() -> {
+            throw new IllegalStateException("연결 실패");
+        });
+        monitor.probe(alpha);
+        
+        ProviderHealth down = monitor.getHealth("Alpha").orElseThrow();
+        assertThat(down.isHealthy()).isFalse();
+        assertThat(down.getConsecutiveFailures()).isEqualTo(2);
+        assertThat(down.getLastSuccessAt()).isEqualTo(up.getLastSuccessAt());
+        assertThat(monitor.isHealthy("Alpha")).isFalse();
+        
+        alpha.setHealthCheck(() -> true);
+        monitor.probe(alpha);
+        
+        assertThat(monitor.isHealthy("Alpha")).isTrue();
+        assertThat(monitor.getHealth("Alpha").orElseThrow().getConsecutiveFailures()).isZero();
+        assertThat(monitor.getHealth("Beta")).isEmpty();
+    }
+    
+    @Test
+    void indicatorIsDownOnlyWhenEveryCheckedProviderIsUnhealthy() {
+        AIProvidersHealthIndicator indicator = new AIProvidersHealthIndicator(serviceFactory(), monitor);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+        
+        alpha.setHealthCheck(() -> false);
+        monitor.probe(alpha);
+        Health health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails().get("Alpha")).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsEntry("status", "DOWN")
+                .containsEntry("consecutiveFailures", 1);
+        assertThat(health.getDetails().get("Beta")).isEqualTo(Map.of("status", "UNKNOWN"));
+        
+        monitor.probe(beta);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        
+        beta.setHealthCheck(() -> false);
+        monitor.probe(beta);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+    }
+    
+    private AIServiceFactory serviceFactory() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return new AIServiceFactory(List.of(alpha, beta),
+                new AIModelProperties(new AIModelProperties.Validation(false, false, 0, false), new AIModelProperties.Logging(false)),
+                objectMapper,
+                new ModelCatalogService(new AICatalogProperties("", false, 0), objectMapper, new SimpleMeterRegistry()));
+    }
+    
+    /**
+     * 예약된 작업을 실행하지 않고 지연 시간만 기록합니다.
+     */
+    private static final class RecordingScheduler extends ScheduledThreadPoolExecutor {
+        
+        private final List<Long> delays = new CopyOnWriteArrayList<>();
+        
+        RecordingScheduler() {
+            super(1);
+        }
+        
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            delays.add(unit.toMillis(delay));
+            return null;
+        }
+    }
+}
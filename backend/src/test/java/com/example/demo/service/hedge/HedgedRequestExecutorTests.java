@@ -0,0 +1,189 @@
+package com.example.demo.service.hedge;
+
+import com.example.demo.config.properties.AIHedgingProperties;
+import com.example.demo.config.properties.AILimiterProperties;
+import com.example.demo.exception.AIServiceException;
+import com.example.demo.service.limit.ProviderConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class HedgedRequestExecutorTests {
+    
+    private static final String MODEL = "stub-model";
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<HedgedRequestExecutor> executors = new ArrayList<>();
+    
+    @AfterEach
+    void tearDown() {
+        executors.forEach(HedgedRequestExecutor::stop);
+    }
+    
+    @Test
+    void firesHedgeWhenPrimaryStallsAndCancelsLoser() throws InterruptedException {
+        HedgedRequestExecutor executor = executor(100.0);
+        warmUp(executor);
+        
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+        String result = executor.execute("Stub", MODEL, () -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    loserInterrupted.countDown();
+                    throw new IllegalStateException(e);
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+        
+        assertThat(result).isEqualTo("hedge");
+        assertThat(loserInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("ai.hedge.fired", "model", MODEL).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("ai.hedge.won", "model", MODEL).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("ai.hedge.losers", "model", MODEL).count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void keepsWaitingOnPrimaryWhenHedgeIsRejected() {
+        HedgedRequestExecutor executor = executor(100.0, 1);
+        warmUp(executor);
+        
+        String result = executor.execute("Stub", MODEL, () -> {
+            sleep(300);
+            return "primary";
+        });
+        
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.counter("ai.hedge.rejected", "model", MODEL).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("ai.hedge.fired", "model", MODEL).count()).isZero();
+        assertThat(meterRegistry.counter("ai.hedge.losers", "model", MODEL).count()).isZero();
+    }
+    
+    @Test
+    void failsWithPrimaryErrorWhenHedgeIsRejected() {
+        HedgedRequestExecutor executor = executor(100.0, 1);
+        warmUp(executor);
+        
+        assertThatThrownBy(() -> executor.execute("Stub", MODEL, () -> {
+            sleep(150);
+            throw new AIServiceException("provider failure", "Stub", "UPSTREAM_ERROR");
+        })).isInstanceOf(AIServiceException.class)
+                .hasMessage("provider failure");
+    }
+    
+    @Test
+    void waitsForPrimaryWhenBudgetIsExhausted() {
+        HedgedRequestExecutor executor = executor(0.0);
+        warmUp(executor);
+        
+        String result = executor.execute("Stub", MODEL, () -> {
+            sleep(300);
+            return "primary";
+        });
+        
+        assertThat(result).isEqualTo("primary");
+        assertThat(meterRegistry.counter("ai.hedge.fired", "model", MODEL).count()).isZero();
+        assertThat(meterRegistry.counter("ai.hedge.budget.exhausted", "model", MODEL).count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void propagatesErrorWhenEveryAttemptFails() {
+        HedgedRequestExecutor executor = executor(100.0);
+        warmUp(executor);
+        
+        assertThatThrownBy(() -> executor.execute("Stub", MODEL, () -> {
+            sleep(150);
+            throw new IllegalArgumentException("provider failure");
+        })).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("provider failure");
+    }
+    
+    @Test
+    void completesWhenPrimaryFailsAroundHedgeDelay() {
+        for (double budgetPercent : new double[] {0.0, 100.0}) {
+            HedgedRequestExecutor executor = executor(budgetPercent);
+            warmUp(executor);
+            
+            for (int i = 0; i < 20; i++) {
+                long failAfterMs = 45 + i % 10;
+                assertTimeoutPreemptively(Duration.ofSeconds(2), () -> assertThatThrownBy(() -> executor.execute("Stub", MODEL, () -> {
+                    sleep(failAfterMs);
+                    throw new IllegalArgumentException("provider failure");
+                })).isInstanceOf(IllegalArgumentException.class));
+            }
+        }
+    }
+    
+    @Test
+    void cancelledLoserIsNotCountedAsLimiterDrop() throws InterruptedException {
+        ProviderConcurrencyLimiter limiter = new ProviderConcurrencyLimiter(
+                new AILimiterProperties(true, 8, 1, 10, 0.5, 2.0, 1), meterRegistry);
+        HedgedRequestExecutor executor = executor(100.0);
+        warmUp(executor);
+        
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch loserFinished = new CountDownLatch(1);
+        String result = executor.execute("Stub", MODEL, () -> limiter.execute("Stub", () -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(5_000);
+                    return "primary";
+                } catch (InterruptedException e) {
+                    throw new AIServiceException("호출이 중단되었습니다", e, "Stub");
+                } finally {
+                    loserFinished.countDown();
+                }
+            }
+            return "hedge";
+        }, String::length));
+        
+        assertThat(result).isEqualTo("hedge");
+        assertThat(loserFinished.await(1, TimeUnit.SECONDS)).isTrue();
+        sleep(50);
+        assertThat(limiter.getLimiter("Stub").getLimit()).isEqualTo(8);
+        assertThat(limiter.getLimiter("Stub").getInFlight()).isZero();
+    }
+    
+    private HedgedRequestExecutor executor(double budgetPercent) {
+        return executor(budgetPercent, 8);
+    }
+    
+    private HedgedRequestExecutor executor(double budgetPercent, int maxThreads) {
+        AIHedgingProperties properties = new AIHedgingProperties(true, 95, 5, 32, 50, budgetPercent, 10, maxThreads);
+        HedgedRequestExecutor executor = new HedgedRequestExecutor(properties, meterRegistry);
+        executors.add(executor);
+        return executor;
+    }
+    
+    private static void warmUp(HedgedRequestExecutor executor) {
+        for (int i = 0; i < 5; i++) {
+            executor.execute("Stub", MODEL, () -> {
+                sleep(10);
+                return "warm-up";
+            });
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.service.impl;
+
+import com.anthropic.models.messages.MessageCreateParams;
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.genai.types.Content;
+import com.openai.models.chat.completions.ChatCompletionCreateParams;
+import com.openai.models.chat.completions.ChatCompletionMessageParam;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 세션 기록이 프로바이더별 요청에 역할을 바꿔 대화 순서대로 들어가고, 마지막에 새 프롬프트가 붙는지 확인합니다.
+ * 
+ * buildParams/buildContents 가 패키지 전용이므로 같은 패키지에 둡니다. SDK 클라이언트 없이 생성하므로 외부 호출은 없습니다.
+ */
+class ProviderHistoryParamsTests {
+    
+    private static final GenerateRequest REQUEST = GenerateRequest.builder()
+            .model("test-model")
+            .prompt("세 번째 질문")
+            .history(List.of(
+                    ConversationTurn.user("첫 번째 질문"),
+                    ConversationTurn.assistant("첫 번째 답변"),
+                    ConversationTurn.user("두 번째 질문"),
+                    ConversationTurn.assistant("두 번째 답변")))
+            .build();
+    
+    private final ModelCatalogService catalogService = new ModelCatalogService(new AICatalogProperties(null, false, 0),
+            new ObjectMapper(), new SimpleMeterRegistry());
+    private final TokenPricingService pricingService = new TokenPricingService(catalogService);
+    
+    @Test
+    void anthropicMapsHistoryToUserAndAssistantMessages() {
+        ClaudeAIService claude = new ClaudeAIService(null, pricingService, catalogService, null, null);
+        
+        MessageCreateParams params = claude.buildParams(REQUEST.getModel(), REQUEST);
+        
+        assertThat(params.messages())
+                .extracting(message -> message.role().asString(), message -> message.content().asString())
+                .containsExactly(
+                        tuple("user", "첫 번째 질문"),
+                        tuple("assistant", "첫 번째 답변"),
+                        tuple("user", "두 번째 질문"),
+                        tuple("assistant", "두 번째 답변"),
+                        tuple("user", "세 번째 질문"));
+    }
+    
+    @Test
+    void googleMapsAssistantTurnsToModelRole() {
+        GeminiAIService gemini = new GeminiAIService(null, pricingService, catalogService, null);
+        
+        List<Content> contents = gemini.buildContents(REQUEST);
+        
+        assertThat(contents)
+                .extracting(content -> content.role().orElseThrow(),
+                        content -> content.parts().orElseThrow().stream().map(part -> part.text().orElse("")).toList())
+                .containsExactly(
+                        tuple("user", List.of("첫 번째 질문")),
+                        tuple("model", List.of("첫 번째 답변")),
+                        tuple("user", List.of("두 번째 질문")),
+                        tuple("model", List.of("두 번째 답변")),
+                        tuple("user", List.of("세 번째 질문")));
+    }
+    
+    @Test
+    void openAIKeepsSystemMessageFirstAndMapsHistoryInOrder() {
+        OpenAIService openAI = new OpenAIService(null, pricingService, catalogService, null, null);
+        
+        ChatCompletionCreateParams params = openAI.buildParams(REQUEST.getModel(), REQUEST);
+        
+        assertThat(params.messages())
+                .extracting(ProviderHistoryParamsTests::role, ProviderHistoryParamsTests::text)
+                .containsExactly(
+                        tuple("system", openAI.getSystemInstruction()),
+                        tuple("user", "첫 번째 질문"),
+                        tuple("assistant", "첫 번째 답변"),
+                        tuple("user", "두 번째 질문"),
+                        tuple("assistant", "두 번째 답변"),
+                        tuple("user", "세 번째 질문"));
+    }
+    
+    private static String role(ChatCompletionMessageParam message) {
+        if (message.isSystem()) {
+            return "system";
+        }
+        return message.isUser() ? "user" : "assistant";
+    }
+    
+    private static String text(ChatCompletionMessageParam message) {
+        if (message.isSystem()) {
+            return message.asSystem().content().asText();
+        }
+        if (message.isUser()) {
+            return message.asUser().content().asText();
+        }
+        return message.asAssistant().content().orElseThrow().asText();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTests {
+    
+    private static final long NORMAL_LATENCY = TimeUnit.MILLISECONDS.toNanos(500);
+    
+    @Test
+    void rejectsRequestsBeyondCurrentLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 2.0);
+        
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        
+        limiter.release();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+    
+    @Test
+    void increasesLimitWhileLatencyIsStableAndLimitIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5, 2.0);
+        
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.onSample(NORMAL_LATENCY, false);
+        limiter.onSample(NORMAL_LATENCY, false);
+        
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+    
+    @Test
+    void backsOffWhenLatencyDegradesOrCallsFail() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 2.0);
+        
+        limiter.onSample(NORMAL_LATENCY, false);
+        limiter.onSample(NORMAL_LATENCY * 5, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        
+        limiter.onSample(NORMAL_LATENCY, true);
+        limiter.onSample(NORMAL_LATENCY, true);
+        limiter.onSample(NORMAL_LATENCY, true);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+    
+    @Test
+    void comparesCompletionSamplesPerOutputToken() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 2.0);
+        
+        limiter.onSample(NORMAL_LATENCY, 100, false);
+        limiter.onSample(NORMAL_LATENCY * 10, 1_000, false);
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        
+        limiter.onSample(NORMAL_LATENCY * 5, 100, false);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+    
+    @Test
+    void recoversTowardInitialLimitWhileUnderUtilized() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5, 2.0);
+        limiter.onSample(NORMAL_LATENCY, true);
+        limiter.onSample(NORMAL_LATENCY, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        
+        for (int i = 0; i < 6; i++) {
+            limiter.onSample(NORMAL_LATENCY, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.onSample(NORMAL_LATENCY, false);
+        limiter.onSample(NORMAL_LATENCY, false);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        
+        for (int i = 0; i < 5; i++) {
+            limiter.release();
+        }
+        limiter.onSample(NORMAL_LATENCY, false);
+        limiter.onSample(NORMAL_LATENCY, false);
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.service.limit;
+
+import com.example.demo.config.properties.AILimiterProperties;
+import com.example.demo.exception.AIServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProviderConcurrencyLimiterTests {
+    
+    private final ProviderConcurrencyLimiter limiter = new ProviderConcurrencyLimiter(
+            new AILimiterProperties(true, 8, 1, 10, 0.5, 2.0, 1), new SimpleMeterRegistry());
+    
+    @Test
+    void backsOffOnlyForTimeoutsAndRateLimits() {
+        fail(new AIServiceException("잘못된 요청", "Test", "INVALID_REQUEST"));
+        fail(new AIServiceException("응답 파싱 실패", "Test"));
+        assertThat(limiter.getLimiter("Test").getLimit()).isEqualTo(8);
+        
+        fail(new AIServiceException("요청 한도 초과 (429)", "Test", "RATE_LIMITED"));
+        assertThat(limiter.getLimiter("Test").getLimit()).isEqualTo(4);
+        
+        fail(new AIServiceException("호출 실패", new SocketTimeoutException("timeout"), "Test"));
+        assertThat(limiter.getLimiter("Test").getLimit()).isEqualTo(2);
+    }
+    
+    @Test
+    void ignoresFailuresOfInterruptedCalls() {
+        try {
+            Thread.currentThread().interrupt();
+            fail(new AIServiceException("호출 실패", new SocketTimeoutException("timeout"), "Test"));
+        } finally {
+            Thread.interrupted();
+        }
+        
+        assertThat(limiter.getLimiter("Test").getLimit()).isEqualTo(8);
+        assertThat(limiter.getLimiter("Test").getInFlight()).isZero();
+    }
+    
+    @Test
+    void releasesStreamSlotWhenCallFailsBeforeReturningFlux() {
+        AIServiceException error = new AIServiceException("모델 없음", "Test", "MODEL_NOT_SUPPORTED");
+        
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> limiter.executeStream("Test", () -> {
+                throw error;
+            }).blockLast()).isSameAs(error);
+        }
+        
+        assertThat(limiter.getLimiter("Test").getInFlight()).isZero();
+    }
+    
+    private void fail(RuntimeException error) {
+        assertThatThrownBy(() -> limiter.execute("Test", () -> {
+            throw error;
+        }, String::length)).isSameAs(error);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.service.metrics;
+
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.token.TokenEstimator;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationMetricsTests {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GenerationMetrics metrics = new GenerationMetrics(meterRegistry, new TokenEstimator());
+    
+    @Test
+    void recordsTimeToFirstTokenAndChunkGaps() {
+        Flux<String> chunks = Flux.interval(Duration.ofMillis(100), Duration.ofMillis(20))
+                .take(4)
+                .map(index -> "토큰" + index);
+        
+        metrics.recordStream("Stub", "stub-model", chunks).blockLast();
+        
+        Timer ttft = meterRegistry.get("ai.stream.ttft").tag("model", "stub-model").timer();
+        assertThat(ttft.count()).isEqualTo(1);
+        assertThat(ttft.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(90);
+        assertThat(meterRegistry.get("ai.stream.chunk.gap").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("ai.stream.duration").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.stream.tokens.per.second").summary().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void tagsCancelledAndFailedStreams() {
+        metrics.recordStream("Stub", "stub-model", Flux.concat(Flux.just("a"), Flux.never())).take(1).blockLast();
+        assertThatThrownBy(() -> metrics.recordStream("Stub", "stub-model", Flux.<String>error(new IllegalStateException("boom"))).blockLast())
+                .isInstanceOf(IllegalStateException.class);
+        
+        assertThat(meterRegistry.get("ai.stream.duration").tag("outcome", "cancelled").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.stream.duration").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void recordsGenerateOutcome() {
+        metrics.recordGenerate("Stub", "stub-model", () -> GenerateResponse.builder()
+                .generatedText("스프링 부트는 자동 설정을 제공합니다.")
+                .build());
+        assertThatThrownBy(() -> metrics.recordGenerate("Stub", "stub-model", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        
+        assertThat(meterRegistry.get("ai.generate.duration").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.generate.duration").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.generate.tokens.per.second").summary().count()).isEqualTo(1);
+    }
+}
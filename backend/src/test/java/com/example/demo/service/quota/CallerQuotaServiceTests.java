@@ -0,0 +1,168 @@
+package com.example.demo.service.quota;
+
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.config.properties.AIQuotaProperties;
+import com.example.demo.config.properties.AIUsageProperties;
+import com.example.demo.exception.QuotaExceededException;
+import com.example.demo.model.BatchItemResult;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.token.TokenEstimator;
+import com.example.demo.service.usage.UsageLedger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallerQuotaServiceTests {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenPricingService pricingService = new TokenPricingService(new ModelCatalogService(
+            new AICatalogProperties(null, false, 0), new ObjectMapper(), meterRegistry));
+    private final UsageLedger usageLedger = new UsageLedger(new AIUsageProperties(true, 10, 100, null),
+            pricingService, new TokenEstimator(), new ObjectMapper());
+    
+    @Test
+    void rejectsRequestsBeyondPerMinuteLimitPerCaller() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(2, 0, 0), Map.of());
+        
+        service.acquire(request("team-a", 10));
+        service.acquire(request("team-a", 10));
+        
+        assertThatThrownBy(() -> service.acquire(request("team-a", 10)))
+                .isInstanceOfSatisfying(QuotaExceededException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo("requests");
+                    assertThat(e.getRetryAfterSeconds()).isBetween(1L, 30L);
+                });
+        assertThat(service.acquire(request("team-b", 10)).tokens()).isPositive();
+        assertThat(meterRegistry.get("ai.quota.rejected").tag("reason", "requests").counter().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void reservesEstimatedTokensAndRefundsUnusedOnSettle() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(0, 1000, 0), Map.of());
+        
+        QuotaReservation reserved = service.acquire(request("team-a", 600));
+        assertThatThrownBy(() -> service.acquire(request("team-a", 600)))
+                .isInstanceOfSatisfying(QuotaExceededException.class, e -> assertThat(e.getReason()).isEqualTo("tokens"));
+        
+        service.settle(reserved, 100);
+        
+        assertThat(service.acquire(request("team-a", 600))).isEqualTo(reserved);
+        assertThat(service.getStatus()).singleElement()
+                .satisfies(status -> assertThat(status.rejected()).isEqualTo(1));
+    }
+    
+    @Test
+    void rejectsOnceDailyBudgetIsSpent() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(0, 0, 0),
+                Map.of("team-a", new AIQuotaProperties.Limits(0, 0, 0.01)));
+        
+        service.acquire(request("team-a", 100));
+        usageLedger.record("team-a", "Google", "gemini-2.5-flash", 1000, 0.01);
+        
+        assertThatThrownBy(() -> service.acquire(request("team-a", 100)))
+                .isInstanceOfSatisfying(QuotaExceededException.class, e -> {
+                    assertThat(e.getReason()).isEqualTo("budget");
+                    assertThat(e.getRetryAfterSeconds()).isBetween(1L, 86_400L);
+                });
+        assertThat(service.acquire(request("team-b", 100)).tokens()).isPositive();
+    }
+    
+    @Test
+    void reservesEstimatedCostOfInFlightRequestsAgainstDailyBudget() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(0, 0, 0),
+                Map.of("team-a", new AIQuotaProperties.Limits(0, 0, 0.01)));
+        
+        // gemini-2.5-flash 출력 2400 토큰의 최대 비용은 0.006 USD 이므로 두 요청이 동시에 진행되면 한도를 넘습니다
+        QuotaReservation inFlight = service.acquire(request("team-a", 2400));
+        assertThatThrownBy(() -> service.acquire(request("team-a", 2400)))
+                .isInstanceOfSatisfying(QuotaExceededException.class, e -> assertThat(e.getReason()).isEqualTo("budget"));
+        assertThat(service.getStatus()).singleElement()
+                .satisfies(status -> assertThat(status.reservedUsd()).isGreaterThan(0.005));
+        
+        service.settle(inFlight, 10);
+        
+        assertThat(service.acquire(request("team-a", 2400)).costMicros()).isPositive();
+    }
+    
+    @Test
+    void settlesOverflowCallersAgainstSharedQuota() {
+        CallerQuotaService service = new CallerQuotaService(new AIQuotaProperties(true, 1,
+                new AIQuotaProperties.Limits(0, 1000, 0), Map.of()), pricingService, usageLedger, new TokenEstimator(), meterRegistry);
+        service.acquire(request("team-a", 10));
+        
+        QuotaReservation overflow = service.acquire(request("team-b", 600));
+        assertThat(overflow.quotaKey()).isEqualTo(CallerQuotaService.OVERFLOW_CALLER);
+        assertThatThrownBy(() -> service.acquire(request("team-c", 600)))
+                .isInstanceOfSatisfying(QuotaExceededException.class, e -> assertThat(e.getCaller()).isEqualTo("other"));
+        
+        service.settle(overflow, 100);
+        
+        assertThat(service.acquire(request("team-c", 600)).quotaKey()).isEqualTo(CallerQuotaService.OVERFLOW_CALLER);
+    }
+    
+    @Test
+    void batchCountsEveryItem() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(3, 0, 0), Map.of());
+        
+        assertThat(service.acquire("team-a", List.of(request("team-a", 10), request("team-a", 10))).tokens()).isPositive();
+        
+        assertThatThrownBy(() -> service.acquire("team-a", List.of(request("team-a", 10), request("team-a", 10))))
+                .isInstanceOf(QuotaExceededException.class);
+        assertThat(service.acquire("team-a", List.of(request("team-a", 10))).tokens()).isPositive();
+    }
+    
+    @Test
+    void settlesStreamsFromEmittedOutputWhetherTheyCompleteOrFail() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(0, 1000, 0), Map.of());
+        
+        GenerateRequest completed = request("team-a", 600);
+        service.settleStream(completed, service.acquire(completed), Flux.just("짧은 ", "답변")).blockLast();
+        
+        GenerateRequest failed = request("team-a", 600);
+        Flux<String> failing = service.settleStream(failed, service.acquire(failed), Flux.error(new IllegalStateException("실패")));
+        assertThatThrownBy(failing::blockLast).isInstanceOf(IllegalStateException.class);
+        
+        assertThat(service.acquire(request("team-a", 600)).tokens()).isPositive();
+    }
+    
+    @Test
+    void settlesBatchPerItemAndRefundsItemsThatNeverFinished() {
+        CallerQuotaService service = service(new AIQuotaProperties.Limits(0, 1000, 0), Map.of());
+        List<GenerateRequest> batch = List.of(request("team-a", 400), request("team-a", 400));
+        
+        QuotaReservation first = service.acquire("team-a", batch);
+        Flux<Object> results = Flux.just(
+                BatchItemResult.builder().index(0).success(true).response(GenerateResponse.builder().tokensUsed(10).build()).build(),
+                BatchItemResult.builder().index(1).success(false).error("실패").build());
+        service.settleBatch(first, batch, results).blockLast();
+        
+        QuotaReservation cancelled = service.acquire("team-a", batch);
+        service.settleBatch(cancelled, batch, Flux.never()).subscribe().dispose();
+        
+        assertThat(service.acquire("team-a", batch).tokens()).isPositive();
+    }
+    
+    private CallerQuotaService service(AIQuotaProperties.Limits defaults, Map<String, AIQuotaProperties.Limits> callers) {
+        return new CallerQuotaService(new AIQuotaProperties(true, 100, defaults, callers), pricingService, usageLedger,
+                new TokenEstimator(), meterRegistry);
+    }
+    
+    private static GenerateRequest request(String caller, int maxTokens) {
+        return GenerateRequest.builder()
+                .prompt("안녕하세요")
+                .model("gemini-2.5-flash")
+                .maxTokens(maxTokens)
+                .caller(caller)
+                .build();
+    }
+}
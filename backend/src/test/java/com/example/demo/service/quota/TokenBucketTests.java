@@ -0,0 +1,57 @@
+package com.example.demo.service.quota;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+    
+    private static final long START = 1_000_000_000L;
+    
+    @Test
+    void allowsBurstUpToCapacityThenAsksToWait() {
+        TokenBucket bucket = new TokenBucket(60, START);
+        
+        for (int i = 0; i < 60; i++) {
+            assertThat(bucket.tryAcquire(1, START)).isZero();
+        }
+        long wait = bucket.tryAcquire(1, START);
+        
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.available(START)).isZero();
+    }
+    
+    @Test
+    void refillsOverTime() {
+        TokenBucket bucket = new TokenBucket(60, START);
+        bucket.tryAcquire(60, START);
+        
+        long later = START + TimeUnit.SECONDS.toNanos(10);
+        
+        assertThat(bucket.available(later)).isEqualTo(10);
+        assertThat(bucket.tryAcquire(10, later)).isZero();
+        assertThat(bucket.tryAcquire(1, later)).isPositive();
+    }
+    
+    @Test
+    void refundNeverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(100, START);
+        bucket.tryAcquire(80, START);
+        
+        bucket.refund(30, START);
+        assertThat(bucket.available(START)).isEqualTo(50);
+        
+        bucket.refund(500, START);
+        assertThat(bucket.available(START)).isEqualTo(100);
+    }
+    
+    @Test
+    void oversizedRequestPassesOnlyWhenFull() {
+        TokenBucket bucket = new TokenBucket(100, START);
+        
+        assertThat(bucket.tryAcquire(1000, START)).isZero();
+        assertThat(bucket.tryAcquire(1000, START)).isPositive();
+    }
+}
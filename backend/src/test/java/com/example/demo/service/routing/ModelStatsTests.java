@@ -0,0 +1,43 @@
+package com.example.demo.service.routing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ModelStatsTests {
+    
+    @Test
+    void firstSampleSeedsAverages() {
+        ModelStats stats = new ModelStats(0.2);
+        
+        stats.record(400, true);
+        
+        assertThat(stats.getLatencyMs()).isEqualTo(400.0);
+        assertThat(stats.getErrorRate()).isZero();
+    }
+    
+    @Test
+    void movesTowardsRecentSamples() {
+        ModelStats stats = new ModelStats(0.5);
+        
+        stats.record(400, true);
+        stats.record(200, true);
+        stats.record(1000, false);
+        
+        assertThat(stats.getLatencyMs()).isEqualTo(300.0);
+        assertThat(stats.getErrorRate()).isCloseTo(0.5, within(1e-9));
+    }
+    
+    @Test
+    void errorsOutweighLatencyInScore() {
+        ModelStats fastButFailing = new ModelStats(0.5);
+        fastButFailing.record(100, true);
+        fastButFailing.record(100, false);
+        
+        ModelStats slowButHealthy = new ModelStats(0.5);
+        slowButHealthy.record(500, true);
+        
+        assertThat(fastButFailing.score(10.0)).isGreaterThan(slowButHealthy.score(10.0));
+    }
+}
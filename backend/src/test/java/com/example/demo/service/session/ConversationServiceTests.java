@@ -0,0 +1,62 @@
+package com.example.demo.service.session;
+
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.GenerateResponse;
+import com.example.demo.service.impl.StubAIService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로바이더가 본문 없이 응답하면(안전 필터 차단 등) 그 차례를 세션에 저장하지 않는지 확인합니다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "ai.model.validation.enabled=false",
+                "ai.cache.enabled=false",
+                "ai.coalescing.enabled=false",
+                "ai.stub.enabled=true",
+                "ai.stub.ttft-median-ms=0",
+                "ai.stub.ttft-sigma=0",
+                "ai.stub.tokens-per-second=1000",
+                "ai.stub.output-tokens=3"
+        })
+class ConversationServiceTests {
+    
+    @Autowired
+    private ConversationService conversationService;
+    
+    @Autowired
+    private ConversationStore conversationStore;
+    
+    @Test
+    void skipsStoringEmptyReplies() {
+        String sessionId = conversationStore.create().id();
+        
+        GenerateResponse empty = conversationService.send(sessionId, request("차단될 질문 " + StubAIService.EMPTY_MARKER));
+        assertThat(empty.getGeneratedText()).isNull();
+        conversationService.sendStream(sessionId, request("차단될 스트리밍 질문 " + StubAIService.EMPTY_MARKER))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertThat(conversationStore.history(sessionId)).isEmpty();
+        
+        GenerateResponse answered = conversationService.send(sessionId, request("다음 질문"));
+        
+        assertThat(conversationStore.history(sessionId))
+                .extracting(ConversationTurn::getText)
+                .containsExactly("다음 질문", answered.getGeneratedText());
+    }
+    
+    private static GenerateRequest request(String prompt) {
+        return GenerateRequest.builder()
+                .model(StubAIService.MODEL_ID)
+                .prompt(prompt)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.service.session;
+
+import com.example.demo.config.properties.AISessionProperties;
+import com.example.demo.exception.SessionNotFoundException;
+import com.example.demo.model.ConversationTurn;
+import com.example.demo.service.token.TokenEstimator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ConversationStoreTests {
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    
+    @TempDir
+    private Path spillDirectory;
+    
+    @Test
+    void storesTurnsCompactlyAndTrimsOldestExchangesToTokenBudget() {
+        ConversationStore store = store(0, 40, null);
+        String sessionId = store.create().id();
+        
+        store.append(sessionId, "first question", "first answer");
+        store.append(sessionId, "두 번째 질문입니다", "두 번째 답변입니다");
+        assertThat(store.history(sessionId))
+                .extracting(ConversationTurn::getRole, ConversationTurn::getText)
+                .containsExactly(
+                        tuple(ConversationTurn.Role.USER, "first question"),
+                        tuple(ConversationTurn.Role.ASSISTANT, "first answer"),
+                        tuple(ConversationTurn.Role.USER, "두 번째 질문입니다"),
+                        tuple(ConversationTurn.Role.ASSISTANT, "두 번째 답변입니다"));
+        // 영문은 Latin-1 로 글자당 1바이트, 한글 위주 본문은 UTF-16 으로 글자당 2바이트이고 차례마다 헤더 3바이트가 붙습니다
+        assertThat(store.get(sessionId).memoryBytes())
+                .isEqualTo(ConversationStore.SESSION_OVERHEAD_BYTES + (3 + 14) + (3 + 12) + (3 + 20) + (3 + 20));
+        
+        store.append(sessionId, "a".repeat(60), "b".repeat(60));
+        
+        List<ConversationTurn> history = store.history(sessionId);
+        assertThat(history).hasSize(2);
+        assertThat(history.get(0).getRole()).isEqualTo(ConversationTurn.Role.USER);
+        assertThat(history.get(1).getText()).isEqualTo("b".repeat(60));
+        assertThat(store.get(sessionId).tokens()).isLessThanOrEqualTo(40);
+        assertThat(store.getMemoryBytes()).isEqualTo(store.get(sessionId).memoryBytes());
+    }
+    
+    @Test
+    void spillsLeastRecentlyUsedSessionWhenOverMemoryAndReloadsOnAccess() {
+        ConversationStore store = store(3 * ConversationStore.SESSION_OVERHEAD_BYTES, 4_000, spillDirectory);
+        String first = store.create().id();
+        String second = store.create().id();
+        String third = store.create().id();
+        
+        store.append(first, "긴 대화를 시작합니다", "x".repeat(200));
+        
+        assertThat(store.list()).extracting(SessionSummary::id).containsExactly(third, first);
+        assertThat(spillDirectory.resolve(second + ConversationStore.EXTENSION)).exists();
+        assertThat(store.getSpilledCount()).isEqualTo(1);
+        assertThat(store.getMemoryBytes()).isLessThanOrEqualTo(3 * ConversationStore.SESSION_OVERHEAD_BYTES);
+        
+        store.append(second, "다시 왔습니다", "반갑습니다");
+        
+        assertThat(store.history(second)).extracting(ConversationTurn::getText).containsExactly("다시 왔습니다", "반갑습니다");
+        assertThat(spillDirectory.resolve(second + ConversationStore.EXTENSION)).doesNotExist();
+        assertThat(store.list()).extracting(SessionSummary::id).contains(second);
+        assertThat(meterRegistry.get("ai.sessions.spill").tag("operation", "read").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.sessions.evictions").tag("cause", "memory").counter().count()).isGreaterThanOrEqualTo(2.0);
+        assertThat(meterRegistry.get("ai.sessions.memory").gauge().value()).isEqualTo(store.getMemoryBytes());
+    }
+    
+    @Test
+    void deletesIdleSessionsFromMemoryAndSpillDirectory() {
+        ConversationStore store = store(0, 4_000, spillDirectory);
+        String idle = store.create().id();
+        clock.advance(Duration.ofMinutes(20));
+        String active = store.create().id();
+        clock.advance(Duration.ofMinutes(15));
+        
+        store.evictIdle();
+        
+        assertThat(store.list()).extracting(SessionSummary::id).containsExactly(active);
+        assertThatThrownBy(() -> store.get(idle)).isInstanceOf(SessionNotFoundException.class);
+        assertThat(meterRegistry.get("ai.sessions.evictions").tag("cause", "idle").counter().count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void rejectsUnknownAndMalformedSessionIds() {
+        ConversationStore store = store(0, 4_000, spillDirectory);
+        String sessionId = store.create().id();
+        store.delete(sessionId);
+        
+        assertThatThrownBy(() -> store.history(sessionId)).isInstanceOf(SessionNotFoundException.class);
+        assertThatThrownBy(() -> store.delete(sessionId)).isInstanceOf(SessionNotFoundException.class);
+        assertThatThrownBy(() -> store.get("../" + sessionId)).isInstanceOf(SessionNotFoundException.class);
+        assertThat(store.getMemoryBytes()).isZero();
+    }
+    
+    private ConversationStore store(long maxMemoryBytes, int historyTokenBudget, Path spillPath) {
+        AISessionProperties properties = new AISessionProperties(maxMemoryBytes, 30, historyTokenBudget,
+                spillPath != null ? spillPath.toString() : "");
+        return new ConversationStore(properties, new TokenEstimator(), meterRegistry, clock);
+    }
+    
+    private static final class MutableClock extends Clock {
+        
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.service.stream;
+
+import com.example.demo.service.token.TokenEstimator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderStreamExecutorTests {
+    
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(4, 16, "stream-test");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProviderStreamExecutor executor =
+            new ProviderStreamExecutor(scheduler, new StreamMetrics(meterRegistry), new TokenEstimator());
+    
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+    
+    @Test
+    void closesResourceWhenStreamCompletes() {
+        AtomicBoolean closed = new AtomicBoolean();
+        
+        Flux<String> stream = executor.execute("Stub", "stub-model", 100,
+                () -> (AutoCloseable) () -> closed.set(true),
+                resource -> Stream.of("a", "b", "c"));
+        
+        assertThat(stream.collectList().block(Duration.ofSeconds(5))).containsExactly("a", "b", "c");
+        assertThat(closed).isTrue();
+    }
+    
+    @Test
+    void cancellationClosesBlockedProviderStream() throws InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        
+        Flux<String> stream = executor.execute("Stub", "stub-model", 100,
+                () -> (AutoCloseable) closed::countDown,
+                resource -> Stream.of("12345678", "never").peek(chunk -> {
+                    if (chunk.equals("never")) {
+                        awaitQuietly(closed);
+                        throw new IllegalStateException("stream closed");
+                    }
+                }));
+        
+        assertThat(stream.take(1).blockLast(Duration.ofSeconds(5))).isEqualTo("12345678");
+        
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("ai.stream.cancellations").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.stream.cancelled.tokens.saved").summary().totalAmount()).isEqualTo(97.0);
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.service.token;
+
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.config.properties.AIModelProperties;
+import com.example.demo.config.properties.AITokenProperties;
+import com.example.demo.exception.ContextWindowExceededException;
+import com.example.demo.model.GenerateRequest;
+import com.example.demo.model.TokenCountResponse;
+import com.example.demo.service.AIService;
+import com.example.demo.service.AIServiceFactory;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.impl.GeminiAIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PromptPreflightTests {
+    
+    @TempDir
+    Path directory;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ModelCatalogService catalogService;
+    private AIService gemini;
+    private AIServiceFactory serviceFactory;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(directory.resolve("catalog.yml"), """
+                models:
+                  - id: gemini-small
+                    provider: Google
+                    context-window: 200
+                    input-price: 1.0
+                    output-price: 4.0
+                  - id: gemini-unbounded
+                    provider: Google
+                """);
+        catalogService = new ModelCatalogService(new AICatalogProperties(file.toString(), false, 0), objectMapper, meterRegistry);
+        catalogService.start();
+        
+        TokenPricingService pricingService = new TokenPricingService(catalogService);
+        gemini = new GeminiAIService(null, pricingService, catalogService, null);
+        serviceFactory = new AIServiceFactory(List.of(gemini),
+                new AIModelProperties(new AIModelProperties.Validation(false, false, 0, false), new AIModelProperties.Logging(false)),
+                objectMapper, catalogService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        catalogService.stop();
+    }
+    
+    @Test
+    void rejectsPromptsBeyondContextWindow() {
+        PromptPreflight preflight = preflight(true);
+        
+        assertThatCode(() -> preflight.check(gemini, request("gemini-small", "짧은 질문", 100))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> preflight.check(gemini, request("gemini-small", "긴 질문 ".repeat(100), 100)))
+                .isInstanceOfSatisfying(ContextWindowExceededException.class, e -> {
+                    assertThat(e.getContextWindow()).isEqualTo(200);
+                    assertThat(e.getRequiredTokens()).isGreaterThan(200);
+                    assertThat(e.getErrorCode()).isEqualTo("CONTEXT_WINDOW_EXCEEDED");
+                });
+        assertThat(meterRegistry.get("ai.tokens.preflight.rejected").tag("provider", "Google").counter().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void skipsModelsWithoutContextWindowOrWhenDisabled() {
+        GenerateRequest oversized = request("gemini-small", "긴 질문 ".repeat(100), 100);
+        
+        assertThatCode(() -> preflight(false).check(gemini, oversized)).doesNotThrowAnyException();
+        assertThatCode(() -> preflight(true).check(gemini, request("gemini-unbounded", "긴 질문 ".repeat(100), 100)))
+                .doesNotThrowAnyException();
+    }
+    
+    @Test
+    void countsTokensAndEstimatesCostWithoutCallingProvider() {
+        TokenCountResponse response = preflight(true).count(request("gemini-small", "안녕하세요", 50));
+        
+        assertThat(response.getProvider()).isEqualTo("Google");
+        assertThat(response.getTokenizer()).isEqualTo("Google");
+        assertThat(response.getPromptTokens()).isPositive();
+        assertThat(response.getTotalTokens()).isEqualTo(response.getPromptTokens() + 50);
+        assertThat(response.getContextWindow()).isEqualTo(200);
+        assertThat(response.getFitsContextWindow()).isTrue();
+        assertThat(response.getEstimatedInputCostUsd()).isCloseTo(response.getPromptTokens() * 0.000001, within(1e-12));
+        assertThat(response.getEstimatedMaxCostUsd()).isGreaterThan(response.getEstimatedInputCostUsd());
+    }
+    
+    private PromptPreflight preflight(boolean enabled) {
+        return new PromptPreflight(new AITokenProperties(enabled), new TokenEstimator(),
+                new TokenPricingService(catalogService), serviceFactory, meterRegistry);
+    }
+    
+    private static GenerateRequest request(String model, String prompt, int maxTokens) {
+        return GenerateRequest.builder()
+                .model(model)
+                .prompt(prompt)
+                .maxTokens(maxTokens)
+                .build();
+    }
+}
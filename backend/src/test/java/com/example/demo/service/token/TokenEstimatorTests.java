@@ -0,0 +1,49 @@
+package com.example.demo.service.token;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTests {
+    
+    private final TokenEstimator estimator = new TokenEstimator();
+    
+    @Test
+    void countsLatinTextByCharactersPerToken() {
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, "")).isZero();
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, (String) null)).isZero();
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, "internationalization")).isEqualTo(5);
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, "a b c d")).isEqualTo(4);
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, "Hello, world!")).isEqualTo(5);
+    }
+    
+    @Test
+    void weighsHangulPerProviderFamily() {
+        String prompt = "안녕하세요 반갑습니다";
+        
+        assertThat(estimator.estimate(TokenizerProfile.GOOGLE, prompt)).isEqualTo(7);
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, prompt)).isEqualTo(9);
+        assertThat(estimator.estimate(TokenizerProfile.ANTHROPIC, prompt)).isEqualTo(12);
+        assertThat(estimator.estimate("Anthropic", prompt)).isEqualTo(estimator.estimate(TokenizerProfile.ANTHROPIC, prompt));
+        assertThat(estimator.estimate("Unknown", prompt)).isEqualTo(estimator.estimate(TokenizerProfile.DEFAULT, prompt));
+    }
+    
+    @Test
+    void growsLinearlyWithPromptLength() {
+        String sentence = "Spring Boot의 장점을 세 가지로 요약해주세요. ";
+        int one = estimator.estimate(TokenizerProfile.OPENAI, sentence);
+        
+        assertThat(estimator.estimate(TokenizerProfile.OPENAI, sentence.repeat(100))).isBetween(one * 90, one * 100);
+    }
+    
+    @Test
+    void tallyAcrossChunksMatchesWholeText() {
+        String reply = "Spring Boot 는 자동 구성으로 설정을 줄여줍니다. internationalization 도 지원합니다.";
+        TokenTally tally = estimator.tally("Anthropic");
+        for (int i = 0; i < reply.length(); i += 3) {
+            tally.add(reply.substring(i, Math.min(reply.length(), i + 3)));
+        }
+        
+        assertThat(tally.tokens()).isEqualTo(estimator.estimate(TokenizerProfile.ANTHROPIC, reply));
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.service.transport;
+
+import com.anthropic.client.AnthropicClient;
+import com.anthropic.core.http.StreamResponse;
+import com.anthropic.errors.AnthropicIoException;
+import com.anthropic.models.messages.Message;
+import com.anthropic.models.messages.MessageCreateParams;
+import com.anthropic.models.messages.Model;
+import com.anthropic.models.messages.RawMessageStreamEvent;
+import com.example.demo.config.AnthropicConfig;
+import com.example.demo.config.properties.AIClaudeProperties;
+import com.example.demo.config.properties.ProviderTransportProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ProviderConnectionPoolsTests {
+    
+    private static final String MESSAGE = """
+            {"id":"msg_1","type":"message","role":"assistant","model":"claude-3-haiku-20240307",
+             "content":[{"type":"text","text":"안녕하세요"}],"stop_reason":"end_turn","stop_sequence":null,
+             "usage":{"input_tokens":3,"output_tokens":2}}""";
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProviderConnectionPools connectionPools = new ProviderConnectionPools(meterRegistry);
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    
+    private HttpServer server;
+    private String baseUrl;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        connectionPools.close();
+        server.stop(0);
+    }
+    
+    @Test
+    void anthropicCallsReusePooledConnection() {
+        AnthropicClient client = anthropicClient(transport(0, 60_000));
+        
+        Message first = client.messages().create(params());
+        Message second = client.messages().create(params());
+        
+        assertThat(first.content().get(0).asText().text()).isEqualTo("안녕하세요");
+        assertThat(second.usage().outputTokens()).isEqualTo(2);
+        assertThat(requests).containsExactly("POST /v1/messages key=test-key", "POST /v1/messages key=test-key");
+        assertThat(acquired("false")).isEqualTo(1);
+        assertThat(acquired("true")).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.http.pool.connections").tags("provider", "Anthropic", "state", "idle").gauge().value())
+                .isEqualTo(1);
+    }
+    
+    @Test
+    void streamFailsWhenChunksStopArriving() {
+        AnthropicClient client = anthropicClient(transport(0, 300));
+        long startTime = System.nanoTime();
+        
+        assertThatThrownBy(() -> {
+            try (StreamResponse<RawMessageStreamEvent> stream = client.messages().createStreaming(
+                    params(), AnthropicConfig.streamRequestOptions(transport(0, 300)))) {
+                stream.stream().forEach(event -> {
+                });
+            }
+        }).isInstanceOf(AnthropicIoException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).isLessThan(3_000);
+    }
+    
+    @Test
+    void prewarmOpensConnectionsBeforeFirstCall() {
+        connectionPools.create("Anthropic", baseUrl, transport(2, 60_000));
+        
+        connectionPools.prewarm();
+        
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> connectionPools.getConnectionPool("Anthropic").idleConnectionCount() == 2);
+        assertThat(requests).containsExactly("HEAD / key=null", "HEAD / key=null");
+        assertThat(acquired("false")).isEqualTo(2);
+    }
+    
+    private AnthropicClient anthropicClient(ProviderTransportProperties transport) {
+        return new AnthropicConfig().anthropicClient(
+                new AIClaudeProperties("test-key", baseUrl, 5_000, 0, transport), connectionPools);
+    }
+    
+    private static ProviderTransportProperties transport(int prewarmConnections, long streamIdleTimeoutMs) {
+        return new ProviderTransportProperties(5, 60_000, false, 1_000, 5_000, streamIdleTimeoutMs, prewarmConnections);
+    }
+    
+    private static MessageCreateParams params() {
+        return MessageCreateParams.builder()
+                .model(Model.of("claude-3-haiku-20240307"))
+                .maxTokens(16)
+                .addUserMessage("안녕")
+                .build();
+    }
+    
+    private double acquired(String reused) {
+        return meterRegistry.get("ai.http.connections.acquired").tags("provider", "Anthropic", "reused", reused).counter().count();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath()
+                + " key=" + exchange.getRequestHeaders().getFirst("x-api-key"));
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        if (!body.contains("\"stream\":true")) {
+            byte[] response = MESSAGE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+            return;
+        }
+        
+        // 첫 이벤트만 보내고 멈춰 청크 사이 간격 제한을 확인합니다
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        out.write("event: ping\ndata: {\"type\":\"ping\"}\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        try {
+            Thread.sleep(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.close();
+    }
+}
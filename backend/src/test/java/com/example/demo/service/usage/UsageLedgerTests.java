@@ -0,0 +1,133 @@
+package com.example.demo.service.usage;
+
+import com.example.demo.config.properties.AICatalogProperties;
+import com.example.demo.config.properties.AIUsageProperties;
+import com.example.demo.service.TokenPricingService;
+import com.example.demo.service.catalog.ModelCatalogService;
+import com.example.demo.service.token.TokenEstimator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UsageLedgerTests {
+    
+    @TempDir
+    Path directory;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void accumulatesPerCallerAndModelInMicroDollars() {
+        UsageLedger ledger = ledger(10, null);
+        
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 100, 0.0001);
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 50, 0.00005);
+        ledger.record("team-b", "Anthropic", null, 10, 0.000001);
+        
+        UsageReport totals = ledger.totals();
+        
+        assertThat(totals.requests()).isEqualTo(3);
+        assertThat(totals.tokens()).isEqualTo(160);
+        assertThat(totals.costMicros()).isEqualTo(151);
+        assertThat(totals.entries()).extracting(UsageReport.Entry::caller, UsageReport.Entry::model, UsageReport.Entry::costMicros)
+                .containsExactly(
+                        tuple("team-a", "gemini-2.5-flash", 150L),
+                        tuple("team-b", "Anthropic", 1L));
+    }
+    
+    @Test
+    void rollsUpIncreasesIntoMinuteBucketsAndAppendsToFile() throws Exception {
+        Path file = directory.resolve("usage.ndjson");
+        UsageLedger ledger = ledger(10, file);
+        Instant minute = Instant.parse("2026-01-01T00:00:00Z");
+        
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 100, 0.001);
+        UsageBucket first = ledger.rollup(minute);
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 40, 0.0004);
+        UsageBucket second = ledger.rollup(minute.plus(1, ChronoUnit.MINUTES));
+        
+        assertThat(first.usage().values()).containsExactly(new UsageTotals(1, 100, 1000));
+        assertThat(second.usage().values()).containsExactly(new UsageTotals(1, 40, 400));
+        assertThat(ledger.rollup(minute.plus(2, ChronoUnit.MINUTES))).isNull();
+        assertThat(ledger.getBuckets()).containsExactly(first, second);
+        
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(1)).get("costMicros").asLong()).isEqualTo(400);
+        assertThat(objectMapper.readTree(lines.get(1)).get("minute").asText()).isEqualTo("2026-01-01T00:01:00Z");
+    }
+    
+    @Test
+    void windowIncludesRecentBucketsAndPendingUsage() {
+        UsageLedger ledger = ledger(3, null);
+        Instant now = Instant.parse("2026-01-01T00:10:30Z");
+        
+        for (int i = 5; i >= 1; i--) {
+            ledger.record("team-a", "Google", "gemini-2.5-flash", 10, 0.0);
+            ledger.rollup(now.truncatedTo(ChronoUnit.MINUTES).minus(i, ChronoUnit.MINUTES));
+        }
+        ledger.record("team-a", "Google", "gemini-2.5-flash", 10, 0.0);
+        
+        assertThat(ledger.getBuckets()).hasSize(3);
+        assertThat(ledger.window(1, now).requests()).isEqualTo(2);
+        assertThat(ledger.window(60, now).requests()).isEqualTo(4);
+    }
+    
+    @Test
+    void estimatesStreamingUsage() {
+        UsageLedger ledger = ledger(10, null);
+        
+        ledger.recordStream("team-a", "Google", "gemini-2.5-flash", "12345678", Flux.just("abcd", "efgh", "ij"))
+                .blockLast();
+        
+        UsageReport totals = ledger.totals();
+        assertThat(totals.requests()).isEqualTo(1);
+        assertThat(totals.tokens()).isEqualTo(2 + 3);
+        assertThat(totals.costMicros()).isEqualTo(8);
+    }
+    
+    @Test
+    void estimatesKoreanStreamingUsageWithProviderTokenizer() {
+        UsageLedger ledger = ledger(10, null);
+        
+        ledger.recordStream("team-a", "Anthropic", "claude-haiku-4-5-20251001", "안녕하세요", Flux.just("반갑", "습니다"))
+                .blockLast();
+        
+        // Anthropic 은 한글 한 글자당 1.2 토큰: 입력 5자 → 6, 출력 5자 → 6
+        assertThat(ledger.totals().tokens()).isEqualTo(6 + 6);
+    }
+    
+    @Test
+    void foldsCallersBeyondLimitIntoOverflow() {
+        UsageLedger ledger = new UsageLedger(new AIUsageProperties(true, 10, 2, null), pricingService(), new TokenEstimator(), objectMapper);
+        
+        ledger.record("a", "Google", "gemini-2.5-flash", 1, 0.0);
+        ledger.record("b", "Google", "gemini-2.5-flash", 1, 0.0);
+        ledger.record("c", "Google", "gemini-2.5-flash", 1, 0.0);
+        ledger.record("d", "Google", "gemini-2.5-flash", 1, 0.0);
+        
+        assertThat(ledger.totals().entries()).extracting(UsageReport.Entry::caller)
+                .containsExactlyInAnyOrder("a", "b", UsageLedger.OVERFLOW_CALLER);
+    }
+    
+    private UsageLedger ledger(int retentionMinutes, Path flushPath) {
+        return new UsageLedger(new AIUsageProperties(true, retentionMinutes, 100, flushPath != null ? flushPath.toString() : null),
+                pricingService(), new TokenEstimator(), objectMapper);
+    }
+    
+    private static TokenPricingService pricingService() {
+        return new TokenPricingService(new ModelCatalogService(new AICatalogProperties(null, false, 0),
+                new ObjectMapper(), new SimpleMeterRegistry()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * 동시 요청 수를 제한하며 HTTP 요청을 보내고 LoadReport 로 집계합니다.
+ * 
+ * 응답 본문의 첫 바이트 시각을 함께 기록하므로 스트리밍 요청의 TTFT 도 측정할 수 있습니다.
+ */
+public class LoadGenerator {
+    
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    
+    public LoadReport run(int requests, int concurrency, IntFunction<HttpRequest> requestFactory) {
+        LoadReport report = new LoadReport();
+        Semaphore permits = new Semaphore(concurrency);
+        long startTime = System.nanoTime();
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                permits.acquireUninterruptibly();
+                HttpRequest request = requestFactory.apply(i);
+                executor.execute(() -> {
+                    try {
+                        send(request, report);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        
+        report.finish(System.nanoTime() - startTime);
+        return report;
+    }
+    
+    private void send(HttpRequest request, LoadReport report) {
+        long startTime = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                int first = body.read();
+                long firstByteNanos = System.nanoTime() - startTime;
+                long bytes = first < 0 ? 0 : 1 + body.transferTo(OutputStream.nullOutputStream());
+                report.record(response.statusCode(), firstByteNanos, System.nanoTime() - startTime,
+                        response.statusCode() == 200 && bytes > 0);
+            }
+        } catch (IOException e) {
+            report.record(-1, 0, System.nanoTime() - startTime, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.record(-1, 0, System.nanoTime() - startTime, false);
+        }
+    }
+}
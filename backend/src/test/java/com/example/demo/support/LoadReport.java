@@ -0,0 +1,77 @@
+package com.example.demo.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 집계. 처리량, 지연 시간/첫 바이트 시간 백분위수, 오류율을 계산합니다.
+ */
+public class LoadReport {
+    
+    private final List<Long> latencies = new ArrayList<>();
+    private final List<Long> firstByteLatencies = new ArrayList<>();
+    private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+    private int errors;
+    private long elapsedNanos;
+    
+    synchronized void record(int status, long firstByteNanos, long latencyNanos, boolean success) {
+        statusCounts.merge(status, 1, Integer::sum);
+        if (success) {
+            latencies.add(latencyNanos);
+            firstByteLatencies.add(firstByteNanos);
+        } else {
+            errors++;
+        }
+    }
+    
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        Collections.sort(latencies);
+        Collections.sort(firstByteLatencies);
+    }
+    
+    public int total() {
+        return latencies.size() + errors;
+    }
+    
+    public double errorRate() {
+        return total() == 0 ? 0.0 : (double) errors / total();
+    }
+    
+    public double throughput() {
+        return total() / (elapsedNanos / 1_000_000_000.0);
+    }
+    
+    public long latencyMillis(double percentile) {
+        return percentile(latencies, percentile);
+    }
+    
+    public long firstByteMillis(double percentile) {
+        return percentile(firstByteLatencies, percentile);
+    }
+    
+    public Map<Integer, Integer> statusCounts() {
+        return statusCounts;
+    }
+    
+    public String summary(String name) {
+        return String.format("[%s] requests=%d, throughput=%.1f req/s, p50=%dms, p95=%dms, p99=%dms, "
+                        + "firstByte p50=%dms, p95=%dms, errorRate=%.2f%%, statuses=%s",
+                name, total(), throughput(),
+                latencyMillis(0.50), latencyMillis(0.95), latencyMillis(0.99),
+                firstByteMillis(0.50), firstByteMillis(0.95),
+                errorRate() * 100, statusCounts);
+    }
+    
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+    }
+}